@@ -1,49 +0,0 @@
-package com.shop.shop.infrastructure.persistence.product;
-
-import static com.querydsl.core.types.PathMetadataFactory.*;
-
-import com.querydsl.core.types.dsl.*;
-
-import com.querydsl.core.types.PathMetadata;
-import javax.annotation.processing.Generated;
-import com.querydsl.core.types.Path;
-
-
-/**
- * QProduct is a Querydsl query type for Product
- */
-@Generated("com.querydsl.codegen.DefaultEntitySerializer")
-public class QProduct extends EntityPathBase<Product> {
-
-    private static final long serialVersionUID = -1311110909L;
-
-    public static final QProduct product = new QProduct("product");
-
-    public final StringPath category = createString("category");
-
-    public final StringPath description = createString("description");
-
-    public final NumberPath<Long> id = createNumber("id", Long.class);
-
-    public final StringPath name = createString("name");
-
-    public final NumberPath<Long> price = createNumber("price", Long.class);
-
-    public final StringPath shipping = createString("shipping");
-
-    public final NumberPath<Long> stockQuantity = createNumber("stockQuantity", Long.class);
-
-    public QProduct(String variable) {
-        super(Product.class, forVariable(variable));
-    }
-
-    public QProduct(Path<? extends Product> path) {
-        super(path.getType(), path.getMetadata());
-    }
-
-    public QProduct(PathMetadata metadata) {
-        super(Product.class, metadata);
-    }
-
-}
-
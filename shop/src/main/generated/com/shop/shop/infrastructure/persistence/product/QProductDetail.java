@@ -1,55 +0,0 @@
-package com.shop.shop.infrastructure.persistence.product;
-
-import static com.querydsl.core.types.PathMetadataFactory.*;
-
-import com.querydsl.core.types.dsl.*;
-
-import com.querydsl.core.types.PathMetadata;
-import javax.annotation.processing.Generated;
-import com.querydsl.core.types.Path;
-import com.querydsl.core.types.dsl.PathInits;
-
-
-/**
- * QProductDetail is a Querydsl query type for ProductDetail
- */
-@Generated("com.querydsl.codegen.DefaultEntitySerializer")
-public class QProductDetail extends EntityPathBase<ProductDetail> {
-
-    private static final long serialVersionUID = -1762590924L;
-
-    private static final PathInits INITS = PathInits.DIRECT2;
-
-    public static final QProductDetail productDetail = new QProductDetail("productDetail");
-
-    public final NumberPath<Long> pk = createNumber("pk", Long.class);
-
-    public final QProduct product;
-
-    public final DateTimePath<java.time.LocalDateTime> registeredDate = createDateTime("registeredDate", java.time.LocalDateTime.class);
-
-    public final NumberPath<Long> viewCount = createNumber("viewCount", Long.class);
-
-    public QProductDetail(String variable) {
-        this(ProductDetail.class, forVariable(variable), INITS);
-    }
-
-    public QProductDetail(Path<? extends ProductDetail> path) {
-        this(path.getType(), path.getMetadata(), PathInits.getFor(path.getMetadata(), INITS));
-    }
-
-    public QProductDetail(PathMetadata metadata) {
-        this(metadata, PathInits.getFor(metadata, INITS));
-    }
-
-    public QProductDetail(PathMetadata metadata, PathInits inits) {
-        this(ProductDetail.class, metadata, inits);
-    }
-
-    public QProductDetail(Class<? extends ProductDetail> type, PathMetadata metadata, PathInits inits) {
-        super(type, metadata, inits);
-        this.product = inits.isInitialized("product") ? new QProduct(forProperty("product")) : null;
-    }
-
-}
-
@@ -4,12 +4,15 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableCaching
 @EnableAspectJAutoProxy
 @EnableScheduling
+// @Async 이벤트 리스너가 인터페이스에 없는 메서드라 클래스 기반 프록시 사용
+@EnableAsync(proxyTargetClass = true)
 public class ShopApplication {
 
 	public static void main(String[] args) {
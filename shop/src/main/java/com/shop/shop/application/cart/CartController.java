@@ -4,6 +4,7 @@ import com.shop.shop.application.cart.dto.CartRequestDto;
 import com.shop.shop.application.cart.dto.CartResponseDto;
 import com.shop.shop.domain.cart.CartService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -12,6 +13,7 @@ import java.util.List;
 
 @RestController
 @RequestMapping("/cart")
+@Profile("!reactive-cart")
 @RequiredArgsConstructor
 public class CartController {
 
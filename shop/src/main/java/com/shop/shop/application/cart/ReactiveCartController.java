@@ -0,0 +1,53 @@
+package com.shop.shop.application.cart;
+
+import com.shop.shop.application.cart.dto.CartRequestDto;
+import com.shop.shop.application.cart.dto.CartResponseDto;
+import com.shop.shop.domain.cart.ReactiveCartService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+// CartController 와 같은 API ('reactive-cart' 프로필)
+// Mono 반환은 비동기 요청으로 처리되어 Redis 응답을 기다리는 동안 요청 스레드를 반환
+@RestController
+@RequestMapping("/cart")
+@Profile("reactive-cart")
+@RequiredArgsConstructor
+public class ReactiveCartController {
+
+    private final ReactiveCartService reactiveCartService;
+
+    // 장바구니 상품 추가
+    @PostMapping
+    public Mono<ResponseEntity<String>> addToCart(@RequestBody CartRequestDto cartRequestDto) {
+        return reactiveCartService.addToCart(cartRequestDto).thenReturn(ResponseEntity.ok("Success"));
+    }
+
+    // 장바구니에서 상품 삭제
+    @DeleteMapping
+    public Mono<ResponseEntity<String>> removeFromCart(@RequestBody CartRequestDto cartRequestDto) {
+        return reactiveCartService.removeFromCart(cartRequestDto).thenReturn(ResponseEntity.ok("Success"));
+    }
+
+    // 장바구니 상품 수량 수정
+    @PatchMapping
+    public Mono<ResponseEntity<String>> updateCartItemQuantity(@RequestBody CartRequestDto cartRequestDto) {
+        return reactiveCartService.updateCartItemQuantity(cartRequestDto).thenReturn(ResponseEntity.ok("Success"));
+    }
+
+    // 장바구니 조회
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<List<CartResponseDto>>> getCart(@PathVariable("id") String customerId) {
+        return reactiveCartService.getCart(customerId).map(ResponseEntity::ok);
+    }
+
+    // 장바구니 초기화
+    @DeleteMapping("/clear")
+    public Mono<ResponseEntity<String>> clearCart(@RequestBody CartRequestDto cartRequestDto) {
+        return reactiveCartService.clearCart(cartRequestDto.getCustomerId()).thenReturn(ResponseEntity.ok("Success"));
+    }
+}
@@ -1,6 +1,6 @@
 package com.shop.shop.application.cart.dto;
 
-import com.shop.shop.infrastructure.persistence.product.Product;
+import com.shop.shop.application.product.dto.ProductSummaryDto;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -9,6 +9,17 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 public class CartResponseDto {
-    private Product product;
+    private Long productId;
+    private ProductSummaryDto product; // 삭제된 상품이면 null
     private int quantity;
+    private boolean available; // 상품 존재 여부 (없는 상품도 장바구니 전체를 실패시키지 않고 항목별로 표시)
+
+    public CartResponseDto(ProductSummaryDto product, int quantity) {
+        this(product.getId(), product, quantity, true);
+    }
+
+    // 상품이 삭제되어 조회되지 않는 항목
+    public static CartResponseDto missing(Long productId, int quantity) {
+        return new CartResponseDto(productId, null, quantity, false);
+    }
 }
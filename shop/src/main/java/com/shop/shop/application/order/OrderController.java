@@ -1,30 +1,74 @@
 package com.shop.shop.application.order;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.shop.shop.application.order.dto.request.OrderConditionDto;
 import com.shop.shop.application.order.dto.request.OrderRequestDto;
+import com.shop.shop.application.order.dto.request.OrderStatusTransitionRequestDto;
+import com.shop.shop.application.order.dto.response.CustomerOrderSummaryResponseDto;
+import com.shop.shop.application.order.dto.response.OrderPageResponseDto;
 import com.shop.shop.application.order.dto.response.OrderResponseDto;
+import com.shop.shop.application.order.dto.response.OrderStatusTransitionResponseDto;
+import com.shop.shop.domain.order.CustomerOrderSummaryService;
 import com.shop.shop.domain.order.OrderService;
+import com.shop.shop.infrastructure.authentication.JwtTokenProvider;
+import com.shop.shop.infrastructure.exception.ExceptionList;
+import com.shop.shop.infrastructure.exception.ServiceException;
+import com.shop.shop.infrastructure.idempotency.IdempotencyHandler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
 @RestController
 @RequestMapping("/orders")
 @RequiredArgsConstructor
 public class OrderController {
 
+    private static final String IDEMPOTENCY_SCOPE = "orders";
+    private static final String NDJSON = "application/x-ndjson";
+
     private final OrderService orderService;
+    private final IdempotencyHandler idempotencyHandler;
+    private final CustomerOrderSummaryService customerOrderSummaryService;
+    private final ObjectMapper objectMapper;
+    private final JwtTokenProvider jwtTokenProvider;
 
-    //주문 생성
+    //주문 생성 (Idempotency-Key 헤더가 있으면 재시도 요청에 최초 결과 반환)
     @PostMapping
-    public ResponseEntity<List<OrderResponseDto>> createOrder(@RequestBody List<OrderRequestDto> requestDtos) {
-        List<OrderResponseDto> orderResponseDtos = orderService.createOrders(requestDtos);
+    public ResponseEntity<List<OrderResponseDto>> createOrder(@RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                                              @RequestBody List<OrderRequestDto> requestDtos) {
+        List<OrderResponseDto> orderResponseDtos = idempotencyHandler.execute(
+                IDEMPOTENCY_SCOPE, idempotencyOwner(idempotencyKey, requestDtos), idempotencyKey, requestDtos,
+                () -> orderService.createOrders(requestDtos));
         return ResponseEntity.ok(orderResponseDtos);
     }
 
+    // Idempotency-Key 소유자 (요청 토큰의 customerId, 여러 명이면 정렬해 연결)
+    private String idempotencyOwner(String idempotencyKey, List<OrderRequestDto> requestDtos) {
+        if (idempotencyKey == null || idempotencyKey.isBlank() || requestDtos == null) {
+            return null;
+        }
+        Set<String> customerIds = new TreeSet<>();
+        for (OrderRequestDto requestDto : requestDtos) {
+            String token = requestDto.getToken();
+            if (token == null || !jwtTokenProvider.validateToken(token)) {
+                throw new ServiceException(ExceptionList.UNSUPPORTED_TOKEN);
+            }
+            customerIds.add(jwtTokenProvider.getCustomerIdFromToken(token));
+        }
+        return String.join(",", customerIds);
+    }
+
     //주문 조회 (단일)
     @GetMapping("/{id}")
     public ResponseEntity<OrderResponseDto> getOrder(@PathVariable("id") Long orderId) {
@@ -32,13 +76,39 @@ public class OrderController {
         return new ResponseEntity<>(orderResponseDto, HttpStatus.OK);
     }
 
-    //주문 조회 (전체)
+    //주문 조회 (전체, 키셋 페이지네이션)
     @GetMapping
-    public ResponseEntity<List<OrderResponseDto>> getAllOrders() {
-        List<OrderResponseDto> orders = orderService.getAllOrders();
+    public ResponseEntity<OrderPageResponseDto> getAllOrders(@RequestParam(value = "after", required = false) Long after,
+                                                             @RequestParam(value = "limit", required = false) Integer limit) {
+        OrderPageResponseDto orders = orderService.getOrders(after, limit);
         return new ResponseEntity<>(orders, HttpStatus.OK);
     }
 
+    //주문 내보내기 (전체, NDJSON 스트리밍)
+    @GetMapping(value = "/export", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportOrders() {
+        StreamingResponseBody body = outputStream -> {
+            BufferedOutputStream out = new BufferedOutputStream(outputStream);
+            orderService.exportOrders(order -> {
+                try {
+                    out.write(objectMapper.writeValueAsBytes(order));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+    }
+
+
+    // 고객별 주문 요약 조회
+    @GetMapping("/summary/{customerId}")
+    public ResponseEntity<CustomerOrderSummaryResponseDto> getOrderSummary(@PathVariable("customerId") String customerId) {
+        CustomerOrderSummaryResponseDto summary = customerOrderSummaryService.getSummary(customerId);
+        return new ResponseEntity<>(summary, HttpStatus.OK);
+    }
 
     // 주문 조회 (조건부)
     @GetMapping("/conditions")
@@ -55,6 +125,14 @@ public class OrderController {
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
+    //주문 상태 일괄 변경 (주문 ID 목록 또는 조건, 관리자 전용)
+    @Secured("ROLE_ADMIN")
+    @PutMapping("/status")
+    public ResponseEntity<OrderStatusTransitionResponseDto> transitionOrders(@RequestBody OrderStatusTransitionRequestDto requestDto) {
+        OrderStatusTransitionResponseDto result = orderService.transitionOrders(requestDto);
+        return new ResponseEntity<>(result, HttpStatus.OK);
+    }
+
     //주문 수정
     @PutMapping("/{id}")
     public ResponseEntity<OrderResponseDto> updateOrder(@PathVariable("id") Long orderId, @RequestBody OrderRequestDto orderRequestDto) {
@@ -0,0 +1,18 @@
+package com.shop.shop.application.order.dto.request;
+
+import com.shop.shop.infrastructure.constant.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderStatusTransitionRequestDto {
+
+    private List<Long> orderIds;         // 대상 주문 ID 목록 (condition 과 둘 중 하나)
+    private OrderConditionDto condition; // 대상 주문 조건
+    private OrderStatus status;          // 변경할 상태
+}
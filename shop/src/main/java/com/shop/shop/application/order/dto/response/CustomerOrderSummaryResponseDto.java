@@ -0,0 +1,30 @@
+package com.shop.shop.application.order.dto.response;
+
+import com.shop.shop.infrastructure.persistence.order.CustomerOrderSummary;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CustomerOrderSummaryResponseDto {
+
+    private String customerId;
+    private Long pendingCount;
+    private Long shippingCount;
+    private Long completedCount;
+    private Long cancelledCount;
+    private Long totalQuantity;
+    private Long totalSpend;
+
+    public CustomerOrderSummaryResponseDto(CustomerOrderSummary summary) {
+        this.customerId = summary.getCustomerId();
+        this.pendingCount = summary.getPendingCount();
+        this.shippingCount = summary.getShippingCount();
+        this.completedCount = summary.getCompletedCount();
+        this.cancelledCount = summary.getCancelledCount();
+        this.totalQuantity = summary.getTotalQuantity();
+        this.totalSpend = summary.getTotalSpend();
+    }
+}
@@ -0,0 +1,16 @@
+package com.shop.shop.application.order.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderPageResponseDto {
+
+    private List<OrderResponseDto> orders;
+    private Long nextCursor; // 다음 페이지 요청 시 after 로 전달 (마지막 페이지면 null)
+}
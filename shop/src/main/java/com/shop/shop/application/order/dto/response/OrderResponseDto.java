@@ -13,6 +13,7 @@ import lombok.NoArgsConstructor;
 public class OrderResponseDto {
 
     private Long orderId;
+    private String orderNumber;
     private Long productId;
     private Long quantity;
     private String customerId;
@@ -20,6 +21,7 @@ public class OrderResponseDto {
 
     public OrderResponseDto(Orders order) {
         this.orderId = order.getPk();
+        this.orderNumber = order.getOrderNumber();
         this.productId = order.getProductId();
         this.quantity = order.getQuantity();
         this.customerId = order.getCustomer().getCustomerId();
@@ -0,0 +1,20 @@
+package com.shop.shop.application.order.dto.response;
+
+import com.shop.shop.infrastructure.constant.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderStatusTransitionResponseDto {
+
+    private OrderStatus status;
+    private int requested;        // 대상 주문 수
+    private int updated;          // 실제 변경된 주문 수 (허용되지 않는 상태의 주문은 제외)
+    private List<Long> chunkMillis; // chunk 별 처리 시간 (ms)
+    private long totalMillis;
+}
@@ -3,11 +3,15 @@ package com.shop.shop.application.product;
 import com.shop.shop.application.product.dto.ProductResponseDto;
 import com.shop.shop.application.product.dto.SearchProductFilterDto;
 import com.shop.shop.application.product.dto.SearchResponseDto;
+import com.shop.shop.application.product.dto.SuggestionDto;
 import com.shop.shop.domain.product.ProductService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 
 @RestController
 @RequiredArgsConstructor
@@ -30,4 +34,19 @@ public class ProductController {
         return ResponseEntity.ok(responseDto);
     }
 
+    // 검색어 자동완성 (상품명/카테고리 접두어, 조회수 순)
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDto>> suggest(@RequestParam("q") String query,
+                                                       @RequestParam(value = "limit", required = false) Integer limit) {
+        return ResponseEntity.ok(productService.suggest(query, limit));
+    }
+
+    // 상품 재고 샤드 수 변경 (1 이면 단일 재고로 복귀, 관리자 전용)
+    @Secured("ROLE_ADMIN")
+    @PostMapping("/{id}/stripes")
+    public ResponseEntity<String> stripeStock(@PathVariable Long id, @RequestParam("count") int stripes) {
+        productService.stripeStock(id, stripes);
+        return ResponseEntity.ok("Success");
+    }
+
 }
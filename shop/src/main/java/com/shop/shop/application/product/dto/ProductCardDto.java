@@ -0,0 +1,26 @@
+package com.shop.shop.application.product.dto;
+
+import com.shop.shop.infrastructure.persistence.product.Product;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 검색 결과 목록 카드 (카테고리는 응답의 categoryCounts 로 제공하므로 항목마다 반복하지 않음)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductCardDto {
+    private Long id;
+    private String name;
+    private Long price;
+    private boolean inStock;
+
+    // QueryDSL Projections.constructor 용 (필요한 컬럼만 조회)
+    public ProductCardDto(Long id, String name, Long price, Long stockQuantity) {
+        this(id, name, price, stockQuantity != null && stockQuantity > 0);
+    }
+
+    public ProductCardDto(Product product) {
+        this(product.getId(), product.getName(), product.getPrice(), product.getStockQuantity());
+    }
+}
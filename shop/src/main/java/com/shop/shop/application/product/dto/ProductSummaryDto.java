@@ -0,0 +1,27 @@
+package com.shop.shop.application.product.dto;
+
+import com.shop.shop.infrastructure.persistence.product.Product;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 응답/캐시용 상품 요약 (description, shipping 등 긴 컬럼 제외)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductSummaryDto {
+    private Long id;
+    private String name;
+    private Long price;
+    private String category;
+    private boolean inStock;
+
+    // QueryDSL Projections.constructor 용 (필요한 컬럼만 조회)
+    public ProductSummaryDto(Long id, String name, Long price, String category, Long stockQuantity) {
+        this(id, name, price, category, stockQuantity != null && stockQuantity > 0);
+    }
+
+    public ProductSummaryDto(Product product) {
+        this(product.getId(), product.getName(), product.getPrice(), product.getCategory(), product.getStockQuantity());
+    }
+}
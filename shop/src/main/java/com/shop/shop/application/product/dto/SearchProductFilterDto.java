@@ -1,5 +1,6 @@
 package com.shop.shop.application.product.dto;
 
+import com.shop.shop.infrastructure.constant.SearchSort;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -18,4 +19,12 @@ public class SearchProductFilterDto {
     private Long minPrice;
     private Long maxPrice;
     private Boolean inStock;
+
+    private SearchSort sort;  // 기본값 RELEVANCE
+    private Integer size;     // 페이지 크기 (기본 20, 최대 100)
+    private String cursor;    // 이전 응답의 nextCursor (첫 페이지는 null)
+
+    public SearchProductFilterDto(String keyword, String category, Long minPrice, Long maxPrice, Boolean inStock) {
+        this(keyword, category, minPrice, maxPrice, inStock, null, null, null);
+    }
 }
@@ -1,18 +1,27 @@
 package com.shop.shop.application.product.dto;
 
-import com.shop.shop.infrastructure.persistence.product.Product;
+import com.shop.shop.infrastructure.persistence.product.PriceBucket;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
+import java.util.Map;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class SearchResponseDto {
-    private List<Product> products;
+    private List<ProductCardDto> products;
+    private List<Boolean> stockAvailability;
+
+    // 검색 조건 전체에 대한 집계 (첫 페이지에서만 계산, 다음 페이지는 null)
     private Long minPrice;
     private Long maxPrice;
-    private List<Boolean> stockAvailability;
+    private Long totalCount;
+    private Long inStockCount;
+    private Map<String, Long> categoryCounts;  // 카테고리별 상품 수 (내림차순)
+    private List<PriceBucket> priceHistogram;  // 가격 범위 슬라이더용 구간별 상품 수
+
+    private String nextCursor;       // 다음 페이지 요청 시 cursor 로 전달 (마지막 페이지면 null)
 }
@@ -0,0 +1,21 @@
+package com.shop.shop.application.product.dto;
+
+import com.shop.shop.infrastructure.constant.SuggestionType;
+import com.shop.shop.infrastructure.search.Suggestion;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SuggestionDto {
+    private SuggestionType type;
+    private String text;
+    private Long productId; // 카테고리 후보는 null
+    private long viewCount;
+
+    public SuggestionDto(Suggestion suggestion) {
+        this(suggestion.getType(), suggestion.getText(), suggestion.getProductId(), suggestion.getScore());
+    }
+}
@@ -0,0 +1,13 @@
+package com.shop.shop.domain.cart;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 장바구니 아카이브 실행 결과
+@Getter
+@AllArgsConstructor
+public class CartArchiveResult {
+    private final long scannedCarts;    // SCAN 으로 확인한 장바구니 수
+    private final long archivedCarts;   // MySQL 로 옮기고 Redis 에서 제거한 장바구니 수
+    private final long reclaimedBytes;  // 제거한 키의 MEMORY USAGE 합계
+}
@@ -0,0 +1,7 @@
+package com.shop.shop.domain.cart;
+
+public interface CartArchiveService {
+
+    CartArchiveResult archiveAbandonedCarts();
+
+}
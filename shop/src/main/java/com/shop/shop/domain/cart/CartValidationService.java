@@ -0,0 +1,9 @@
+package com.shop.shop.domain.cart;
+
+public interface CartValidationService {
+
+    void validate(String customerId, Long productId, int quantity);
+    void evictProduct(Long productId);
+    Long getPrice(Long productId);
+
+}
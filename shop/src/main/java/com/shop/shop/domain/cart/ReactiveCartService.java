@@ -0,0 +1,17 @@
+package com.shop.shop.domain.cart;
+
+import com.shop.shop.application.cart.dto.CartRequestDto;
+import com.shop.shop.application.cart.dto.CartResponseDto;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface ReactiveCartService {
+
+    Mono<Void> addToCart(CartRequestDto cartRequestDto);
+    Mono<Void> removeFromCart(CartRequestDto cartRequestDto);
+    Mono<Void> updateCartItemQuantity(CartRequestDto cartRequestDto);
+    Mono<List<CartResponseDto>> getCart(String customerId);
+    Mono<Void> clearCart(String customerId);
+
+}
@@ -0,0 +1,175 @@
+package com.shop.shop.domain.cart.implement;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.shop.domain.cart.CartArchiveResult;
+import com.shop.shop.domain.cart.CartArchiveService;
+import com.shop.shop.infrastructure.persistence.cart.CartArchive;
+import com.shop.shop.infrastructure.persistence.cart.CartArchiveRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 방치된 장바구니 아카이브
+// * 장바구니 TTL 은 변경/조회 시마다 ttl-days 로 연장되므로, 남은 TTL 이 (ttl-days - abandon-after-days) 이하면 그만큼 방치된 것
+// * SCAN(COUNT) 으로 키를 조금씩 순회하고, 배치 단위로 PTTL/HGETALL 을 파이프라인으로 조회 (KEYS 미사용)
+// * MySQL 저장 후 UNLINK(메모리 해제는 백그라운드) 로 제거하며, 그 사이 다시 사용된 장바구니는 제거하지 않고 아카이브 행을 삭제
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CartArchiveServiceImpl implements CartArchiveService {
+
+    private static final String CART_KEY_PREFIX = "cart";
+    private static final long NO_TTL = -1L;
+    private static final long REFRESHED = -1L;
+
+    // KEYS[1] = cart{customerId} / ARGV[1] = 방치로 볼 남은 TTL 상한(ms) / 제거한 키의 메모리(byte) 반환
+    private static final RedisScript<Long> UNLINK_SCRIPT = new DefaultRedisScript<>(
+            "local ttl = redis.call('PTTL', KEYS[1]) " +
+            "if ttl == -2 then return 0 end " +
+            "if ttl < 0 or ttl > tonumber(ARGV[1]) then return -1 end " +
+            "local bytes = redis.call('MEMORY', 'USAGE', KEYS[1]) or 0 " +
+            "redis.call('UNLINK', KEYS[1]) " +
+            "return bytes", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CartArchiveRepository cartArchiveRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${shop.cart.ttl-days:30}")
+    private long ttlDays;
+
+    @Value("${shop.cart.archive.abandon-after-days:7}")
+    private long abandonAfterDays;
+
+    @Value("${shop.cart.archive.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public CartArchiveResult archiveAbandonedCarts() {
+        long ttlMillis = Duration.ofDays(ttlDays).toMillis();
+        long abandonedTtlMillis = ttlMillis - Duration.ofDays(abandonAfterDays).toMillis();
+        if (abandonedTtlMillis <= 0) {
+            // 방치 기준이 TTL 보다 길면 Redis 만료가 먼저 일어나므로 아카이브할 대상이 없음
+            log.warn("shop.cart.archive.abandon-after-days({}) must be less than shop.cart.ttl-days({})", abandonAfterDays, ttlDays);
+            return new CartArchiveResult(0, 0, 0);
+        }
+
+        long[] totals = new long[3]; // scanned, archived, reclaimedBytes
+        ScanOptions options = ScanOptions.scanOptions().match(CART_KEY_PREFIX + "*").count(batchSize).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            List<String> batch = new ArrayList<>(batchSize);
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == batchSize) {
+                    archiveBatch(batch, ttlMillis, abandonedTtlMillis, totals);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                archiveBatch(batch, ttlMillis, abandonedTtlMillis, totals);
+            }
+        }
+        return new CartArchiveResult(totals[0], totals[1], totals[2]);
+    }
+
+    private void archiveBatch(List<String> cartKeys, long ttlMillis, long abandonedTtlMillis, long[] totals) {
+        totals[0] += cartKeys.size();
+
+        // 남은 TTL 조회 (파이프라인 1회)
+        List<Object> ttls = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            cartKeys.forEach(stringConnection::pTtl);
+            return null;
+        });
+
+        List<String> withoutTtl = new ArrayList<>();
+        List<String> abandonedKeys = new ArrayList<>();
+        List<Long> abandonedTtls = new ArrayList<>();
+        for (int i = 0; i < cartKeys.size(); i++) {
+            long ttl = ((Number) ttls.get(i)).longValue();
+            if (ttl == NO_TTL) {
+                withoutTtl.add(cartKeys.get(i));
+            } else if (ttl >= 0 && ttl <= abandonedTtlMillis) {
+                abandonedKeys.add(cartKeys.get(i));
+                abandonedTtls.add(ttl);
+            }
+        }
+
+        // TTL 도입 전에 만들어진 장바구니는 지금부터 TTL 적용
+        if (!withoutTtl.isEmpty()) {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                withoutTtl.forEach(cartKey -> stringConnection.pExpire(cartKey, ttlMillis));
+                return null;
+            });
+        }
+        if (abandonedKeys.isEmpty()) {
+            return;
+        }
+
+        // 방치된 장바구니 내용 조회 (파이프라인 1회) 후 MySQL 에 일괄 저장
+        List<Object> contents = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            abandonedKeys.forEach(stringConnection::hGetAll);
+            return null;
+        });
+        LocalDateTime now = LocalDateTime.now();
+        List<String> archivedKeys = new ArrayList<>();
+        List<CartArchive> archives = new ArrayList<>();
+        for (int i = 0; i < abandonedKeys.size(); i++) {
+            @SuppressWarnings("unchecked")
+            Map<String, String> items = (Map<String, String>) contents.get(i);
+            if (items == null || items.isEmpty()
+                    || !items.values().stream().allMatch(CartServiceImpl::isCompactValue)) {
+                continue; // 이전 형식 장바구니는 변환된 뒤 다음 실행에서 처리
+            }
+            String cartKey = abandonedKeys.get(i);
+            LocalDateTime lastActivityAt = now.minus(Duration.ofMillis(ttlMillis - abandonedTtls.get(i)));
+            archivedKeys.add(cartKey);
+            archives.add(new CartArchive(null, cartKey.substring(CART_KEY_PREFIX.length()), toJson(items),
+                    items.size(), lastActivityAt, now));
+        }
+        cartArchiveRepository.saveAll(archives);
+
+        // 저장된 장바구니만 제거 (그 사이 다시 사용된 장바구니는 유지하고 아카이브 행 삭제)
+        List<CartArchive> refreshed = new ArrayList<>();
+        for (int i = 0; i < archivedKeys.size(); i++) {
+            Long bytes = stringRedisTemplate.execute(UNLINK_SCRIPT, List.of(archivedKeys.get(i)), String.valueOf(abandonedTtlMillis));
+            if (bytes == null || bytes == REFRESHED) {
+                refreshed.add(archives.get(i));
+                continue;
+            }
+            totals[1]++;
+            totals[2] += bytes;
+        }
+        if (!refreshed.isEmpty()) {
+            cartArchiveRepository.deleteAll(refreshed);
+        }
+    }
+
+    private String toJson(Map<String, String> items) {
+        Map<Long, Long> quantities = new TreeMap<>();
+        items.forEach((productId, quantity) -> quantities.put(Long.valueOf(productId), Long.valueOf(quantity)));
+        try {
+            return objectMapper.writeValueAsString(quantities);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,62 +1,122 @@
 package com.shop.shop.domain.cart.implement;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.shop.shop.application.cart.dto.CartRequestDto;
 import com.shop.shop.application.cart.dto.CartResponseDto;
-import com.shop.shop.application.order.dto.request.OrderRequestDto;
+import com.shop.shop.application.product.dto.ProductSummaryDto;
 import com.shop.shop.domain.cart.CartService;
+import com.shop.shop.domain.cart.CartValidationService;
 import com.shop.shop.infrastructure.exception.ExceptionList;
 import com.shop.shop.infrastructure.exception.ServiceException;
-import com.shop.shop.infrastructure.persistence.member.Customer;
-import com.shop.shop.infrastructure.persistence.member.CustomerRepository;
-import com.shop.shop.infrastructure.persistence.product.Product;
 import com.shop.shop.infrastructure.persistence.product.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.*;
 
-import static com.shop.shop.infrastructure.constant.CacheConstants.REDIS_CACHE;
-
+// 장바구니: cart{customerId} 해시 (필드 = productId, 값 = 수량 정수)
+// * 변경은 HINCRBY / Lua 로 서버에서 원자적으로 처리 (get-modify-put 경합 제거)
+// * 이전 형식(JSON {productId, quantity})의 장바구니는 기동 시 일괄 변환하고,
+//   남아 있는 항목은 변경 시점에 키 단위로 변환 후 재시도
+// * 변경/조회 시마다 TTL 을 연장 (sliding TTL), 상품 종류 수 상한은 스크립트 안에서 확인
+// * 조회 결과는 캐시하지 않음 (장바구니 자체가 Redis 에 있고, 캐시하면 변경 내용과 TTL 연장이 누락됨)
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class CartServiceImpl implements CartService {
 
-    private final RedisTemplate<String,Object> redisTemplate;  // String 형식으로 저장/조회할 RedisTemplate
-    private final ProductRepository productRepository;
-    private final CustomerRepository customerRepository;
     private static final String CART_KEY_PREFIX  = "cart";
 
+    static final long NOT_IN_CART = -1L;
+    static final long LEGACY_FORMAT = -2L;
+    static final long ITEM_LIMIT_EXCEEDED = -3L;
+
+    // KEYS[1] = cart{customerId} / ARGV[1] = productId, ARGV[2] = 증가 수량, ARGV[3] = TTL(ms), ARGV[4] = 최대 상품 종류 수
+    static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if current and not tonumber(current) then return -2 end " +
+            "if not current and redis.call('HLEN', KEYS[1]) >= tonumber(ARGV[4]) then return -3 end " +
+            "local updated = redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "return updated", Long.class);
+
+    // 수량 수정 (장바구니에 있는 상품만) / ARGV[2] = 수량
+    static final RedisScript<Long> SET_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then return -1 end " +
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "return tonumber(ARGV[2])", Long.class);
+
+    // 수량 감소, 0 이하가 되면 항목 삭제 / ARGV[2] = 감소 수량
+    static final RedisScript<Long> DECREMENT_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if not current then return -1 end " +
+            "if not tonumber(current) then return -2 end " +
+            "local remaining = tonumber(current) - tonumber(ARGV[2]) " +
+            "if remaining > 0 then " +
+            "  redis.call('HSET', KEYS[1], ARGV[1], remaining) " +
+            "  redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "  return remaining " +
+            "end " +
+            "redis.call('HDEL', KEYS[1], ARGV[1]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "return 0", Long.class);
+
+    // 이전 형식 항목을 수량 정수로 변환 (해석할 수 없는 항목은 삭제) / 변환한 항목 수 반환
+    static final RedisScript<Long> MIGRATE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('TYPE', KEYS[1]).ok ~= 'hash' then return 0 end " +
+            "local entries = redis.call('HGETALL', KEYS[1]) " +
+            "local migrated = 0 " +
+            "for i = 1, #entries, 2 do " +
+            "  if not tonumber(entries[i + 1]) then " +
+            "    local ok, item = pcall(cjson.decode, entries[i + 1]) " +
+            "    if ok and type(item) == 'table' and tonumber(item['quantity']) then " +
+            "      redis.call('HSET', KEYS[1], entries[i], tonumber(item['quantity'])) " +
+            "    else " +
+            "      redis.call('HDEL', KEYS[1], entries[i]) " +
+            "    end " +
+            "    migrated = migrated + 1 " +
+            "  end " +
+            "end " +
+            "return migrated", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ProductRepository productRepository;
+    private final CartValidationService cartValidationService;
+
+    @Value("${shop.cart.ttl-days:30}")
+    private long ttlDays;
+
+    @Value("${shop.cart.max-items:100}")
+    private int maxItems;
+
+    @Value("${shop.cart.migrate-on-startup:true}")
+    private boolean migrateOnStartup;
+
+    @Value("${shop.cart.migration-scan-count:500}")
+    private int migrationScanCount;
+
     @Transactional(rollbackFor = Exception.class)
     @Override
     public void addToCart(CartRequestDto cartRequestDto) {
         //유효성 검사
         validateRequest(cartRequestDto);
 
-        // 장바구니 키 생성
-        String cartKey = CART_KEY_PREFIX + cartRequestDto.getCustomerId();
-
-        Map<String,Object> cartItem = (Map<String, Object>) redisTemplate.opsForHash().get(cartKey, String.valueOf(cartRequestDto.getProductId()));
-
-        if(cartItem != null) {
-            // 중복된 상품 수량 증가
-            int existingQuantity = (int) cartItem.get("quantity");
-            cartItem.put("quantity", existingQuantity + cartRequestDto.getQuantity());
-        }else{
-            // 장바구니에 없는 상품 새로 추가
-            cartItem = new HashMap<>();
-            cartItem.put("productId", cartRequestDto.getProductId());
-            cartItem.put("quantity", cartRequestDto.getQuantity());
+        // 장바구니에 없으면 새로 추가, 있으면 수량 증가 (HINCRBY)
+        long result = executeCartScript(ADD_SCRIPT, cartRequestDto.getCustomerId(), cartRequestDto.getProductId(), cartRequestDto.getQuantity());
+        if (result == ITEM_LIMIT_EXCEEDED) {
+            throw new ServiceException(ExceptionList.CART_ITEM_LIMIT);
         }
-        // 레디스에 저장
-        redisTemplate.opsForHash().put(cartKey, String.valueOf(cartRequestDto.getProductId()), cartItem);
-
     }
 
     @Transactional(rollbackFor = Exception.class)
@@ -65,32 +125,15 @@ public class CartServiceImpl implements CartService {
         //유효성 검사
         validateRequest(cartRequestDto);
 
-        String cartKey = CART_KEY_PREFIX + cartRequestDto.getCustomerId();
-
-        try {
-            // Redis에서 카트 아이템을 가져옵니다.
-            Map<String, Object> cartItem = (Map<String, Object>) redisTemplate.opsForHash().get(cartKey, String.valueOf(cartRequestDto.getProductId()));
-
-            if (cartItem != null) {
-                // 카트 아이템 수정
-                cartItem = new HashMap<>(cartItem);  // 불변성 유지
-                cartItem.put("quantity", cartRequestDto.getQuantity()); // 수량 수정
-
-                // Redis에 수정된 항목 업데이트
-                redisTemplate.opsForHash().put(cartKey, String.valueOf(cartRequestDto.getProductId()), cartItem);
-            } else {
-                // 해당 상품이 없을 경우 예외 처리
-                throw new ServiceException(ExceptionList.NOT_EXIST_DATA);
-            }
-        } catch (ClassCastException e) {
-            // Redis 데이터 타입 불일치 시 예외 처리
-            throw new ServiceException(ExceptionList.INTERNAL_SERVER_ERROR);
+        long result = executeCartScript(SET_SCRIPT, cartRequestDto.getCustomerId(), cartRequestDto.getProductId(), cartRequestDto.getQuantity());
+        if (result == NOT_IN_CART) {
+            // 해당 상품이 없을 경우 예외 처리
+            throw new ServiceException(ExceptionList.NOT_EXIST_DATA);
         }
     }
 
     @Transactional(readOnly = true)
     @Override
-    @Cacheable(REDIS_CACHE)
     public List<CartResponseDto> getCart(String customerId) {
         // 고객 ID 유효성 검증
         if (customerId == null || customerId.isEmpty()) {
@@ -102,25 +145,37 @@ public class CartServiceImpl implements CartService {
         try {
             List<CartResponseDto> cartResponseDtoList = new ArrayList<>();
             // Redis에서 카트 아이템 가져오기
-            Map<Object, Object> cartItems = (Map<Object, Object>) redisTemplate.opsForHash().entries(cartKey);
+            Map<Object, Object> cartItems = stringRedisTemplate.opsForHash().entries(cartKey);
 
             // 카트가 비어있는지 확인
             if (cartItems == null || cartItems.isEmpty()) {
                 throw new ServiceException(ExceptionList.NOT_EXIST_DATA);
             }
+            if (!isCompact(cartItems)) {
+                // 이전 형식 항목이 남아있으면 변환 후 다시 조회
+                migrateCart(cartKey);
+                cartItems = stringRedisTemplate.opsForHash().entries(cartKey);
+            }
+            // 조회도 활동으로 보고 TTL 연장
+            stringRedisTemplate.expire(cartKey, Duration.ofDays(ttlDays));
 
-            // 카트 아이템을 DTO로 변환
+            // 상품 ID 수집 후 한 번에 조회 (아이템별 findById 로 인한 N+1 제거)
+            Map<Long, Integer> quantityByProductId = new LinkedHashMap<>();
             for (Map.Entry<Object, Object> entry : cartItems.entrySet()) {
-                Map<String, Object> itemData = (Map<String, Object>) entry.getValue();
-                Long productId = Long.valueOf(itemData.get("productId").toString());
-                Integer quantity = Integer.valueOf(itemData.get("quantity").toString());
-
-                // 상품 정보 조회
-                Product product = productRepository.findById(productId)
-                        .orElseThrow(() -> new ServiceException(ExceptionList.NOT_EXIST_DATA));
+                quantityByProductId.put(Long.valueOf(entry.getKey().toString()), Integer.valueOf(entry.getValue().toString()));
+            }
+            // 응답에 필요한 요약 컬럼만 조회 (description 등 엔티티 전체 미조회)
+            Map<Long, ProductSummaryDto> productById = new HashMap<>();
+            for (ProductSummaryDto product : productRepository.findSummariesByIdIn(quantityByProductId.keySet())) {
+                productById.put(product.getId(), product);
+            }
 
-                // 카트 응답 DTO 생성
-                cartResponseDtoList.add(new CartResponseDto(product, quantity));
+            // 카트 응답 DTO 생성 (삭제된 상품은 항목별로 표시)
+            for (Map.Entry<Long, Integer> entry : quantityByProductId.entrySet()) {
+                ProductSummaryDto product = productById.get(entry.getKey());
+                cartResponseDtoList.add(product != null
+                        ? new CartResponseDto(product, entry.getValue())
+                        : CartResponseDto.missing(entry.getKey(), entry.getValue()));
             }
 
             return cartResponseDtoList;
@@ -138,67 +193,83 @@ public class CartServiceImpl implements CartService {
     @Override
     public void clearCart(String customerId) {
         String cartKey = CART_KEY_PREFIX + customerId;
-        redisTemplate.delete(cartKey);
+        stringRedisTemplate.delete(cartKey);
 
     }
 
     @Transactional
     @Override
     public void removeFromCart(CartRequestDto cartRequestDto) {
-
-        String cartKey = CART_KEY_PREFIX + cartRequestDto.getCustomerId();
-
-        // 장바구니 조회
-        Map<String, Object> cartItem = (Map<String, Object>) redisTemplate.opsForHash().get(cartKey, String.valueOf(cartRequestDto.getProductId()));
-
-        if (cartItem != null) {
-            int currentQuantity = (int) cartItem.get("quantity");
-            int newQuantity = currentQuantity - cartRequestDto.getQuantity();
-
-            if (newQuantity > 0) {
-                // 수량이 남아있을 경우
-                cartItem.put("quantity", newQuantity);
-                redisTemplate.opsForHash().put(cartKey, String.valueOf(cartRequestDto.getProductId()), cartItem);
-            } else {
-                // 수량이 0이하일 경우 Redis에서 항목 삭제
-                redisTemplate.opsForHash().delete(cartKey, String.valueOf(cartRequestDto.getProductId()));
-            }
-
-        } else {
+        // 수량 감소, 0 이하가 되면 항목 삭제 (Lua 로 원자적으로 처리)
+        long result = executeCartScript(DECREMENT_SCRIPT, cartRequestDto.getCustomerId(), cartRequestDto.getProductId(), cartRequestDto.getQuantity());
+        if (result == NOT_IN_CART) {
             throw new ServiceException(ExceptionList.NOT_EXIST_DATA);
         }
     }
 
-    // 유효성 검증 메서드
-    private void validateRequest(CartRequestDto cartRequestDto) {
-        validateCustomer(cartRequestDto.getCustomerId());
-        validateProduct(cartRequestDto.getProductId(), cartRequestDto.getQuantity());
+    // 기동 시 이전 형식 장바구니 일괄 변환 (SCAN 으로 키를 나눠 순회, 블로킹 KEYS 미사용)
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyCartsOnStartup() {
+        if (migrateOnStartup) {
+            migrateLegacyCarts();
+        }
     }
 
-    // 상품 유효성 검증 (상품 존재 여부 및 재고 확인)
-    private void validateProduct(Long productId, int requestedQuantity) {
-        if (productId == null || productId <= 0) {
-            throw new ServiceException(ExceptionList.INVALID_REQUEST);
+    long migrateLegacyCarts() {
+        long scanned = 0;
+        long migrated = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(CART_KEY_PREFIX + "*").count(migrationScanCount).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                migrated += migrateCart(cursor.next());
+                scanned++;
+            }
+        }
+        if (migrated > 0) {
+            log.info("Migrated {} legacy cart items in {} carts", migrated, scanned);
         }
+        return migrated;
+    }
 
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new ServiceException(ExceptionList.NOT_EXIST_DATA));
+    private long migrateCart(String cartKey) {
+        Long migrated = stringRedisTemplate.execute(MIGRATE_SCRIPT, List.of(cartKey));
+        return migrated != null ? migrated : 0L;
+    }
 
-        // 상품 재고 확인
-        if (product.getStockQuantity() < requestedQuantity) {
-            throw new ServiceException(ExceptionList.NOT_ENOUGH_STOCK);
+    // 이전 형식 항목을 만나면 해당 장바구니만 변환 후 한 번 재시도
+    private long executeCartScript(RedisScript<Long> script, String customerId, Long productId, int quantity) {
+        String cartKey = CART_KEY_PREFIX + customerId;
+        long result = executeScript(script, cartKey, productId, quantity);
+        if (result == LEGACY_FORMAT) {
+            migrateCart(cartKey);
+            result = executeScript(script, cartKey, productId, quantity);
         }
+        if (result == LEGACY_FORMAT) {
+            throw new ServiceException(ExceptionList.INTERNAL_SERVER_ERROR);
+        }
+        return result;
     }
 
-    // 고객 유효성 검증 (계정 존재 여부 확인)
-    private void validateCustomer(String customerId) {
-        if (customerId == null || customerId.isEmpty()) {
-            throw new ServiceException(ExceptionList.INVALID_REQUEST);
+    private long executeScript(RedisScript<Long> script, String cartKey, Long productId, int quantity) {
+        Long result = stringRedisTemplate.execute(script, List.of(cartKey), String.valueOf(productId), String.valueOf(quantity),
+                String.valueOf(Duration.ofDays(ttlDays).toMillis()), String.valueOf(maxItems));
+        if (result == null) {
+            throw new ServiceException(ExceptionList.INTERNAL_SERVER_ERROR);
         }
+        return result;
+    }
 
-        boolean customerExists = customerRepository.existsByCustomerId(customerId);
-        if (!customerExists) {
-            throw new ServiceException(ExceptionList.NOT_EXIST_CUSTOMER_ACCOUNT);
-        }
+    private boolean isCompact(Map<Object, Object> cartItems) {
+        return cartItems.values().stream().allMatch(value -> isCompactValue(value.toString()));
+    }
+
+    // 수량 정수 형식인지 확인 (이전 형식은 JSON 문자열)
+    static boolean isCompactValue(String value) {
+        return !value.isEmpty() && value.chars().allMatch(c -> Character.isDigit(c) || c == '-');
+    }
+
+    // 유효성 검증 메서드 (캐시된 검증 계층 사용, 정상 상태에서는 DB 조회 없음)
+    private void validateRequest(CartRequestDto cartRequestDto) {
+        cartValidationService.validate(cartRequestDto.getCustomerId(), cartRequestDto.getProductId(), cartRequestDto.getQuantity());
     }
 }
@@ -0,0 +1,125 @@
+package com.shop.shop.domain.cart.implement;
+
+import com.shop.shop.domain.cart.CartValidationService;
+import com.shop.shop.domain.stock.event.StockChangedEvent;
+import com.shop.shop.infrastructure.exception.ExceptionList;
+import com.shop.shop.infrastructure.exception.ServiceException;
+import com.shop.shop.infrastructure.persistence.member.CustomerRepository;
+import com.shop.shop.infrastructure.persistence.product.ProductRepository;
+import com.shop.shop.infrastructure.util.LocalTtlCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 장바구니 요청 유효성 검증 (고객 존재 여부, 상품 존재 및 재고)
+// * 고객 존재 여부와 상품 재고/가격 스냅샷을 로컬 TTL 캐시에 보관해 장바구니 변경 시 DB 조회를 생략
+// * 재고 스냅샷은 장바구니 담기 검증용이며, 실제 재고 차감은 주문 시점에 다시 확인
+// * 재고 변경 알림(StockChangedEvent, 이 서버에서 커밋된 변경)을 받으면 커밋 후 별도 스레드에서 해당 상품 스냅샷을 제거
+// * 다른 서버에서 일어난 변경, 가격 변경, 고객 탈퇴는 알림이 없으므로 TTL(product-ttl-seconds, customer-ttl-seconds)이
+//   스냅샷이 실제 값과 어긋날 수 있는 최대 시간
+@Slf4j
+@Service
+public class CartValidationServiceImpl implements CartValidationService {
+
+    private final CustomerRepository customerRepository;
+    private final ProductRepository productRepository;
+
+    // 존재하는 고객만 캐시 (없는 고객은 가입 직후 바로 보이도록 매번 조회)
+    private final LocalTtlCache<String, Boolean> customerCache;
+    private final LocalTtlCache<Long, ProductSnapshot> productCache;
+
+    public CartValidationServiceImpl(CustomerRepository customerRepository,
+                                     ProductRepository productRepository,
+                                     @Value("${shop.cart.validation.max-size:10000}") int maxSize,
+                                     @Value("${shop.cart.validation.customer-ttl-seconds:300}") long customerTtlSeconds,
+                                     @Value("${shop.cart.validation.product-ttl-seconds:30}") long productTtlSeconds) {
+        this.customerRepository = customerRepository;
+        this.productRepository = productRepository;
+        this.customerCache = new LocalTtlCache<>(maxSize, customerTtlSeconds * 1000);
+        this.productCache = new LocalTtlCache<>(maxSize, productTtlSeconds * 1000);
+    }
+
+    @Override
+    public void validate(String customerId, Long productId, int quantity) {
+        validateCustomer(customerId);
+        validateProduct(productId, quantity);
+    }
+
+    @Override
+    public void evictProduct(Long productId) {
+        productCache.invalidate(productId);
+    }
+
+    @Override
+    public Long getPrice(Long productId) {
+        ProductSnapshot product = loadProduct(productId);
+        if (product == null) {
+            throw new ServiceException(ExceptionList.NOT_EXIST_DATA);
+        }
+        return product.price;
+    }
+
+    // 재고가 바뀐 상품은 스냅샷 제거 (주문 생성/수정/취소, 예약 반영, 샤드 합계 갱신)
+    // * 커밋된 뒤 요청 스레드 밖에서 처리하고, 실패해도 로그만 남김 (스냅샷은 TTL 로 만료)
+    @Async
+    @TransactionalEventListener(classes = StockChangedEvent.class, fallbackExecution = true)
+    public void onStockChanged(StockChangedEvent event) {
+        if (event.getProductId() == null) {
+            return;
+        }
+        try {
+            evictProduct(event.getProductId());
+        } catch (Exception e) {
+            log.error("Error evicting cart product snapshot {}: {}", event.getProductId(), e.getMessage());
+        }
+    }
+
+    // 고객 유효성 검증 (계정 존재 여부 확인)
+    private void validateCustomer(String customerId) {
+        if (customerId == null || customerId.isEmpty()) {
+            throw new ServiceException(ExceptionList.INVALID_REQUEST);
+        }
+
+        Boolean customerExists = customerCache.get(customerId,
+                id -> customerRepository.existsByCustomerId(id) ? Boolean.TRUE : null);
+        if (customerExists == null) {
+            throw new ServiceException(ExceptionList.NOT_EXIST_CUSTOMER_ACCOUNT);
+        }
+    }
+
+    // 상품 유효성 검증 (상품 존재 여부 및 재고 확인)
+    private void validateProduct(Long productId, int requestedQuantity) {
+        if (productId == null || productId <= 0) {
+            throw new ServiceException(ExceptionList.INVALID_REQUEST);
+        }
+
+        ProductSnapshot product = loadProduct(productId);
+        if (product == null) {
+            throw new ServiceException(ExceptionList.NOT_EXIST_DATA);
+        }
+
+        // 상품 재고 확인
+        if (product.stockQuantity < requestedQuantity) {
+            throw new ServiceException(ExceptionList.NOT_ENOUGH_STOCK);
+        }
+    }
+
+    private ProductSnapshot loadProduct(Long productId) {
+        return productCache.get(productId, id -> productRepository.findById(id)
+                .map(found -> new ProductSnapshot(found.getStockQuantity(), found.getPrice()))
+                .orElse(null));
+    }
+
+    // 상품 재고/가격 스냅샷 (엔티티 대신 필요한 값만 보관)
+    private static final class ProductSnapshot {
+        private final long stockQuantity;
+        private final Long price;
+
+        private ProductSnapshot(Long stockQuantity, Long price) {
+            this.stockQuantity = stockQuantity != null ? stockQuantity : 0L;
+            this.price = price;
+        }
+    }
+}
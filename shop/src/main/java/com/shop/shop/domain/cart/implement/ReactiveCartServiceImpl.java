@@ -0,0 +1,163 @@
+package com.shop.shop.domain.cart.implement;
+
+import com.shop.shop.application.cart.dto.CartRequestDto;
+import com.shop.shop.application.cart.dto.CartResponseDto;
+import com.shop.shop.application.product.dto.ProductSummaryDto;
+import com.shop.shop.domain.cart.CartValidationService;
+import com.shop.shop.domain.cart.ReactiveCartService;
+import com.shop.shop.infrastructure.exception.ExceptionList;
+import com.shop.shop.infrastructure.exception.ServiceException;
+import com.shop.shop.infrastructure.persistence.product.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.ReactiveHashOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 장바구니 (Lettuce reactive 명령 기반, 'reactive-cart' 프로필)
+// * Redis 호출 동안 요청 스레드를 점유하지 않음
+// * JPA 유효성 검사는 블로킹이므로 boundedElastic 스케줄러에서 실행
+// * 저장 형식과 Lua 스크립트는 CartServiceImpl 과 동일 (프로필을 바꿔도 기존 장바구니 유지)
+@Slf4j
+@Service
+@Profile("reactive-cart")
+@RequiredArgsConstructor
+public class ReactiveCartServiceImpl implements ReactiveCartService {
+
+    private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+    private final ProductRepository productRepository;
+    private final CartValidationService cartValidationService;
+    private static final String CART_KEY_PREFIX = "cart";
+
+    @Value("${shop.cart.ttl-days:30}")
+    private long ttlDays;
+
+    @Value("${shop.cart.max-items:100}")
+    private int maxItems;
+
+    @Override
+    public Mono<Void> addToCart(CartRequestDto cartRequestDto) {
+        return validateRequest(cartRequestDto)
+                .then(executeCartScript(CartServiceImpl.ADD_SCRIPT, cartRequestDto))
+                .flatMap(result -> result == CartServiceImpl.ITEM_LIMIT_EXCEEDED
+                        ? Mono.<Void>error(new ServiceException(ExceptionList.CART_ITEM_LIMIT))
+                        : Mono.<Void>empty());
+    }
+
+    @Override
+    public Mono<Void> updateCartItemQuantity(CartRequestDto cartRequestDto) {
+        return validateRequest(cartRequestDto)
+                .then(executeCartScript(CartServiceImpl.SET_SCRIPT, cartRequestDto))
+                .flatMap(this::requireInCart);
+    }
+
+    @Override
+    public Mono<List<CartResponseDto>> getCart(String customerId) {
+        if (customerId == null || customerId.isEmpty()) {
+            return Mono.error(new ServiceException(ExceptionList.INVALID_REQUEST));
+        }
+        String cartKey = CART_KEY_PREFIX + customerId;
+
+        return hashOps().entries(cartKey).collectList()
+                .flatMap(entries -> entries.stream().allMatch(entry -> CartServiceImpl.isCompactValue(entry.getValue()))
+                        ? Mono.just(entries)
+                        // 이전 형식 항목이 남아있으면 변환 후 다시 조회
+                        : migrateCart(cartKey).then(hashOps().entries(cartKey).collectList()))
+                .map(entries -> {
+                    Map<Long, Integer> quantityByProductId = new LinkedHashMap<>();
+                    entries.forEach(entry -> quantityByProductId.put(Long.valueOf(entry.getKey()), Integer.valueOf(entry.getValue())));
+                    return quantityByProductId;
+                })
+                .flatMap(quantityByProductId -> {
+                    if (quantityByProductId.isEmpty()) {
+                        return Mono.error(new ServiceException(ExceptionList.NOT_EXIST_DATA));
+                    }
+                    // 조회도 활동으로 보고 TTL 연장, 상품 정보는 한 번에 조회 (블로킹 JPA)
+                    return reactiveStringRedisTemplate.expire(cartKey, Duration.ofDays(ttlDays))
+                            .then(blocking(() -> productRepository.findSummariesByIdIn(quantityByProductId.keySet())))
+                            .map(products -> toResponse(quantityByProductId, products));
+                });
+    }
+
+    @Override
+    public Mono<Void> clearCart(String customerId) {
+        return reactiveStringRedisTemplate.delete(CART_KEY_PREFIX + customerId).then();
+    }
+
+    @Override
+    public Mono<Void> removeFromCart(CartRequestDto cartRequestDto) {
+        return executeCartScript(CartServiceImpl.DECREMENT_SCRIPT, cartRequestDto)
+                .flatMap(this::requireInCart);
+    }
+
+    private ReactiveHashOperations<String, String, String> hashOps() {
+        return reactiveStringRedisTemplate.opsForHash();
+    }
+
+    private Mono<Void> requireInCart(Long result) {
+        return result == CartServiceImpl.NOT_IN_CART
+                ? Mono.error(new ServiceException(ExceptionList.NOT_EXIST_DATA))
+                : Mono.empty();
+    }
+
+    // 이전 형식 항목을 만나면 해당 장바구니만 변환 후 한 번 재시도
+    private Mono<Long> executeCartScript(RedisScript<Long> script, CartRequestDto cartRequestDto) {
+        String cartKey = CART_KEY_PREFIX + cartRequestDto.getCustomerId();
+        Mono<Long> execute = reactiveStringRedisTemplate.execute(script, List.of(cartKey),
+                        List.of(String.valueOf(cartRequestDto.getProductId()), String.valueOf(cartRequestDto.getQuantity()),
+                                String.valueOf(Duration.ofDays(ttlDays).toMillis()), String.valueOf(maxItems)))
+                .next()
+                .switchIfEmpty(Mono.error(new ServiceException(ExceptionList.INTERNAL_SERVER_ERROR)));
+        return execute.flatMap(result -> result == CartServiceImpl.LEGACY_FORMAT
+                ? migrateCart(cartKey).then(execute)
+                : Mono.just(result))
+                .flatMap(result -> result == CartServiceImpl.LEGACY_FORMAT
+                        ? Mono.error(new ServiceException(ExceptionList.INTERNAL_SERVER_ERROR))
+                        : Mono.just(result));
+    }
+
+    private Mono<Long> migrateCart(String cartKey) {
+        return reactiveStringRedisTemplate.execute(CartServiceImpl.MIGRATE_SCRIPT, List.of(cartKey)).next().defaultIfEmpty(0L);
+    }
+
+    private List<CartResponseDto> toResponse(Map<Long, Integer> quantityByProductId, List<ProductSummaryDto> products) {
+        Map<Long, ProductSummaryDto> productById = products.stream()
+                .collect(Collectors.toMap(ProductSummaryDto::getId, Function.identity()));
+        List<CartResponseDto> cartResponseDtoList = new ArrayList<>(quantityByProductId.size());
+        for (Map.Entry<Long, Integer> entry : quantityByProductId.entrySet()) {
+            ProductSummaryDto product = productById.get(entry.getKey());
+            // 삭제된 상품은 장바구니 전체를 실패시키지 않고 항목별로 표시
+            cartResponseDtoList.add(product != null
+                    ? new CartResponseDto(product, entry.getValue())
+                    : CartResponseDto.missing(entry.getKey(), entry.getValue()));
+        }
+        return cartResponseDtoList;
+    }
+
+    // 유효성 검증 (캐시 미스일 때만 DB 조회가 발생하므로 boundedElastic 에서 실행)
+    private Mono<Void> validateRequest(CartRequestDto cartRequestDto) {
+        return blocking(() -> {
+            cartValidationService.validate(cartRequestDto.getCustomerId(), cartRequestDto.getProductId(), cartRequestDto.getQuantity());
+            return true;
+        }).then();
+    }
+
+    // 블로킹 호출은 boundedElastic 에서 실행해 Lettuce 이벤트 루프를 막지 않음
+    private <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+}
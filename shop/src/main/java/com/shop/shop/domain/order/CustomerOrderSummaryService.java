@@ -0,0 +1,19 @@
+package com.shop.shop.domain.order;
+
+import com.shop.shop.application.order.dto.response.CustomerOrderSummaryResponseDto;
+import com.shop.shop.infrastructure.constant.OrderStatus;
+import com.shop.shop.infrastructure.persistence.order.OrderTransitionRow;
+import com.shop.shop.infrastructure.persistence.order.Orders;
+
+import java.util.List;
+
+public interface CustomerOrderSummaryService {
+
+    void recordCreated(List<Orders> orders);
+    void recordChanged(Orders order, long quantityDiff, long spendDiff);
+    void recordTransition(Orders order, OrderStatus previousStatus);
+    void recordTransitions(List<OrderTransitionRow> rows, OrderStatus status);
+    CustomerOrderSummaryResponseDto getSummary(String customerId);
+    int rebuildAll();
+
+}
@@ -0,0 +1,17 @@
+package com.shop.shop.domain.order;
+
+import com.shop.shop.application.order.dto.response.OrderResponseDto;
+import com.shop.shop.infrastructure.constant.OrderStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderArchiveService {
+
+    int archiveBatch();
+    boolean mayContainArchived(LocalDate startDate, LocalDate endDate, OrderStatus status);
+    Optional<OrderResponseDto> findArchivedOrder(Long orderId);
+    List<OrderResponseDto> findArchivedOrders(String customerId, LocalDate startDate, LocalDate endDate, OrderStatus status);
+
+}
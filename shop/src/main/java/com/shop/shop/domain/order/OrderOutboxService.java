@@ -0,0 +1,17 @@
+package com.shop.shop.domain.order;
+
+import com.shop.shop.infrastructure.constant.OrderStatus;
+import com.shop.shop.infrastructure.persistence.order.OrderTransitionRow;
+import com.shop.shop.infrastructure.persistence.order.Orders;
+
+import java.util.List;
+
+public interface OrderOutboxService {
+
+    void recordCreated(List<Orders> orders);
+    void recordTransition(Orders order, OrderStatus previousStatus);
+    void recordTransitions(List<OrderTransitionRow> rows, OrderStatus status);
+    int relayBatch();
+    int purgePublished();
+
+}
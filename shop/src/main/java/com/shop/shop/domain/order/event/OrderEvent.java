@@ -0,0 +1,37 @@
+package com.shop.shop.domain.order.event;
+
+import com.shop.shop.infrastructure.constant.OrderStatus;
+import com.shop.shop.infrastructure.persistence.order.OrderOutbox;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 주문 상태 변경 이벤트 (PENDING → SHIPPING → COMPLETED / CANCELLED)
+// 최소 1회 전달되므로 소비자는 eventId 로 중복을 걸러야 함
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderEvent {
+
+    private Long eventId;
+    private Long orderId;
+    private String customerId;
+    private Long productId;
+    private Long quantity;
+    private OrderStatus previousStatus;
+    private OrderStatus status;
+    private LocalDateTime occurredAt;
+
+    public OrderEvent(OrderOutbox outbox) {
+        this.eventId = outbox.getPk();
+        this.orderId = outbox.getOrderId();
+        this.customerId = outbox.getCustomerId();
+        this.productId = outbox.getProductId();
+        this.quantity = outbox.getQuantity();
+        this.previousStatus = outbox.getPreviousStatus();
+        this.status = outbox.getStatus();
+        this.occurredAt = outbox.getCreatedAt();
+    }
+}
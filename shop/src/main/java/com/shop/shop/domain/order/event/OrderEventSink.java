@@ -0,0 +1,9 @@
+package com.shop.shop.domain.order.event;
+
+import java.util.List;
+
+public interface OrderEventSink {
+
+    void publish(List<OrderEvent> events);
+
+}
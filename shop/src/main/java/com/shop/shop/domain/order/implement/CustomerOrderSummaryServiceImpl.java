@@ -0,0 +1,212 @@
+package com.shop.shop.domain.order.implement;
+
+import com.shop.shop.application.order.dto.response.CustomerOrderSummaryResponseDto;
+import com.shop.shop.domain.order.CustomerOrderSummaryService;
+import com.shop.shop.infrastructure.constant.OrderStatus;
+import com.shop.shop.infrastructure.exception.ExceptionList;
+import com.shop.shop.infrastructure.exception.ServiceException;
+import com.shop.shop.infrastructure.persistence.member.Customer;
+import com.shop.shop.infrastructure.persistence.member.CustomerRepository;
+import com.shop.shop.infrastructure.persistence.order.CustomerOrderSummaryRepository;
+import com.shop.shop.infrastructure.persistence.order.OrderTransitionRow;
+import com.shop.shop.infrastructure.persistence.order.Orders;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 고객별 주문 요약 read model
+// * 주문 쓰기와 같은 트랜잭션에서 고객별 증분을 upsert (조회는 고객당 한 행이라 주문 이력 길이와 무관)
+// * 취소 건은 건수만 집계하고 총 수량/금액에서는 제외
+// * rebuildAll 은 고객마다 별도 트랜잭션에서 요약 행을 잠근 뒤 orders + orders_archive 로 재계산해 덮어씀
+//   (잠금 이후에 커밋되는 주문의 증분은 잠금 해제 후 그대로 더해지므로 동시 주문과 어긋나지 않음)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CustomerOrderSummaryServiceImpl implements CustomerOrderSummaryService {
+
+    private final CustomerOrderSummaryRepository customerOrderSummaryRepository;
+    private final CustomerRepository customerRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${shop.order.summary.rebuild-batch-size:500}")
+    private int rebuildBatchSize;
+
+    @Transactional(rollbackFor = Exception.class)
+    @Override
+    public void recordCreated(List<Orders> orders) {
+        // 고객별로 모아서 고객당 upsert 한 번
+        Map<Long, Delta> deltas = new LinkedHashMap<>();
+        for (Orders order : orders) {
+            Delta delta = deltas.computeIfAbsent(order.getCustomer().getPk(), pk -> new Delta(pk, order.getCustomer().getCustomerId()));
+            delta.count(order.getStatus(), 1);
+            if (order.getStatus() != OrderStatus.CANCELLED) {
+                delta.quantity += order.getQuantity();
+                delta.spend += spendOf(order);
+            }
+        }
+        deltas.values().forEach(this::apply);
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    @Override
+    public void recordChanged(Orders order, long quantityDiff, long spendDiff) {
+        if (order.getStatus() == OrderStatus.CANCELLED || (quantityDiff == 0 && spendDiff == 0)) {
+            return;
+        }
+        Delta delta = new Delta(order.getCustomer().getPk(), order.getCustomer().getCustomerId());
+        delta.quantity = quantityDiff;
+        delta.spend = spendDiff;
+        apply(delta);
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    @Override
+    public void recordTransition(Orders order, OrderStatus previousStatus) {
+        OrderStatus status = order.getStatus();
+        if (status == previousStatus) {
+            return;
+        }
+        Delta delta = new Delta(order.getCustomer().getPk(), order.getCustomer().getCustomerId());
+        delta.count(previousStatus, -1);
+        delta.count(status, 1);
+        if (status == OrderStatus.CANCELLED) {
+            delta.quantity = -order.getQuantity();
+            delta.spend = -spendOf(order);
+        } else if (previousStatus == OrderStatus.CANCELLED) {
+            delta.quantity = order.getQuantity();
+            delta.spend = spendOf(order);
+        }
+        apply(delta);
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    @Override
+    public void recordTransitions(List<OrderTransitionRow> rows, OrderStatus status) {
+        // 고객별로 모아서 고객당 upsert 한 번
+        Map<Long, Delta> deltas = new LinkedHashMap<>();
+        for (OrderTransitionRow row : rows) {
+            if (row.getStatus() == status) {
+                continue;
+            }
+            Delta delta = deltas.computeIfAbsent(row.getCustomerPk(), pk -> new Delta(pk, row.getCustomerId()));
+            delta.count(row.getStatus(), -1);
+            delta.count(status, 1);
+            long spend = row.getTotalPrice() == null ? 0L : row.getTotalPrice();
+            if (status == OrderStatus.CANCELLED) {
+                delta.quantity -= row.getQuantity();
+                delta.spend -= spend;
+            } else if (row.getStatus() == OrderStatus.CANCELLED) {
+                delta.quantity += row.getQuantity();
+                delta.spend += spend;
+            }
+        }
+        deltas.values().forEach(this::apply);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public CustomerOrderSummaryResponseDto getSummary(String customerId) {
+        return customerOrderSummaryRepository.findByCustomerId(customerId)
+                .map(CustomerOrderSummaryResponseDto::new)
+                .orElseThrow(() -> new ServiceException(ExceptionList.NOT_EXIST_DATA));
+    }
+
+    @Override
+    public int rebuildAll() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int rebuilt = 0;
+        Long after = 0L;
+        while (true) {
+            List<Customer> customers = customerRepository.findByPkGreaterThanOrderByPkAsc(after, PageRequest.of(0, rebuildBatchSize));
+            for (Customer customer : customers) {
+                transactionTemplate.executeWithoutResult(tx -> rebuild(customer));
+                rebuilt++;
+            }
+            if (customers.size() < rebuildBatchSize) {
+                return rebuilt;
+            }
+            after = customers.get(customers.size() - 1).getPk();
+        }
+    }
+
+    // 고객 한 명 재계산: 빈 증분 upsert 로 요약 행을 만들거나 잠근 뒤, 집계 결과로 덮어씀
+    private void rebuild(Customer customer) {
+        apply(new Delta(customer.getPk(), customer.getCustomerId()));
+        Object[] totals = customerOrderSummaryRepository.aggregateByCustomerPk(customer.getPk()).get(0);
+        customerOrderSummaryRepository.overwrite(
+                customer.getPk(),
+                ((Number) totals[0]).longValue(),
+                ((Number) totals[1]).longValue(),
+                ((Number) totals[2]).longValue(),
+                ((Number) totals[3]).longValue(),
+                ((Number) totals[4]).longValue(),
+                ((Number) totals[5]).longValue(),
+                LocalDateTime.now()
+        );
+    }
+
+    private void apply(Delta delta) {
+        customerOrderSummaryRepository.applyDelta(
+                delta.customerPk,
+                delta.customerId,
+                delta.pending,
+                delta.shipping,
+                delta.completed,
+                delta.cancelled,
+                delta.quantity,
+                delta.spend,
+                LocalDateTime.now()
+        );
+    }
+
+    private long spendOf(Orders order) {
+        return order.getTotalPrice() == null ? 0L : order.getTotalPrice();
+    }
+
+    // 고객 한 명에 대한 요약 증분
+    private static final class Delta {
+        private final Long customerPk;
+        private final String customerId;
+        private long pending;
+        private long shipping;
+        private long completed;
+        private long cancelled;
+        private long quantity;
+        private long spend;
+
+        private Delta(Long customerPk, String customerId) {
+            this.customerPk = customerPk;
+            this.customerId = customerId;
+        }
+
+        private void count(OrderStatus status, int sign) {
+            if (status == null) {
+                return;
+            }
+            switch (status) {
+                case PENDING:
+                    pending += sign;
+                    break;
+                case SHIPPING:
+                    shipping += sign;
+                    break;
+                case COMPLETED:
+                    completed += sign;
+                    break;
+                case CANCELLED:
+                    cancelled += sign;
+                    break;
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.shop.shop.domain.order.implement;
+
+import com.shop.shop.application.order.dto.response.OrderResponseDto;
+import com.shop.shop.domain.order.OrderArchiveService;
+import com.shop.shop.infrastructure.constant.OrderStatus;
+import com.shop.shop.infrastructure.persistence.order.OrderRepository;
+import com.shop.shop.infrastructure.persistence.order.OrdersArchiveRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Hot / cold 주문 저장소
+// * 보관 기간(retention-days)이 지난 완료/취소 주문을 batch 단위로 orders → orders_archive 이동
+// * orders 에는 최근 주문과 진행 중인 주문만 남아 인덱스와 buffer pool 사용량이 이력 길이와 무관
+// * 조회는 기간/상태로 아카이브에 있을 수 있는 경우에만 orders_archive 를 함께 조회
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderArchiveServiceImpl implements OrderArchiveService {
+
+    // 더 이상 상태가 바뀌지 않는 주문만 이동
+    private static final Set<OrderStatus> ARCHIVABLE_STATUSES = EnumSet.of(OrderStatus.COMPLETED, OrderStatus.CANCELLED);
+
+    private final OrderRepository orderRepository;
+    private final OrdersArchiveRepository ordersArchiveRepository;
+
+    @Value("${shop.order.archive.retention-days:90}")
+    private long retentionDays;
+
+    @Value("${shop.order.archive.batch-size:1000}")
+    private int batchSize;
+
+    @Transactional(rollbackFor = Exception.class)
+    @Override
+    public int archiveBatch() {
+        List<Long> pks = orderRepository.findArchivablePks(
+                ARCHIVABLE_STATUSES.stream().map(Enum::name).collect(Collectors.toList()),
+                hotCutoff(),
+                batchSize
+        );
+        if (pks.isEmpty()) {
+            return 0;
+        }
+
+        // 같은 트랜잭션에서 복사 후 삭제 (중간에 실패하면 둘 다 롤백)
+        int copied = ordersArchiveRepository.copyFromOrders(pks, LocalDateTime.now());
+        int deleted = orderRepository.deleteByPkIn(pks);
+        if (copied != deleted) {
+            throw new IllegalStateException("Archived " + copied + " orders but deleted " + deleted);
+        }
+        return deleted;
+    }
+
+    // 시작일이 보관 기간 안이거나 진행 중 상태만 찾는 경우는 orders 에만 존재
+    // (기간 조건은 조회 쿼리와 같이 시작일/종료일이 모두 있을 때만 적용)
+    @Override
+    public boolean mayContainArchived(LocalDate startDate, LocalDate endDate, OrderStatus status) {
+        if (status != null && !ARCHIVABLE_STATUSES.contains(status)) {
+            return false;
+        }
+        if (startDate == null || endDate == null) {
+            return true;
+        }
+        return startDate.atStartOfDay().isBefore(hotCutoff());
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<OrderResponseDto> findArchivedOrder(Long orderId) {
+        return ordersArchiveRepository.findOrderResponseById(orderId);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<OrderResponseDto> findArchivedOrders(String customerId, LocalDate startDate, LocalDate endDate, OrderStatus status) {
+        return ordersArchiveRepository.findOrdersWithConditions(customerId, startDate, endDate, status);
+    }
+
+    private LocalDateTime hotCutoff() {
+        return LocalDateTime.now().minusDays(retentionDays);
+    }
+}
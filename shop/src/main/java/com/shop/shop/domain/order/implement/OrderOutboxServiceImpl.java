@@ -0,0 +1,114 @@
+package com.shop.shop.domain.order.implement;
+
+import com.shop.shop.domain.order.OrderOutboxService;
+import com.shop.shop.domain.order.event.OrderEvent;
+import com.shop.shop.domain.order.event.OrderEventSink;
+import com.shop.shop.infrastructure.constant.OrderStatus;
+import com.shop.shop.infrastructure.persistence.order.OrderOutbox;
+import com.shop.shop.infrastructure.persistence.order.OrderOutboxRepository;
+import com.shop.shop.infrastructure.persistence.order.OrderTransitionRow;
+import com.shop.shop.infrastructure.persistence.order.Orders;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Transactional outbox
+// * 주문 상태 변경을 주문과 같은 트랜잭션에서 order_outbox 에 기록 (결제 요청 스레드는 DB insert 만 추가 부담)
+// * relay 가 별도 스레드에서 일괄 조회 → sink 발행 → 발행 완료 표시 순서로 처리 (최소 1회 전달)
+// * 이벤트는 순서대로 하나씩 발행하고, 실패하면 그 앞까지만 발행 완료 표시 후 실패 횟수를 기록하고 중단 (뒤 이벤트는 다음 주기에)
+//   실패 횟수가 max-attempts 에 도달한 이벤트는 failed_at 을 기록해 재발행 대상에서 제외 (dead letter, 보관 기간이 지나도 삭제하지 않음)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderOutboxServiceImpl implements OrderOutboxService {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final OrderEventSink orderEventSink;
+
+    @Value("${shop.order.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${shop.order.outbox.retention-hours:72}")
+    private long retentionHours;
+
+    @Value("${shop.order.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Transactional(rollbackFor = Exception.class)
+    @Override
+    public void recordCreated(List<Orders> orders) {
+        LocalDateTime now = LocalDateTime.now();
+        orderOutboxRepository.saveAll(orders.stream()
+                .map(order -> new OrderOutbox(order, null, now))
+                .collect(Collectors.toList()));
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    @Override
+    public void recordTransition(Orders order, OrderStatus previousStatus) {
+        orderOutboxRepository.save(new OrderOutbox(order, previousStatus, LocalDateTime.now()));
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    @Override
+    public void recordTransitions(List<OrderTransitionRow> rows, OrderStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        orderOutboxRepository.saveAll(rows.stream()
+                .map(row -> new OrderOutbox(row, status, now))
+                .collect(Collectors.toList()));
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    @Override
+    public int relayBatch() {
+        List<OrderOutbox> outboxes = orderOutboxRepository.findUnpublished(PageRequest.of(0, batchSize));
+        if (outboxes.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> publishedPks = new ArrayList<>(outboxes.size());
+        int deadLettered = 0;
+        for (OrderOutbox outbox : outboxes) {
+            try {
+                orderEventSink.publish(List.of(new OrderEvent(outbox)));
+            } catch (RuntimeException e) {
+                deadLettered = recordFailure(outbox, e) ? 1 : 0;
+                break;
+            }
+            publishedPks.add(outbox.getPk());
+        }
+
+        if (!publishedPks.isEmpty()) {
+            orderOutboxRepository.markPublished(publishedPks, LocalDateTime.now());
+        }
+        // 발행 실패로 중단했으면 batch 크기보다 작은 값이 되어 relay 가 다음 주기까지 대기
+        return publishedPks.size() + deadLettered;
+    }
+
+    // 실패 횟수 증가 (발행을 포기하면 true)
+    private boolean recordFailure(OrderOutbox outbox, RuntimeException e) {
+        outbox.setAttempts(outbox.getAttempts() + 1);
+        if (outbox.getAttempts() < maxAttempts) {
+            log.warn("Failed to publish order event {} (attempt {}/{}): {}", outbox.getPk(), outbox.getAttempts(), maxAttempts, e.getMessage());
+            return false;
+        }
+        outbox.setFailedAt(LocalDateTime.now());
+        log.error("Giving up on order event {} after {} attempts (order {}, status {}): {}",
+                outbox.getPk(), outbox.getAttempts(), outbox.getOrderId(), outbox.getStatus(), e.getMessage());
+        return true;
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    @Override
+    public int purgePublished() {
+        return orderOutboxRepository.deletePublishedBefore(LocalDateTime.now().minusHours(retentionHours));
+    }
+}
@@ -2,30 +2,59 @@ package com.shop.shop.domain.order.implement;
 
 import com.shop.shop.application.order.dto.request.OrderConditionDto;
 import com.shop.shop.application.order.dto.request.OrderRequestDto;
+import com.shop.shop.application.order.dto.request.OrderStatusTransitionRequestDto;
+import com.shop.shop.application.order.dto.response.OrderPageResponseDto;
 import com.shop.shop.application.order.dto.response.OrderResponseDto;
+import com.shop.shop.application.order.dto.response.OrderStatusTransitionResponseDto;
+import com.shop.shop.domain.order.CustomerOrderSummaryService;
+import com.shop.shop.domain.order.OrderArchiveService;
+import com.shop.shop.domain.order.OrderOutboxService;
 import com.shop.shop.domain.order.OrderService;
+import com.shop.shop.domain.stock.StockReservationService;
+import com.shop.shop.domain.stock.StripedStockService;
 import com.shop.shop.infrastructure.authentication.JwtTokenProvider;
 import com.shop.shop.infrastructure.constant.OrderStatus;
+import com.shop.shop.infrastructure.event.StockChangePublisher;
 import com.shop.shop.infrastructure.exception.ExceptionList;
 import com.shop.shop.infrastructure.exception.ServiceException;
 import com.shop.shop.infrastructure.persistence.member.Customer;
 import com.shop.shop.infrastructure.persistence.member.CustomerRepository;
 import com.shop.shop.infrastructure.persistence.order.OrderRepository;
+import com.shop.shop.infrastructure.persistence.order.OrderTransitionRow;
 import com.shop.shop.infrastructure.persistence.order.Orders;
 import com.shop.shop.infrastructure.persistence.product.Product;
 import com.shop.shop.infrastructure.persistence.product.ProductRepository;
+import com.shop.shop.infrastructure.util.OptimisticRetry;
+import com.shop.shop.infrastructure.util.SnowflakeIdGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.shop.shop.infrastructure.constant.CacheConstants.REDIS_CACHE;
 
@@ -39,59 +68,134 @@ public class OrderServiceImpl implements OrderService {
     private final CustomerRepository customerRepository;
     private final ProductRepository productRepository;
     private final JwtTokenProvider jwtTokenProvider;
-    private final RedisTemplate<String, Object> redisTemplate;
-
-    private static final String ORDER_PREFIX = "order:";
+    private final CacheManager cacheManager;
+    private final StockReservationService stockReservationService;
+    private final StripedStockService stripedStockService;
+    private final OrderOutboxService orderOutboxService;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+    private final OrderArchiveService orderArchiveService;
+    private final CustomerOrderSummaryService customerOrderSummaryService;
+    private final PlatformTransactionManager transactionManager;
+    private final StockChangePublisher stockChangePublisher;
+
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int TRANSITION_CHUNK_SIZE = 1000;
+
+    // 변경할 상태 → 허용되는 이전 상태
+    private static final Map<OrderStatus, Set<OrderStatus>> ALLOWED_TRANSITIONS = new EnumMap<>(Map.of(
+            OrderStatus.SHIPPING, EnumSet.of(OrderStatus.PENDING),
+            OrderStatus.COMPLETED, EnumSet.of(OrderStatus.PENDING, OrderStatus.SHIPPING),
+            OrderStatus.CANCELLED, EnumSet.of(OrderStatus.PENDING, OrderStatus.SHIPPING)
+    ));
 
 
     @Transactional(rollbackFor = Exception.class)
     @Override
     public List<OrderResponseDto> createOrders(List<OrderRequestDto> orderRequestDtos) {
-        List<OrderResponseDto> responseDtos = new ArrayList<>();
-        List<Long> processedProductIds = new ArrayList<>();
+        if (orderRequestDtos == null || orderRequestDtos.isEmpty()) {
+            throw new ServiceException(ExceptionList.INVALID_REQUEST);
+        }
 
+        // 토큰 검증 (동일 토큰은 한 번만 검증)
+        Set<String> tokens = new HashSet<>();
+        Map<Long, Long> quantityByProduct = new TreeMap<>();  // 상품 ID 오름차순으로 잠금 (주문 간 교착 방지)
+        Set<String> customerIds = new HashSet<>();
         for (OrderRequestDto requestDto : orderRequestDtos) {
-            // 토큰 검증
-            if (!jwtTokenProvider.validateToken(requestDto.getToken())) {
+            if (tokens.add(requestDto.getToken()) && !jwtTokenProvider.validateToken(requestDto.getToken())) {
                 throw new ServiceException(ExceptionList.UNSUPPORTED_TOKEN);
             }
-            // 상품 조회 및 예외 처리
-            Product product = productRepository.findById(requestDto.getProductId())
-                    .orElseThrow(() ->
-                            new ServiceException(ExceptionList.NOT_EXIST_DATA)
-                    );
-
-            // 재고 확인 및 차감
-            if (product.getStockQuantity() < requestDto.getQuantity()) {
-                throw new ServiceException(ExceptionList.NOT_ENOUGH_STOCK);
+            if (requestDto.getProductId() == null || requestDto.getQuantity() == null || requestDto.getQuantity() <= 0) {
+                throw new ServiceException(ExceptionList.INVALID_REQUEST);
             }
-            product.decreaseStockQuantity(requestDto.getQuantity());
-            productRepository.save(product);
+            // 상품별 주문 수량 합산
+            quantityByProduct.merge(requestDto.getProductId(), requestDto.getQuantity(), Long::sum);
+            customerIds.add(requestDto.getCustomerId());
+        }
+
+        // 상품 일괄 조회 (findAllById 한 번)
+        Map<Long, Product> products = productRepository.findAllById(quantityByProduct.keySet()).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        if (products.size() != quantityByProduct.size()) {
+            throw new ServiceException(ExceptionList.NOT_EXIST_DATA);
+        }
 
-            // 고객 정보 조회 및 설정
-            Customer customer = customerRepository.findByCustomerId(requestDto.getCustomerId())
-                    .orElseThrow(() ->
-                            new ServiceException(ExceptionList.NOT_EXIST_DATA)
-                    );
+        // 고객 일괄 조회 (고객별 한 번)
+        Map<String, Customer> customers = customerRepository.findByCustomerIdIn(customerIds).stream()
+                .collect(Collectors.toMap(Customer::getCustomerId, Function.identity()));
+        if (customers.size() != customerIds.size()) {
+            throw new ServiceException(ExceptionList.NOT_EXIST_DATA);
+        }
 
-            // 주문 생성
+        // 재고 확인 및 차감 (상품별 조건부 UPDATE 한 번, 상품 ID 순서로 행 잠금)
+        quantityByProduct.forEach((productId, quantity) -> decreaseStock(products.get(productId), quantity));
+
+        // 주문 생성 (JDBC batch insert)
+        LocalDateTime now = LocalDateTime.now();
+        List<Orders> newOrders = new ArrayList<>(orderRequestDtos.size());
+        for (OrderRequestDto requestDto : orderRequestDtos) {
             Orders newOrder = new Orders(
-                    product,
+                    requestDto.getProductId(),
                     requestDto.getQuantity(),
-                    customer,
+                    customers.get(requestDto.getCustomerId()),
                     OrderStatus.PENDING,
-                    LocalDateTime.now()
+                    now
             );
-            orderRepository.save(newOrder);  // 주문 저장
+            newOrder.setOrderNumber(snowflakeIdGenerator.nextOrderNumber());  // 시간순 주문 번호 발급
+            newOrder.setTotalPrice(totalPriceOf(products.get(requestDto.getProductId()), requestDto.getQuantity()));
+            newOrders.add(newOrder);
+        }
+        orderRepository.saveAll(newOrders);  // 주문 저장
+        orderOutboxService.recordCreated(newOrders);  // 주문 생성 이벤트 기록 (같은 트랜잭션)
+        customerOrderSummaryService.recordCreated(newOrders);  // 고객별 주문 요약 반영
 
-            // 응답 DTO 생성 및 추가
-            OrderResponseDto responseDto = new OrderResponseDto(newOrder);
-            responseDtos.add(responseDto);  // 응답 리스트에 추가
+        // 응답 DTO 생성
+        return newOrders.stream().map(OrderResponseDto::new).collect(Collectors.toList());
+    }
 
-            processedProductIds.add(requestDto.getProductId());
+    // 재고 차감: 조회 후 저장(read-modify-save) 대신 "재고 >= 수량" 조건이 걸린 단일 UPDATE 로 원자적으로 차감
+    // 샤드 여부는 잠금 없이 읽은 상품 기준이므로, 차감에 실패하면 상품 행을 잠근 뒤 샤드 수를 다시 확인해 맞는 쪽에서 차감
+    private void decreaseStock(Product product, Long quantity) {
+        // 샤드 재고 상품은 임의의 샤드에서 차감
+        if (product.isStockStriped()) {
+            decreaseStripedStock(product.getId(), product.getStockStripes(), quantity);
+            return;
         }
 
-        return responseDtos;
+        // 재고 예약 계층 사용 시 Redis 에서 예약 (DB 반영은 스케줄러가 일괄 처리)
+        if (stockReservationService.isEnabled()) {
+            stockReservationService.reserve(product.getId(), quantity);
+            return;
+        }
+
+        int updatedRows = productRepository.decreaseStockQuantity(product.getId(), quantity);
+        if (updatedRows == 0) {
+            // 조회 이후 샤드 재고로 전환됐으면 샤드에서 차감
+            Integer stripes = productRepository.lockStockStripes(product.getId());
+            if (stripes != null && stripes > 1) {
+                stripedStockService.decrease(product.getId(), stripes, quantity);
+                return;
+            }
+            // 상품 존재 여부는 일괄 조회에서 확인했으므로 재고 부족
+            throw new ServiceException(ExceptionList.NOT_ENOUGH_STOCK);
+        }
+        stockChangePublisher.stockChanged(product.getId());  // 커밋 후 재고 변경 알림
+    }
+
+    private void decreaseStripedStock(Long productId, int stripes, Long quantity) {
+        try {
+            stripedStockService.decrease(productId, stripes, quantity);
+        } catch (ServiceException e) {
+            // 조회 이후 단일 재고로 되돌려졌으면 샤드가 없어 재고 부족으로 실패하므로, 잠금 상태에서 확인 후 단일 재고에서 차감
+            if (!ExceptionList.NOT_ENOUGH_STOCK.getCode().equals(e.getCode())) {
+                throw e;
+            }
+            Integer lockedStripes = productRepository.lockStockStripes(productId);
+            if ((lockedStripes != null && lockedStripes > 1) || productRepository.decreaseStockQuantity(productId, quantity) == 0) {
+                throw e;
+            }
+            stockChangePublisher.stockChanged(productId);  // 커밋 후 재고 변경 알림
+        }
     }
 
 
@@ -99,24 +203,43 @@ public class OrderServiceImpl implements OrderService {
     @Override
     @Cacheable(REDIS_CACHE)
     public OrderResponseDto getOrder(Long orderId) {
-        // Redis에 없으면 DB에서 조회
-        Orders order = orderRepository.findById(orderId)
+        // Redis에 없으면 DB에서 조회 (응답 컬럼만 프로젝션), 최근 주문에 없으면 아카이브 조회
+        return orderRepository.findOrderResponseById(orderId)
+                .or(() -> orderArchiveService.findArchivedOrder(orderId))
                 .orElseThrow(() -> new ServiceException(ExceptionList.NOT_EXIST_DATA));
-        return new OrderResponseDto(order);
     }
 
 
+    // 전체 목록은 키셋 페이지 단위로만 조회 (목록 전체를 메모리와 캐시에 올리지 않음)
     @Transactional(readOnly = true)
     @Override
-    @Cacheable(REDIS_CACHE)
-    public List<OrderResponseDto> getAllOrders() {
-        List<Orders> orders = orderRepository.findAllWithCustomer();  // 주문 목록 조회
-        if (orders.isEmpty()) {
+    public OrderPageResponseDto getOrders(Long afterPk, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        List<OrderResponseDto> orders = orderRepository.findOrderPage(afterPk, pageSize + 1);
+        if (orders.isEmpty() && afterPk == null) {
             throw new ServiceException(ExceptionList.NOT_EXIST_DATA);  // 데이터가 없을 경우
         }
-        return orders.stream().map(OrderResponseDto::new).collect(Collectors.toList());
+
+        Long nextCursor = null;
+        if (orders.size() > pageSize) {
+            orders = new ArrayList<>(orders.subList(0, pageSize));
+            nextCursor = orders.get(pageSize - 1).getOrderId();
+        }
+        return new OrderPageResponseDto(orders, nextCursor);
     }
 
+    // 전체 주문을 한 행씩 흘려보냄 (메모리 사용량이 주문 수와 무관)
+    @Transactional(readOnly = true)
+    @Override
+    public void exportOrders(Consumer<OrderResponseDto> consumer) {
+        try (Stream<OrderResponseDto> orders = orderRepository.streamAllOrders()) {
+            orders.forEach(consumer);
+        }
+    }
+
+    @OptimisticRetry
     @Transactional
     @Override
     public OrderResponseDto updateOrder(Long orderId, OrderRequestDto requestDto) {
@@ -140,15 +263,35 @@ public class OrderServiceImpl implements OrderService {
         Long quantityDiff = existingOrder.getQuantity() - requestDto.getQuantity();
 
         // 재고 처리 로직
-        if (quantityDiff > 0) {
-            product.decreaseStockQuantity(quantityDiff);
-        } else if (quantityDiff < 0) {
-            product.increaseStock(-quantityDiff);
+        if (product.isStockStriped()) {
+            // 샤드 재고 상품은 샤드에 반영
+            if (quantityDiff > 0) {
+                stripedStockService.decrease(product.getId(), product.getStockStripes(), quantityDiff);
+            } else if (quantityDiff < 0) {
+                stripedStockService.increase(product.getId(), product.getStockStripes(), -quantityDiff);
+            }
+        } else {
+            // 상품 조회 후 저장 대신 단일 UPDATE 로 반영 (다른 주문의 재고 차감과 version 충돌하지 않음)
+            if (quantityDiff > 0) {
+                if (productRepository.decreaseStockQuantity(product.getId(), quantityDiff) == 0) {
+                    throw new ServiceException(ExceptionList.NOT_ENOUGH_STOCK);
+                }
+            } else if (quantityDiff < 0) {
+                productRepository.increaseStockQuantity(product.getId(), -quantityDiff);
+            }
+            stockReservationService.applyStockChange(product.getId(), -quantityDiff);  // 예약 계층 미러 반영
+            if (quantityDiff != 0) {
+                stockChangePublisher.stockChanged(product.getId());  // 커밋 후 재고 변경 알림
+            }
         }
-        productRepository.save(product);  // 재고 변경 사항 저장
 
+        Long previousTotalPrice = existingOrder.getTotalPrice();
         existingOrder.setQuantity(requestDto.getQuantity());
+        existingOrder.setTotalPrice(totalPriceOf(product, requestDto.getQuantity()));
         orderRepository.save(existingOrder);  // 주문 수정
+        customerOrderSummaryService.recordChanged(existingOrder, -quantityDiff,
+                nullToZero(existingOrder.getTotalPrice()) - nullToZero(previousTotalPrice));  // 고객별 주문 요약 반영
+        evictOrderCache(List.of(orderId));  // 캐시 삭제
 
 
         return new OrderResponseDto(existingOrder);
@@ -159,38 +302,196 @@ public class OrderServiceImpl implements OrderService {
     @Override
     @Cacheable(REDIS_CACHE)
     public List<OrderResponseDto> getOrdersWithConditions(OrderConditionDto conditionDto) {
-        List<Orders> orders = orderRepository.findOrdersWithConditions(
+        List<OrderResponseDto> orders = orderRepository.findOrdersWithConditions(
                 conditionDto.getCustomerId(),
                 conditionDto.getStartDate(),
                 conditionDto.getEndDate(),
                 conditionDto.getStatus()
         );
 
+        // 조회 기간/상태상 아카이브에 있을 수 있는 경우에만 orders_archive 도 조회
+        if (orderArchiveService.mayContainArchived(
+                conditionDto.getStartDate(), conditionDto.getEndDate(), conditionDto.getStatus())) {
+            List<OrderResponseDto> archived = orderArchiveService.findArchivedOrders(
+                    conditionDto.getCustomerId(),
+                    conditionDto.getStartDate(),
+                    conditionDto.getEndDate(),
+                    conditionDto.getStatus()
+            );
+            if (!archived.isEmpty()) {
+                orders = new ArrayList<>(orders);
+                orders.addAll(archived);
+            }
+        }
+
         if (orders.isEmpty()) {
             throw new ServiceException(ExceptionList.NOT_EXIST_DATA);
         }
 
-        return orders.stream().map(OrderResponseDto::new).collect(Collectors.toList());
+        return orders;
     }
 
+    @OptimisticRetry
     @Transactional
     @Override
     public void cancelOrder(Long orderId) {
         Orders order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new ServiceException(ExceptionList.NOT_EXIST_DATA));  // 주문이 없을 경우
 
+        // 취소할 수 없는 상태(이미 취소/완료)면 재고를 복구하지 않고 거부
+        OrderStatus previousStatus = order.getStatus();
+        if (!ALLOWED_TRANSITIONS.get(OrderStatus.CANCELLED).contains(previousStatus)) {
+            throw new ServiceException(ExceptionList.INVALID_REQUEST);
+        }
+
         Product product = productRepository.findById(order.getProductId())
                 .orElseThrow(() -> new ServiceException(ExceptionList.NOT_EXIST_DATA));  // 상품이 없을 경우
 
-        product.increaseStock(order.getQuantity());  // 주문 취소 시 재고 복구
-        productRepository.save(product);  // 재고 저장
+        // 주문 취소 시 재고 복구
+        if (product.isStockStriped()) {
+            stripedStockService.increase(product.getId(), product.getStockStripes(), order.getQuantity());
+        } else {
+            productRepository.increaseStockQuantity(product.getId(), order.getQuantity());  // 단일 UPDATE 로 재고 복구
+            stockReservationService.applyStockChange(product.getId(), order.getQuantity());  // 예약 계층 미러 반영
+            stockChangePublisher.stockChanged(product.getId());  // 커밋 후 재고 변경 알림
+        }
 
         order.setStatus(OrderStatus.CANCELLED);  // 주문 상태를 CANCELLED로 변경
         orderRepository.save(order);  // 주문 상태 업데이트
+        orderOutboxService.recordTransition(order, previousStatus);  // 상태 변경 이벤트 기록 (같은 트랜잭션)
+        customerOrderSummaryService.recordTransition(order, previousStatus);  // 고객별 주문 요약 반영
+        evictOrderCache(List.of(orderId));  // 캐시 삭제
+    }
+
+    // 일괄 상태 변경: chunk 마다 별도 트랜잭션에서 잠금 조회 → UPDATE ... WHERE pk IN → 재고/이벤트/요약 반영
+    @Override
+    public OrderStatusTransitionResponseDto transitionOrders(OrderStatusTransitionRequestDto requestDto) {
+        OrderStatus status = requestDto.getStatus();
+        Set<OrderStatus> fromStatuses = status == null ? null : ALLOWED_TRANSITIONS.get(status);
+        if (fromStatuses == null || fromStatuses.isEmpty()) {
+            throw new ServiceException(ExceptionList.INVALID_REQUEST);
+        }
+
+        List<Long> orderIds = resolveTransitionTargets(requestDto, fromStatuses);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<Long> chunkMillis = new ArrayList<>();
+        int updated = 0;
+        long begin = System.nanoTime();
+        for (int from = 0; from < orderIds.size(); from += TRANSITION_CHUNK_SIZE) {
+            List<Long> chunk = orderIds.subList(from, Math.min(from + TRANSITION_CHUNK_SIZE, orderIds.size()));
+            long chunkBegin = System.nanoTime();
+            Integer chunkUpdated = transactionTemplate.execute(tx -> transitionChunk(chunk, fromStatuses, status));
+            updated += chunkUpdated == null ? 0 : chunkUpdated;
+            chunkMillis.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - chunkBegin));
+        }
+        long totalMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+        log.info("Transitioned {}/{} orders to {} in {} chunks ({} ms)", updated, orderIds.size(), status, chunkMillis.size(), totalMillis);
+
+        return new OrderStatusTransitionResponseDto(status, orderIds.size(), updated, chunkMillis, totalMillis);
+    }
+
+    private List<Long> resolveTransitionTargets(OrderStatusTransitionRequestDto requestDto, Set<OrderStatus> fromStatuses) {
+        boolean hasIds = requestDto.getOrderIds() != null && !requestDto.getOrderIds().isEmpty();
+        OrderConditionDto condition = requestDto.getCondition();
+        if (hasIds == (condition != null)) {
+            throw new ServiceException(ExceptionList.INVALID_REQUEST);  // 주문 ID 목록과 조건 중 하나만
+        }
+        if (hasIds) {
+            if (requestDto.getOrderIds().contains(null)) {
+                throw new ServiceException(ExceptionList.INVALID_REQUEST);
+            }
+            return new ArrayList<>(new LinkedHashSet<>(requestDto.getOrderIds()));
+        }
+
+        // 조건은 고객 ID 필수, 기간은 시작/종료 둘 다 주거나 둘 다 생략 (한쪽만 주면 전체 기간으로 넓어지지 않도록 거부)
+        if (condition.getCustomerId() == null || condition.getCustomerId().isBlank()
+                || (condition.getStartDate() == null) != (condition.getEndDate() == null)) {
+            throw new ServiceException(ExceptionList.INVALID_REQUEST);
+        }
+
+        // 조건의 상태는 허용된 이전 상태와 겹치는 경우만 대상
+        Set<OrderStatus> statuses = fromStatuses;
+        if (condition.getStatus() != null) {
+            if (!fromStatuses.contains(condition.getStatus())) {
+                return List.of();
+            }
+            statuses = EnumSet.of(condition.getStatus());
+        }
+        return orderRepository.findOrderPksWithConditions(
+                condition.getCustomerId(), condition.getStartDate(), condition.getEndDate(), statuses);
+    }
+
+    private int transitionChunk(List<Long> orderIds, Set<OrderStatus> fromStatuses, OrderStatus status) {
+        List<OrderTransitionRow> rows = orderRepository.findTransitionRowsForUpdate(orderIds, fromStatuses);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        List<Long> pks = rows.stream().map(OrderTransitionRow::getPk).collect(Collectors.toList());
+        int updated = orderRepository.updateStatus(pks, fromStatuses, status);
+
+        // 취소는 상품별로 수량을 합쳐 상품당 재고 UPDATE 한 번
+        if (status == OrderStatus.CANCELLED) {
+            Map<Long, Long> quantityByProduct = new TreeMap<>();  // 상품 ID 오름차순으로 잠금
+            rows.forEach(row -> quantityByProduct.merge(row.getProductId(), row.getQuantity(), Long::sum));
+            restoreStock(quantityByProduct);
+        }
+
+        orderOutboxService.recordTransitions(rows, status);  // 상태 변경 이벤트 기록 (같은 트랜잭션)
+        customerOrderSummaryService.recordTransitions(rows, status);  // 고객별 주문 요약 반영
+        evictOrderCache(pks);  // 캐시 삭제
+        return updated;
+    }
+
+    private void restoreStock(Map<Long, Long> quantityByProduct) {
+        Map<Long, Product> products = productRepository.findAllById(quantityByProduct.keySet()).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        quantityByProduct.forEach((productId, quantity) -> {
+            Product product = products.get(productId);
+            if (product != null && product.isStockStriped()) {
+                stripedStockService.increase(productId, product.getStockStripes(), quantity);
+            } else {
+                productRepository.increaseStockQuantity(productId, quantity);
+                stockReservationService.applyStockChange(productId, quantity);  // 예약 계층 미러 반영
+                stockChangePublisher.stockChanged(productId);  // 커밋 후 재고 변경 알림
+            }
+        });
+    }
+
+    // getOrder 캐시(REDIS_CACHE::<주문 pk>) 제거
+    // * 커밋 후에 제거해야 커밋 전에 다시 조회된 이전 상태가 캐시에 남지 않음
+    // * 제거에 실패해도 캐시 TTL 로 만료되므로 로그만 남김 (커밋된 요청을 실패로 응답하지 않음)
+    private void evictOrderCache(Collection<Long> orderIds) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictOrderCacheNow(orderIds);
+                }
+            });
+        } else {
+            evictOrderCacheNow(orderIds);
+        }
+    }
+
+    private void evictOrderCacheNow(Collection<Long> orderIds) {
+        try {
+            Cache cache = cacheManager.getCache(REDIS_CACHE);
+            if (cache != null) {
+                orderIds.forEach(cache::evict);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to evict order cache for {} orders: {}", orderIds.size(), e.getMessage());
+        }
+    }
+
+    // 주문 금액 = 상품 가격 * 수량 (가격 미등록 상품은 null)
+    private Long totalPriceOf(Product product, Long quantity) {
+        return product.getPrice() == null ? null : product.getPrice() * quantity;
+    }
 
-        // 캐시 삭제
-        String cacheKey = ORDER_PREFIX + orderId;
-        redisTemplate.delete(cacheKey);
+    private long nullToZero(Long value) {
+        return value == null ? 0L : value;
     }
 
 }
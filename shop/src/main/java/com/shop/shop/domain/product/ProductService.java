@@ -3,8 +3,13 @@ package com.shop.shop.domain.product;
 import com.shop.shop.application.product.dto.ProductResponseDto;
 import com.shop.shop.application.product.dto.SearchProductFilterDto;
 import com.shop.shop.application.product.dto.SearchResponseDto;
+import com.shop.shop.application.product.dto.SuggestionDto;
+
+import java.util.List;
 
 public interface ProductService {
     SearchResponseDto searchProducts(SearchProductFilterDto filterDto);
     ProductResponseDto getProductDetail(Long id);
+    void stripeStock(Long id, int stripes);
+    List<SuggestionDto> suggest(String query, Integer limit);
 }
@@ -1,16 +1,24 @@
 package com.shop.shop.domain.product.implement;
 
+import com.shop.shop.application.product.dto.ProductCardDto;
 import com.shop.shop.application.product.dto.ProductResponseDto;
 import com.shop.shop.application.product.dto.SearchProductFilterDto;
 import com.shop.shop.application.product.dto.SearchResponseDto;
+import com.shop.shop.application.product.dto.SuggestionDto;
 import com.shop.shop.domain.product.ProductService;
+import com.shop.shop.domain.stock.StripedStockService;
+import com.shop.shop.infrastructure.constant.SearchSort;
 import com.shop.shop.infrastructure.exception.ExceptionList;
 import com.shop.shop.infrastructure.exception.ServiceException;
 import com.shop.shop.infrastructure.persistence.product.Product;
 import com.shop.shop.infrastructure.persistence.product.ProductRepository;
+import com.shop.shop.infrastructure.persistence.product.ProductSearchFacets;
+import com.shop.shop.infrastructure.persistence.product.ProductSearchPage;
+import com.shop.shop.infrastructure.search.ProductSuggestIndex;
+import com.shop.shop.infrastructure.search.SearchCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,8 +27,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import static com.shop.shop.infrastructure.constant.CacheConstants.REDIS_CACHE;
-
 
 @Service
 @RequiredArgsConstructor
@@ -30,26 +36,43 @@ public class ProductServiceImpl implements ProductService {
     private final ProductRepository productRepository;
     private final RedisTemplate<String, Long> redisTemplate;
     private final RedisTemplate<String, Long> redisTemplateForInteger;
+    private final StripedStockService stripedStockService;
+    private final ProductSuggestIndex productSuggestIndex;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Value("${shop.search.histogram-buckets:10}")
+    private int histogramBuckets; // 가격 히스토그램 구간 수
 
+    // 응답은 캐시하지 않음 (필터 전체를 키로 캐시하면 재고 변경이 재고 필터/집계에 반영되지 않고, 조회는 색인에서 처리)
     @Transactional(readOnly = true)
-    @Cacheable(REDIS_CACHE)
     @Override
     public SearchResponseDto searchProducts(SearchProductFilterDto filterDto) {
         if (filterDto.getKeyword() == null || filterDto.getKeyword().isEmpty()) {
             throw new ServiceException(ExceptionList.BAD_REQUEST);
         }
 
-        List<Product> products = productRepository.searchByKeywordAndCategory(filterDto);
-
-        if (products.isEmpty()) {
-            return new SearchResponseDto(Collections.emptyList(), 0L, 0L, Collections.emptyList());
+        int size = filterDto.getSize() != null ? filterDto.getSize() : DEFAULT_PAGE_SIZE;
+        if (size < 1) {
+            throw new ServiceException(ExceptionList.BAD_REQUEST);
         }
-
-        Long minPrice = products.stream().map(Product::getPrice).min(Long::compare).orElse(0L);
-        Long maxPrice = products.stream().map(Product::getPrice).max(Long::compare).orElse(0L);
-        List<Boolean> stockAvailability = products.stream().map(Product::isInStock).collect(Collectors.toList());
-
-        return new SearchResponseDto(products, minPrice, maxPrice, stockAvailability);
+        size = Math.min(size, MAX_PAGE_SIZE);
+        SearchSort sort = filterDto.getSort() != null ? filterDto.getSort() : SearchSort.RELEVANCE;
+        SearchCursor cursor = SearchCursor.parse(filterDto.getCursor());
+
+        ProductSearchPage page = productRepository.searchByKeywordAndCategory(filterDto, sort, cursor, size);
+        List<ProductCardDto> products = page.getProducts();
+        String nextCursor = page.getNextCursor() != null ? page.getNextCursor().toString() : null;
+        List<Boolean> stockAvailability = products.stream().map(ProductCardDto::isInStock).collect(Collectors.toList());
+
+        // 집계는 DB/색인에서 계산하고 첫 페이지에서만 조회 (다음 페이지는 첫 응답 값을 그대로 사용)
+        if (cursor != null) {
+            return new SearchResponseDto(products, stockAvailability, null, null, null, null, null, null, nextCursor);
+        }
+        ProductSearchFacets facets = productRepository.facetsByKeywordAndCategory(filterDto, histogramBuckets);
+        return new SearchResponseDto(products, stockAvailability, facets.getMinPrice(), facets.getMaxPrice(),
+                facets.getTotalCount(), facets.getInStockCount(), facets.getCategoryCounts(), facets.getPriceHistogram(), nextCursor);
     }
 
     @Transactional(readOnly = true)
@@ -62,6 +85,25 @@ public class ProductServiceImpl implements ProductService {
         return new ProductResponseDto(product);
     }
 
+    @Override
+    public void stripeStock(Long id, int stripes) {
+        stripedStockService.stripe(id, stripes);
+    }
+
+    @Override
+    public List<SuggestionDto> suggest(String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            return Collections.emptyList();
+        }
+        if (limit != null && limit < 1) {
+            throw new ServiceException(ExceptionList.BAD_REQUEST);
+        }
+        int size = limit != null ? Math.min(limit, productSuggestIndex.getMaxResults()) : productSuggestIndex.getMaxResults();
+        return productSuggestIndex.suggest(query, size).stream()
+                .map(SuggestionDto::new)
+                .collect(Collectors.toList());
+    }
+
     public void increaseViewCount(Long id) {
         String key = "product:view" + id;
 
@@ -72,6 +114,7 @@ public class ProductServiceImpl implements ProductService {
             } else {
                 redisTemplateForInteger.opsForValue().increment(key); // 조회수 증가
             }
+            productSuggestIndex.recordView(id); // 자동완성 인기도 반영
 
         }
     }
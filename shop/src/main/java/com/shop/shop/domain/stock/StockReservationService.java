@@ -0,0 +1,11 @@
+package com.shop.shop.domain.stock;
+
+public interface StockReservationService {
+
+    boolean isEnabled();
+    void reserve(Long productId, Long quantity);
+    void applyStockChange(Long productId, Long delta);
+    void flushPendingReservations();
+    void reconcile();
+
+}
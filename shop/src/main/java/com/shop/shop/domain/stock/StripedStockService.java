@@ -0,0 +1,10 @@
+package com.shop.shop.domain.stock;
+
+public interface StripedStockService {
+
+    void stripe(Long productId, int stripes);
+    void decrease(Long productId, int stripes, Long quantity);
+    void increase(Long productId, int stripes, Long quantity);
+    int refreshAggregatedStock();
+
+}
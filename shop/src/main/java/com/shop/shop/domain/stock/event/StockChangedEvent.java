@@ -0,0 +1,16 @@
+package com.shop.shop.domain.stock.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 상품 재고(Product.stockQuantity) 변경 알림 - 변경이 커밋된 뒤 서버 내부로 발행
+// 변경량은 싣지 않으므로 소비자는 필요하면 현재 값을 다시 읽어야 함
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockChangedEvent {
+
+    private Long productId;
+
+}
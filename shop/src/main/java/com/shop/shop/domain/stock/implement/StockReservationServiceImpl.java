@@ -0,0 +1,324 @@
+package com.shop.shop.domain.stock.implement;
+
+import com.shop.shop.domain.stock.StockReservationService;
+import com.shop.shop.infrastructure.event.StockChangePublisher;
+import com.shop.shop.infrastructure.exception.ExceptionList;
+import com.shop.shop.infrastructure.exception.ServiceException;
+import com.shop.shop.infrastructure.persistence.product.Product;
+import com.shop.shop.infrastructure.persistence.product.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+// Redis 재고 예약 계층
+// * 상품 재고를 Redis(stock:{productId})에 미러링하고, 재고 확인과 차감을 Lua 스크립트 한 번으로 처리
+// * 예약 수량은 stock:pending 해시에 상품별로 누적되고, 스케줄러가 주기적으로 MySQL 에 일괄 반영
+// * 미러 값은 "DB 재고 - 미반영 예약 수량" 을 유지
+// * 상품별 세대 번호(stock:generation)는 DB 재고가 바뀔 때마다 증가하며, 재조정은 DB 조회 전후 세대가 같을 때만 미러를 덮어씀
+// * 일괄 반영은 "반영 번호:수량" 표식(stock:flushing)을 먼저 남기고, DB UPDATE 가 같은 번호를 상품 행에 기록함
+//   커밋 후 Redis 정리가 실패해도 다음 반영은 같은 표식으로 재시도하고, DB 에 이미 기록된 번호면 차감 없이 정리만 수행
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReservationServiceImpl implements StockReservationService {
+
+    private static final String STOCK_KEY_PREFIX = "stock:";
+    private static final String PENDING_KEY = "stock:pending";
+    private static final String MIRRORED_KEY = "stock:mirrored";
+    private static final String GENERATION_KEY = "stock:generation";
+    private static final String FLUSHING_KEY = "stock:flushing";
+    private static final String FLUSH_SEQUENCE_KEY = "stock:flush-sequence";
+
+    private static final long NOT_LOADED = -1L;
+    private static final long NOT_ENOUGH = -2L;
+
+    // KEYS[1] = stock:{id}, KEYS[2] = stock:pending / ARGV[1] = productId, ARGV[2] = quantity
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(
+            "local stock = redis.call('GET', KEYS[1]) " +
+            "if not stock then return -1 end " +
+            "local quantity = tonumber(ARGV[2]) " +
+            "if tonumber(stock) < quantity then return -2 end " +
+            "redis.call('DECRBY', KEYS[1], quantity) " +
+            "redis.call('HINCRBY', KEYS[2], ARGV[1], quantity) " +
+            "return 1", Long.class);
+
+    // 예약 취소 (트랜잭션 롤백 시): 미러 재고 복구 + 미반영 예약 수량 차감
+    private static final RedisScript<Long> CANCEL_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then redis.call('INCRBY', KEYS[1], ARGV[2]) end " +
+            "redis.call('HINCRBY', KEYS[2], ARGV[1], -tonumber(ARGV[2])) " +
+            "return 1", Long.class);
+
+    // 미러 적재: 키가 없을 때만 "DB 재고 - 미반영 예약 수량" 으로 설정 / ARGV[2] = DB 재고
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then " +
+            "  local pending = tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0') " +
+            "  redis.call('SET', KEYS[1], tonumber(ARGV[2]) - pending) " +
+            "  redis.call('SADD', KEYS[3], ARGV[1]) " +
+            "end " +
+            "return 1", Long.class);
+
+    // 일괄 반영 준비: 끝나지 않은 표식이 있으면 그대로 반환, 없으면 미반영 수량으로 새 표식 생성 (미반영 수량이 0 이면 nil)
+    // 반영 번호는 상품별로 단조 증가 (이전 번호 + 1 과 ARGV[2] 중 큰 값, Redis 데이터가 초기화돼도 DB 의 번호보다 커지도록 현재 시각 기준)
+    // KEYS[1] = stock:pending, KEYS[2] = stock:flushing, KEYS[3] = stock:flush-sequence / ARGV[1] = productId, ARGV[2] = 최소 반영 번호
+    private static final RedisScript<String> PREPARE_FLUSH_SCRIPT = new DefaultRedisScript<>(
+            "local marker = redis.call('HGET', KEYS[2], ARGV[1]) " +
+            "if marker then return marker end " +
+            "local quantity = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0') " +
+            "if quantity == 0 then return false end " +
+            "local sequence = math.max(tonumber(redis.call('HGET', KEYS[3], ARGV[1]) or '0') + 1, tonumber(ARGV[2])) " +
+            "sequence = string.format('%.0f', sequence) " +
+            "marker = sequence .. ':' .. string.format('%.0f', quantity) " +
+            "redis.call('HSET', KEYS[3], ARGV[1], sequence) " +
+            "redis.call('HSET', KEYS[2], ARGV[1], marker) " +
+            "return marker", String.class);
+
+    // 일괄 반영 커밋 후: 표식이 그대로일 때만 반영한 만큼 미반영 수량 차감 + 세대 증가 + 표식 삭제 (여러 번 실행해도 한 번만 적용)
+    // KEYS[1] = stock:pending, KEYS[2] = stock:generation, KEYS[3] = stock:flushing / ARGV[1] = productId, ARGV[2] = 표식, ARGV[3] = 반영 수량
+    private static final RedisScript<Long> FLUSHED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HGET', KEYS[3], ARGV[1]) ~= ARGV[2] then return 0 end " +
+            "redis.call('HDEL', KEYS[3], ARGV[1]) " +
+            "redis.call('HINCRBY', KEYS[1], ARGV[1], -tonumber(ARGV[3])) " +
+            "redis.call('HINCRBY', KEYS[2], ARGV[1], 1) " +
+            "return 1", Long.class);
+
+    // DB 에 반영하지 못한 표식 삭제 (미반영 수량은 그대로 유지) / KEYS[1] = stock:flushing / ARGV[1] = productId, ARGV[2] = 표식
+    private static final RedisScript<Long> ABORT_FLUSH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HGET', KEYS[1], ARGV[1]) ~= ARGV[2] then return 0 end " +
+            "redis.call('HDEL', KEYS[1], ARGV[1]) " +
+            "return 1", Long.class);
+
+    // DB 에서 직접 변경된 재고(주문 취소/수정)를 미러에 반영 (미러가 있을 때만) + 세대 증가
+    // KEYS[1] = stock:{id}, KEYS[2] = stock:generation / ARGV[1] = 변경량, ARGV[2] = productId
+    private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HINCRBY', KEYS[2], ARGV[2], 1) " +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call('INCRBY', KEYS[1], ARGV[1]) end " +
+            "return 0", Long.class);
+
+    // 재조정: 미반영 예약과 진행 중인 일괄 반영이 없고 DB 조회 이후 재고 변경이 없었을 때만 미러를 DB 재고로 덮어씀
+    // KEYS[1] = stock:{id}, KEYS[2] = stock:pending, KEYS[3] = stock:generation, KEYS[4] = stock:flushing
+    // ARGV[1] = productId, ARGV[2] = DB 재고, ARGV[3] = DB 조회 전에 읽은 세대
+    private static final RedisScript<Long> RECONCILE_SCRIPT = new DefaultRedisScript<>(
+            "local pending = tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0') " +
+            "if pending ~= 0 then return 0 end " +
+            "if redis.call('HEXISTS', KEYS[4], ARGV[1]) == 1 then return 0 end " +
+            "local generation = redis.call('HGET', KEYS[3], ARGV[1]) or '0' " +
+            "if generation ~= ARGV[3] then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[2]) " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ProductRepository productRepository;
+    private final StockChangePublisher stockChangePublisher;
+
+    @Value("${shop.stock.reservation.enabled:false}")
+    private boolean enabled;
+
+    @Value("${shop.stock.reservation.reconcile-batch-size:500}")
+    private int reconcileBatchSize;
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void reserve(Long productId, Long quantity) {
+        long result = executeReserve(productId, quantity);
+        if (result == NOT_LOADED) {
+            // 미러가 없으면 DB 재고로 적재 후 재시도
+            loadMirror(productId);
+            result = executeReserve(productId, quantity);
+        }
+        if (result == NOT_ENOUGH) {
+            throw new ServiceException(ExceptionList.NOT_ENOUGH_STOCK);
+        }
+        if (result != 1L) {
+            throw new ServiceException(ExceptionList.INTERNAL_SERVER_ERROR);
+        }
+
+        // 주문 트랜잭션이 롤백되면 예약도 취소
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        cancelReservation(productId, quantity);
+                    }
+                }
+            });
+        }
+    }
+
+    @Override
+    public void applyStockChange(Long productId, Long delta) {
+        if (!enabled || delta == null || delta == 0) {
+            return;
+        }
+        // DB 변경이 커밋된 뒤에 미러 반영
+        runAfterCommit(() -> stringRedisTemplate.execute(
+                ADJUST_SCRIPT, List.of(stockKey(productId), GENERATION_KEY), String.valueOf(delta), productId.toString()));
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    @Override
+    public void flushPendingReservations() {
+        // 미반영 수량이 있는 상품 + 이전 반영의 Redis 정리가 끝나지 않은 상품
+        Set<String> productIds = new TreeSet<>();
+        stringRedisTemplate.opsForHash().keys(PENDING_KEY).forEach(productId -> productIds.add(productId.toString()));
+        stringRedisTemplate.opsForHash().keys(FLUSHING_KEY).forEach(productId -> productIds.add(productId.toString()));
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        long minimumSequence = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+        for (String id : productIds) {
+            Long productId = Long.valueOf(id);
+            String marker = stringRedisTemplate.execute(
+                    PREPARE_FLUSH_SCRIPT,
+                    List.of(PENDING_KEY, FLUSHING_KEY, FLUSH_SEQUENCE_KEY),
+                    id,
+                    String.valueOf(minimumSequence));
+            if (marker == null) {
+                continue;
+            }
+            int separator = marker.indexOf(':');
+            long sequence = Long.parseLong(marker.substring(0, separator));
+            long quantity = Long.parseLong(marker.substring(separator + 1));
+
+            if (productRepository.applyReservationFlush(productId, quantity, sequence) > 0) {
+                stockChangePublisher.stockChanged(productId);  // 커밋 후 재고 변경 알림
+            } else if (!isFlushApplied(productId, sequence)) {
+                // 미러와 DB 가 어긋난 경우: 미반영 수량을 그대로 남겨 미러가 DB 재고보다 낮게 유지되도록 함
+                // (미반영 수량이 남아 있으면 재조정도 미러를 덮어쓰지 않으므로 초과 판매가 생기지 않음)
+                log.error("Stock reservation flush failed for product {} (quantity {}), keeping it pending", productId, quantity);
+                stringRedisTemplate.execute(ABORT_FLUSH_SCRIPT, List.of(FLUSHING_KEY), id, marker);
+                continue;
+            }
+            // 이미 반영된 표식이면 DB 는 건너뛰고 Redis 정리만 다시 수행
+
+            // DB 반영이 커밋된 뒤에 반영한 만큼만 미반영 수량에서 차감 (그 사이 들어온 예약은 유지)
+            runAfterCommit(() -> stringRedisTemplate.execute(
+                    FLUSHED_SCRIPT,
+                    List.of(PENDING_KEY, GENERATION_KEY, FLUSHING_KEY),
+                    id,
+                    marker,
+                    String.valueOf(quantity)));
+        }
+    }
+
+    // 같은 번호가 이미 DB 에 반영됐는지 (다른 반영이 커밋한 최신 값을 읽도록 잠금 조회)
+    private boolean isFlushApplied(Long productId, long sequence) {
+        return productRepository.findByIdForUpdate(productId)
+                .map(Product::getReservationFlushSequence)
+                .map(applied -> applied >= sequence)
+                .orElse(false);
+    }
+
+    // 배치마다 DB 를 새로 조회해야 세대 비교가 의미 있으므로 트랜잭션(스냅샷)으로 묶지 않음
+    @Override
+    public void reconcile() {
+        Set<String> mirrored = stringRedisTemplate.opsForSet().members(MIRRORED_KEY);
+        if (mirrored == null || mirrored.isEmpty()) {
+            return;
+        }
+
+        List<Long> batch = new ArrayList<>(reconcileBatchSize);
+        for (String productId : mirrored) {
+            batch.add(Long.valueOf(productId));
+            if (batch.size() == reconcileBatchSize) {
+                reconcileBatch(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            reconcileBatch(batch);
+        }
+    }
+
+    private void reconcileBatch(List<Long> productIds) {
+        // DB 조회 전에 세대를 먼저 읽어, 조회 이후 커밋된 재고 변경이 있으면 덮어쓰지 않음
+        List<Object> fields = new ArrayList<>(productIds.size());
+        productIds.forEach(productId -> fields.add(productId.toString()));
+        List<Object> generations = stringRedisTemplate.opsForHash().multiGet(GENERATION_KEY, fields);
+        Map<Long, String> generationById = new HashMap<>(productIds.size() * 2);
+        for (int i = 0; i < productIds.size(); i++) {
+            Object generation = generations == null ? null : generations.get(i);
+            generationById.put(productIds.get(i), generation == null ? "0" : generation.toString());
+        }
+
+        for (Product product : productRepository.findAllById(productIds)) {
+            stringRedisTemplate.execute(
+                    RECONCILE_SCRIPT,
+                    List.of(stockKey(product.getId()), PENDING_KEY, GENERATION_KEY, FLUSHING_KEY),
+                    product.getId().toString(),
+                    product.getStockQuantity().toString(),
+                    generationById.get(product.getId()));
+        }
+    }
+
+    private long executeReserve(Long productId, Long quantity) {
+        Long result = stringRedisTemplate.execute(
+                RESERVE_SCRIPT,
+                List.of(stockKey(productId), PENDING_KEY),
+                productId.toString(),
+                quantity.toString());
+        if (result == null) {
+            throw new ServiceException(ExceptionList.INTERNAL_SERVER_ERROR);
+        }
+        return result;
+    }
+
+    private void loadMirror(Long productId) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new ServiceException(ExceptionList.NOT_EXIST_DATA));
+        stringRedisTemplate.execute(
+                LOAD_SCRIPT,
+                List.of(stockKey(productId), PENDING_KEY, MIRRORED_KEY),
+                productId.toString(),
+                product.getStockQuantity().toString());
+    }
+
+    private void cancelReservation(Long productId, Long quantity) {
+        try {
+            stringRedisTemplate.execute(
+                    CANCEL_SCRIPT,
+                    List.of(stockKey(productId), PENDING_KEY),
+                    productId.toString(),
+                    quantity.toString());
+        } catch (Exception e) {
+            log.error("Failed to cancel stock reservation for product {}: {}", productId, e.getMessage());
+        }
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private String stockKey(Long productId) {
+        return STOCK_KEY_PREFIX + productId;
+    }
+}
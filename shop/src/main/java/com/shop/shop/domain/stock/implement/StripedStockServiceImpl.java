@@ -0,0 +1,127 @@
+package com.shop.shop.domain.stock.implement;
+
+import com.shop.shop.domain.stock.StripedStockService;
+import com.shop.shop.infrastructure.event.StockChangePublisher;
+import com.shop.shop.infrastructure.exception.ExceptionList;
+import com.shop.shop.infrastructure.exception.ServiceException;
+import com.shop.shop.infrastructure.persistence.product.Product;
+import com.shop.shop.infrastructure.persistence.product.ProductRepository;
+import com.shop.shop.infrastructure.persistence.product.ProductStockShard;
+import com.shop.shop.infrastructure.persistence.product.ProductStockShardRepository;
+import com.shop.shop.infrastructure.util.OptimisticRetry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 샤드(striped) 재고
+// * 주문이 몰리는 상품의 재고를 product_stock_shard 의 N 개 row 로 분산해 row lock 경합을 줄임
+// * 주문은 임의의 샤드에서 조건부 차감을 시도하고, 부족하면 이웃 샤드로 넘어감
+// * Product.stockQuantity 는 스케줄러가 샤드 합계로 주기적으로 갱신 (재고 여부/검색 필터용), 갱신 후 재고 변경 알림 발행
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StripedStockServiceImpl implements StripedStockService {
+
+    private static final int MAX_STRIPES = 64;
+
+    private final ProductRepository productRepository;
+    private final ProductStockShardRepository productStockShardRepository;
+    private final StockChangePublisher stockChangePublisher;
+
+    // Product 의 @Version 충돌 시 새 트랜잭션으로 재시도 (소진되면 CONCURRENT_MODIFICATION)
+    @OptimisticRetry
+    @Transactional(rollbackFor = Exception.class)
+    @Override
+    public void stripe(Long productId, int stripes) {
+        if (stripes < 1 || stripes > MAX_STRIPES) {
+            throw new ServiceException(ExceptionList.INVALID_REQUEST);
+        }
+
+        Product product = productRepository.findByIdForUpdate(productId)
+                .orElseThrow(() -> new ServiceException(ExceptionList.NOT_EXIST_DATA));
+
+        // 기존 샤드 재고를 합산해 회수
+        List<ProductStockShard> shards = productStockShardRepository.findByProductIdForUpdate(productId);
+        long totalStock = product.isStockStriped()
+                ? shards.stream().mapToLong(ProductStockShard::getStockQuantity).sum()
+                : product.getStockQuantity();
+        productStockShardRepository.deleteAllInBatch(shards);
+
+        product.setStockQuantity(totalStock);
+        if (stripes == 1) {
+            // 단일 재고로 복귀
+            product.setStockStripes(null);
+            productRepository.save(product);
+            stockChangePublisher.stockChanged(productId);
+            return;
+        }
+
+        // 재고를 샤드에 균등 분배 (나머지는 앞 샤드부터 1개씩)
+        List<ProductStockShard> newShards = new ArrayList<>(stripes);
+        for (int shardNo = 0; shardNo < stripes; shardNo++) {
+            long quantity = totalStock / stripes + (shardNo < totalStock % stripes ? 1 : 0);
+            newShards.add(new ProductStockShard(productId, shardNo, quantity));
+        }
+        productStockShardRepository.saveAll(newShards);
+
+        product.setStockStripes(stripes);
+        productRepository.save(product);
+        stockChangePublisher.stockChanged(productId);
+    }
+
+    @Override
+    public void decrease(Long productId, int stripes, Long quantity) {
+        // 임의의 샤드부터 시작해 이웃 샤드 순서로 조건부 차감 시도
+        int start = ThreadLocalRandom.current().nextInt(stripes);
+        for (int i = 0; i < stripes; i++) {
+            int shardNo = (start + i) % stripes;
+            if (productStockShardRepository.decreaseStockQuantity(productId, shardNo, quantity) > 0) {
+                return;
+            }
+        }
+
+        // 어느 샤드에도 단독으로 충분한 재고가 없으면 전체 샤드를 잠그고 나누어 차감
+        decreaseAcrossShards(productId, quantity);
+    }
+
+    @Override
+    public void increase(Long productId, int stripes, Long quantity) {
+        int shardNo = ThreadLocalRandom.current().nextInt(stripes);
+        if (productStockShardRepository.increaseStockQuantity(productId, shardNo, quantity) == 0) {
+            throw new ServiceException(ExceptionList.NOT_EXIST_DATA);
+        }
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    @Override
+    public int refreshAggregatedStock() {
+        int updated = productRepository.refreshStripedStockQuantity();
+        // 샤드 차감/복구는 합계(Product.stockQuantity)를 바로 바꾸지 않으므로 합계를 갱신한 뒤에 알림
+        stockChangePublisher.stockChanged(productRepository.findStripedProductIds());
+        return updated;
+    }
+
+    private void decreaseAcrossShards(Long productId, Long quantity) {
+        List<ProductStockShard> shards = productStockShardRepository.findByProductIdForUpdate(productId);
+        long totalStock = shards.stream().mapToLong(ProductStockShard::getStockQuantity).sum();
+        if (totalStock < quantity) {
+            throw new ServiceException(ExceptionList.NOT_ENOUGH_STOCK);
+        }
+
+        long remaining = quantity;
+        for (ProductStockShard shard : shards) {
+            long taken = Math.min(shard.getStockQuantity(), remaining);
+            shard.setStockQuantity(shard.getStockQuantity() - taken);
+            remaining -= taken;
+            if (remaining == 0) {
+                break;
+            }
+        }
+        productStockShardRepository.saveAll(shards);
+    }
+}
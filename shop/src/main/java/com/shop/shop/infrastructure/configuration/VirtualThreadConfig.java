@@ -0,0 +1,76 @@
+package com.shop.shop.infrastructure.configuration;
+
+import com.shop.shop.infrastructure.util.VirtualThreads;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+// shop.execution.mode=virtual 일 때 요청 처리와 @Scheduled 작업을 가상 스레드에서 실행
+// * JPA(MySQL) / RedisTemplate 호출이 블로킹이어도 동시 요청 수가 Tomcat worker 수에 묶이지 않음
+// * Java 21 이상 런타임이 필요하며, 미지원 런타임이면 경고 후 기존 플랫폼 스레드 풀 사용
+// * Spring Boot 3.2 이상으로 올리면 spring.threads.virtual.enabled=true 로 대체 가능
+// * 여기서 만든 executor 는 Tomcat / 스케줄러가 종료하지 않으므로 컨텍스트 종료 시 destroy() 에서 직접 종료
+//   (웹 서버와 스케줄 작업은 빈 소멸 전에 먼저 멈추므로 새 작업은 들어오지 않음)
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "shop.execution.mode", havingValue = "virtual")
+public class VirtualThreadConfig implements SchedulingConfigurer, DisposableBean {
+
+    @Value("${spring.task.scheduling.pool.size:4}")
+    private int schedulingPoolSize;
+
+    private final List<ExecutorService> executors = new CopyOnWriteArrayList<>();
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> {
+            ExecutorService executor = VirtualThreads.newPerTaskExecutor().orElse(null);
+            if (executor == null) {
+                log.warn("shop.execution.mode=virtual but the runtime ({}) has no virtual threads; using the Tomcat worker pool",
+                        Runtime.version());
+                return;
+            }
+            executors.add(executor);
+            protocolHandler.setExecutor(executor);
+            log.info("Tomcat requests run on virtual threads");
+        };
+    }
+
+    // 스케줄 스레드 자체를 가상 스레드로 만든 고정 크기(pool.size) 풀
+    // * 동시에 실행되는 @Scheduled 작업 수는 플랫폼 스레드 풀과 같이 pool.size 로 제한되고,
+    //   작업이 DB/Redis I/O 로 블로킹되는 동안 캐리어 스레드를 점유하지 않는 것만 달라짐
+    // * fixedDelay 는 작업이 끝난 시점부터 다음 실행을 계산하므로, 작업마다 다른 executor 로 넘기면 같은 작업이 겹쳐 실행될 수 있어 넘기지 않음
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        ThreadFactory factory = VirtualThreads.factory("scheduling-vt-").orElse(null);
+        if (factory == null) {
+            log.warn("Virtual threads are not available; @Scheduled jobs keep the default scheduler");
+            return;
+        }
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(schedulingPoolSize, factory);
+        executors.add(scheduler);
+        taskRegistrar.setScheduler(new ConcurrentTaskScheduler(scheduler));
+        log.info("@Scheduled jobs run on virtual threads (pool size {})", schedulingPoolSize);
+    }
+
+    // 실행 중인 작업은 끝까지 실행되고, 대기 중인 스케줄은 취소됨
+    @Override
+    public void destroy() {
+        executors.forEach(ExecutorService::shutdown);
+        log.info("Shut down {} virtual thread executors", executors.size());
+    }
+}
@@ -0,0 +1,8 @@
+package com.shop.shop.infrastructure.constant;
+
+public enum SearchSort {
+    RELEVANCE,  // 관련도 (상품명 일치 > 접두어 > 단어 시작 > 부분 일치)
+    PRICE_ASC,  // 낮은 가격순
+    PRICE_DESC, // 높은 가격순
+    NEWEST      // 최신 등록순 (ProductDetail.registeredDate)
+}
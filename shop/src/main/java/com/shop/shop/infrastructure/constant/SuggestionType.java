@@ -0,0 +1,6 @@
+package com.shop.shop.infrastructure.constant;
+
+public enum SuggestionType {
+    PRODUCT,  // 상품명
+    CATEGORY  // 카테고리 (인기도는 소속 상품 조회수 합)
+}
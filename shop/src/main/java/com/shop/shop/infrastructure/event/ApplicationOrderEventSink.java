@@ -0,0 +1,34 @@
+package com.shop.shop.infrastructure.event;
+
+import com.shop.shop.domain.order.event.OrderEvent;
+import com.shop.shop.domain.order.event.OrderEventSink;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// 애플리케이션 내부 이벤트 버스로 발행 (@EventListener(OrderEvent.class) 로 구독)
+// * 리스너는 이벤트마다 별도 트랜잭션(REQUIRES_NEW)에서 실행되므로, 리스너가 실패해도 relay 트랜잭션은 rollback-only 가 되지 않음
+//   (예외는 그대로 전달되어 relay 가 실패 횟수로 기록)
+@Component
+@ConditionalOnProperty(name = "shop.order.outbox.sink", havingValue = "in-process", matchIfMissing = true)
+public class ApplicationOrderEventSink implements OrderEventSink {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate listenerTransaction;
+
+    public ApplicationOrderEventSink(ApplicationEventPublisher applicationEventPublisher, PlatformTransactionManager transactionManager) {
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.listenerTransaction = new TransactionTemplate(transactionManager);
+        this.listenerTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public void publish(List<OrderEvent> events) {
+        events.forEach(event -> listenerTransaction.executeWithoutResult(tx -> applicationEventPublisher.publishEvent(event)));
+    }
+}
@@ -0,0 +1,42 @@
+package com.shop.shop.infrastructure.event;
+
+import com.shop.shop.domain.order.event.OrderEvent;
+import com.shop.shop.domain.order.event.OrderEventSink;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Redis Stream 으로 발행 (외부 소비자 / 로컬 개발용 메시지 브로커 대용)
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shop.order.outbox.sink", havingValue = "redis-stream")
+public class RedisStreamOrderEventSink implements OrderEventSink {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${shop.order.outbox.stream-key:order-events}")
+    private String streamKey;
+
+    @Override
+    public void publish(List<OrderEvent> events) {
+        for (OrderEvent event : events) {
+            Map<String, String> fields = new HashMap<>();
+            fields.put("eventId", String.valueOf(event.getEventId()));
+            fields.put("orderId", String.valueOf(event.getOrderId()));
+            fields.put("customerId", String.valueOf(event.getCustomerId()));
+            fields.put("productId", String.valueOf(event.getProductId()));
+            fields.put("quantity", String.valueOf(event.getQuantity()));
+            fields.put("previousStatus", String.valueOf(event.getPreviousStatus()));
+            fields.put("status", String.valueOf(event.getStatus()));
+            fields.put("occurredAt", String.valueOf(event.getOccurredAt()));
+            stringRedisTemplate.opsForStream().add(StreamRecords.mapBacked(fields).withStreamKey(streamKey));
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.shop.shop.infrastructure.event;
+
+import com.shop.shop.domain.stock.event.StockChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+// 재고 변경 알림 발행 (@TransactionalEventListener(classes = StockChangedEvent.class, fallbackExecution = true) 로 구독)
+// * 주문 이벤트 sink 설정(in-process / redis-stream)과 무관하게 항상 서버 내부 이벤트 버스로 발행
+// * 구독자는 커밋된 뒤에만 받음 (롤백되면 받지 않음, 트랜잭션 밖에서 호출되면 바로 받음)
+//   커밋 후 처리에서 난 예외는 로그만 남으므로 이미 커밋된 요청이 실패로 응답되지 않음
+@Component
+@RequiredArgsConstructor
+public class StockChangePublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public void stockChanged(Long productId) {
+        if (productId != null) {
+            applicationEventPublisher.publishEvent(new StockChangedEvent(productId));
+        }
+    }
+
+    public void stockChanged(Collection<Long> productIds) {
+        productIds.forEach(this::stockChanged);
+    }
+}
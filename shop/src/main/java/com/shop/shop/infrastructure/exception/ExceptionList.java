@@ -17,6 +17,10 @@ public enum ExceptionList {
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR ," 서버 에러", "INTERNAL_SERVER_ERROR"),
     NOT_ENOUGH_STOCK(HttpStatus.BAD_REQUEST,"재고가 부족합니다.", "NOT_ENOUGH_STOCK"),
     INVALID_REQUEST(HttpStatus.BAD_REQUEST, "요청이 유효하지 않습니다.", "INVALID_REQUEST"),
+    DUPLICATE_REQUEST(HttpStatus.CONFLICT, "동일한 요청이 처리 중입니다.", "DUPLICATE_REQUEST"),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "다른 요청에 이미 사용된 Idempotency-Key 입니다.", "IDEMPOTENCY_KEY_REUSED"),
+    CART_ITEM_LIMIT(HttpStatus.BAD_REQUEST, "장바구니에 담을 수 있는 상품 종류 수를 초과했습니다.", "CART_ITEM_LIMIT"),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "다른 요청과 동시에 수정되었습니다. 다시 시도해 주세요.", "CONCURRENT_MODIFICATION"),
     FORBIDDEN(HttpStatus.FORBIDDEN, "권한이 없습니다.", "FORBIDDEN");
 
     private final HttpStatus httpStatus;
@@ -0,0 +1,202 @@
+package com.shop.shop.infrastructure.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.shop.shop.infrastructure.exception.ExceptionList;
+import com.shop.shop.infrastructure.exception.ServiceException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+// Idempotency-Key 기반 중복 요청 처리
+// * 최초 요청의 결과를 Redis 에 TTL 과 함께 저장하고, 재시도 요청에는 저장된 결과를 그대로 반환 (Redis 조회 1회, DB 접근 없음)
+// * 키는 요청자(토큰의 customerId) 별로 분리하고, 요청 본문 해시를 함께 저장해 같은 키로 다른 본문을 보내면 422
+// * 처리 중인 동일 키 요청은 같은 서버에서는 진행 중인 작업의 결과를 기다리고, 다른 서버에서는 결과가 저장될 때까지 대기
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyHandler {
+
+    private static final String IDEMPOTENCY_KEY_PREFIX = "idempotency:";
+    private static final String IN_PROGRESS = "IN_PROGRESS:";
+    private static final long POLL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    // 요청 본문 해시 계산용 (Spring 설정과 무관하게 항상 같은 직렬화 결과를 얻기 위해 별도 인스턴스 사용)
+    private static final ObjectMapper FINGERPRINT_MAPPER = new ObjectMapper()
+            .findAndRegisterModules()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    // 같은 서버에서 처리 중인 요청 (동일 키 요청 병합)
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${shop.idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${shop.idempotency.lock-ttl-seconds:30}")
+    private long lockTtlSeconds;
+
+    @Value("${shop.idempotency.wait-timeout-ms:5000}")
+    private long waitTimeoutMillis;
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String scope, String owner, String idempotencyKey, Object request, Supplier<T> action) {
+        // 키가 없으면 일반 요청으로 처리
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        // 요청자를 알 수 없으면 다른 고객의 결과가 재생될 수 있으므로 거부
+        if (owner == null || owner.isBlank()) {
+            throw new ServiceException(ExceptionList.UNAUTHORIZED);
+        }
+        String key = IDEMPOTENCY_KEY_PREFIX + scope + ":" + owner + ":" + idempotencyKey;
+        String requestHash = fingerprint(request);
+
+        // 이미 처리된 요청이면 저장된 결과 반환
+        Object stored = redisTemplate.opsForValue().get(key);
+        if (stored instanceof IdempotentResult) {
+            return (T) replay((IdempotentResult) stored, requestHash);
+        }
+        if (stored != null && !(IN_PROGRESS + requestHash).equals(stored)) {
+            throw new ServiceException(ExceptionList.IDEMPOTENCY_KEY_REUSED);
+        }
+
+        // 같은 서버에서 처리 중이면 그 결과를 기다림
+        InFlight mine = new InFlight(requestHash);
+        InFlight running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            if (!running.requestHash.equals(requestHash)) {
+                throw new ServiceException(ExceptionList.IDEMPOTENCY_KEY_REUSED);
+            }
+            return (T) await(running.result);
+        }
+
+        try {
+            Object result = stored == null ? acquireAndRun(key, requestHash, action) : waitForResult(key, requestHash, action);
+            mine.result.complete(result);
+            return (T) result;
+        } catch (RuntimeException e) {
+            mine.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private <T> Object acquireAndRun(String key, String requestHash, Supplier<T> action) {
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, IN_PROGRESS + requestHash, Duration.ofSeconds(lockTtlSeconds));
+        if (!Boolean.TRUE.equals(acquired)) {
+            // 다른 서버가 먼저 처리를 시작한 경우
+            return waitForResult(key, requestHash, action);
+        }
+
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            // 실패한 요청은 재시도할 수 있도록 키 삭제
+            redisTemplate.delete(key);
+            throw e;
+        }
+
+        // 작업은 이미 커밋되었으므로 결과 저장에 실패해도 키를 지우지 않음 (재시도가 주문을 중복 생성하지 않도록)
+        try {
+            redisTemplate.opsForValue().set(key, new IdempotentResult(requestHash, result), Duration.ofHours(ttlHours));
+        } catch (RuntimeException e) {
+            log.error("Failed to store idempotent result. key={}", key, e);
+            keepInProgress(key);
+        }
+        return result;
+    }
+
+    // 결과 저장에 실패한 키는 처리 중 표시를 결과 TTL 만큼 유지해 재시도를 409 로 막음
+    private void keepInProgress(String key) {
+        try {
+            redisTemplate.expire(key, Duration.ofHours(ttlHours));
+        } catch (RuntimeException e) {
+            log.error("Failed to extend idempotency lock. key={}", key, e);
+        }
+    }
+
+    // 다른 서버에서 처리 중인 요청의 결과가 저장될 때까지 대기
+    private <T> Object waitForResult(String key, String requestHash, Supplier<T> action) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMillis);
+        while (System.nanoTime() < deadline) {
+            LockSupport.parkNanos(POLL_INTERVAL_NANOS);
+            Object stored = redisTemplate.opsForValue().get(key);
+            if (stored == null) {
+                // 앞선 요청이 실패해 키가 삭제된 경우 직접 처리
+                return acquireAndRun(key, requestHash, action);
+            }
+            if (stored instanceof IdempotentResult) {
+                return replay((IdempotentResult) stored, requestHash);
+            }
+            if (!(IN_PROGRESS + requestHash).equals(stored)) {
+                throw new ServiceException(ExceptionList.IDEMPOTENCY_KEY_REUSED);
+            }
+        }
+        throw new ServiceException(ExceptionList.DUPLICATE_REQUEST);
+    }
+
+    // 같은 키라도 본문이 다르면 저장된 결과를 돌려주지 않음
+    private Object replay(IdempotentResult stored, String requestHash) {
+        if (!requestHash.equals(stored.getRequestHash())) {
+            throw new ServiceException(ExceptionList.IDEMPOTENCY_KEY_REUSED);
+        }
+        return stored.getResponse();
+    }
+
+    private Object await(CompletableFuture<Object> running) {
+        try {
+            return running.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new ServiceException(ExceptionList.INTERNAL_SERVER_ERROR);
+        } catch (TimeoutException e) {
+            throw new ServiceException(ExceptionList.DUPLICATE_REQUEST);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException(ExceptionList.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // 요청 본문의 SHA-256 해시
+    static String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(FINGERPRINT_MAPPER.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException e) {
+            throw new ServiceException(ExceptionList.INVALID_REQUEST);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class InFlight {
+        private final String requestHash;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        private InFlight(String requestHash) {
+            this.requestHash = requestHash;
+        }
+    }
+}
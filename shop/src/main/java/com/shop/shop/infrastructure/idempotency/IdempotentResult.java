@@ -0,0 +1,16 @@
+package com.shop.shop.infrastructure.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Idempotency-Key 로 저장되는 처리 결과 (요청 본문 해시와 함께 저장해 다른 본문의 재사용을 거부)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class IdempotentResult {
+
+    private String requestHash;
+    private Object response;
+
+}
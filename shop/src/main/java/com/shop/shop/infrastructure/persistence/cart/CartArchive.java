@@ -0,0 +1,38 @@
+package com.shop.shop.infrastructure.persistence.cart;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// 일정 기간 변경/조회가 없어 Redis 에서 제거된 장바구니
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "cart_archive",
+        indexes = @Index(name = "idx_cart_archive_customer_id", columnList = "customer_id, archived_at"))
+public class CartArchive {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cart_archive_seq_generator")
+    @SequenceGenerator(name = "cart_archive_seq_generator", sequenceName = "cart_archive_seq", allocationSize = 50)
+    private Long pk;
+
+    @Column(name = "customer_id", nullable = false)
+    private String customerId; // 고객 아이디
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String items; // {"productId": quantity, ...}
+
+    @Column(nullable = false)
+    private Integer itemCount; // 상품 종류 수
+
+    @Column
+    private LocalDateTime lastActivityAt; // 마지막 변경/조회 일시 (남은 TTL 로 계산)
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
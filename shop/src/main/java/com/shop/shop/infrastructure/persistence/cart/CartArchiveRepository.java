@@ -0,0 +1,6 @@
+package com.shop.shop.infrastructure.persistence.cart;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CartArchiveRepository extends JpaRepository<CartArchive, Long> {
+}
@@ -17,6 +17,7 @@ import static  com.shop.shop.infrastructure.constant.StatusConstants.ACTIVE;
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = @Index(name = "uk_customer_customer_id", columnList = "customer_id", unique = true))
 public class Customer {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
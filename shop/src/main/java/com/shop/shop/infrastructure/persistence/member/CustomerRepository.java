@@ -1,14 +1,19 @@
 package com.shop.shop.infrastructure.persistence.member;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
     Optional<Customer> findByCustomerIdAndStatus(String customerId, String status);
     Optional<Customer> findByCustomerId(String customerId);
+    List<Customer> findByCustomerIdIn(Collection<String> customerIds);
     boolean existsByCustomerId(String customerId);
     boolean existsByEmail(String email);
+    List<Customer> findByPkGreaterThanOrderByPkAsc(Long pk, Pageable pageable);
 }
@@ -0,0 +1,46 @@
+package com.shop.shop.infrastructure.persistence.order;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// 고객별 주문 요약 (CQRS read model) - 주문 생성/수정/취소 시 증분 upsert 로 유지
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "customer_order_summary",
+        indexes = @Index(name = "uk_customer_order_summary_customer_id", columnList = "customer_id", unique = true))
+public class CustomerOrderSummary {
+
+    @Id
+    @Column(name = "customer_pk")
+    private Long customerPk; // 고객 pk
+
+    @Column(name = "customer_id", nullable = false)
+    private String customerId; // 고객 아이디
+
+    @Column(nullable = false)
+    private Long pendingCount; // 주문 대기 건수
+
+    @Column(nullable = false)
+    private Long shippingCount; // 배송 중 건수
+
+    @Column(nullable = false)
+    private Long completedCount; // 완료 건수
+
+    @Column(nullable = false)
+    private Long cancelledCount; // 취소 건수
+
+    @Column(nullable = false)
+    private Long totalQuantity; // 취소 제외 총 주문 수량
+
+    @Column(nullable = false)
+    private Long totalSpend; // 취소 제외 총 주문 금액
+
+    @Column
+    private LocalDateTime updatedAt; // 최종 갱신 일시
+}
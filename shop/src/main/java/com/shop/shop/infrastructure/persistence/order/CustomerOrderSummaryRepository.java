@@ -0,0 +1,66 @@
+package com.shop.shop.infrastructure.persistence.order;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CustomerOrderSummaryRepository extends JpaRepository<CustomerOrderSummary, Long> {
+
+    Optional<CustomerOrderSummary> findByCustomerId(String customerId);
+
+    // 증분 반영 (행이 없으면 생성, 있으면 더하기) - 조회 없이 한 문장
+    @Modifying
+    @Query(value = "INSERT INTO customer_order_summary (customer_pk, customer_id, pending_count, shipping_count, " +
+            "completed_count, cancelled_count, total_quantity, total_spend, updated_at) " +
+            "VALUES (:customerPk, :customerId, :pending, :shipping, :completed, :cancelled, :quantity, :spend, :now) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "pending_count = pending_count + VALUES(pending_count), " +
+            "shipping_count = shipping_count + VALUES(shipping_count), " +
+            "completed_count = completed_count + VALUES(completed_count), " +
+            "cancelled_count = cancelled_count + VALUES(cancelled_count), " +
+            "total_quantity = total_quantity + VALUES(total_quantity), " +
+            "total_spend = total_spend + VALUES(total_spend), " +
+            "updated_at = VALUES(updated_at)", nativeQuery = true)
+    int applyDelta(@Param("customerPk") Long customerPk,
+                   @Param("customerId") String customerId,
+                   @Param("pending") long pending,
+                   @Param("shipping") long shipping,
+                   @Param("completed") long completed,
+                   @Param("cancelled") long cancelled,
+                   @Param("quantity") long quantity,
+                   @Param("spend") long spend,
+                   @Param("now") LocalDateTime now);
+
+    // 고객 한 명의 주문 집계 (orders + orders_archive) / 잠금 없는 일관된 읽기
+    @Query(value = "SELECT " +
+            "COALESCE(SUM(o.status = 'PENDING'), 0), COALESCE(SUM(o.status = 'SHIPPING'), 0), " +
+            "COALESCE(SUM(o.status = 'COMPLETED'), 0), COALESCE(SUM(o.status = 'CANCELLED'), 0), " +
+            "COALESCE(SUM(CASE WHEN o.status <> 'CANCELLED' THEN o.quantity END), 0), " +
+            "COALESCE(SUM(CASE WHEN o.status <> 'CANCELLED' THEN o.total_price END), 0) " +
+            "FROM (SELECT status, quantity, total_price FROM orders WHERE customer_pk = :customerPk " +
+            "      UNION ALL " +
+            "      SELECT status, quantity, total_price FROM orders_archive WHERE customer_pk = :customerPk) o",
+            nativeQuery = true)
+    List<Object[]> aggregateByCustomerPk(@Param("customerPk") Long customerPk);
+
+    // 재계산한 값으로 덮어쓰기 (호출 전에 applyDelta 로 행 잠금을 잡아 둠)
+    @Modifying
+    @Query(value = "UPDATE customer_order_summary SET pending_count = :pending, shipping_count = :shipping, " +
+            "completed_count = :completed, cancelled_count = :cancelled, total_quantity = :quantity, " +
+            "total_spend = :spend, updated_at = :now WHERE customer_pk = :customerPk", nativeQuery = true)
+    int overwrite(@Param("customerPk") Long customerPk,
+                  @Param("pending") long pending,
+                  @Param("shipping") long shipping,
+                  @Param("completed") long completed,
+                  @Param("cancelled") long cancelled,
+                  @Param("quantity") long quantity,
+                  @Param("spend") long spend,
+                  @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,74 @@
+package com.shop.shop.infrastructure.persistence.order;
+
+import com.shop.shop.infrastructure.constant.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "order_outbox",
+        indexes = @Index(name = "idx_order_outbox_published", columnList = "published_at, pk"))
+public class OrderOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_outbox_seq_generator")
+    @SequenceGenerator(name = "order_outbox_seq_generator", sequenceName = "order_outbox_seq", allocationSize = 50)
+    private Long pk; // 이벤트 ID
+
+    @Column(nullable = false)
+    private Long orderId; // 주문 ID
+
+    @Column
+    private String customerId; // 고객 아이디
+
+    @Column
+    private Long productId; // 상품 ID
+
+    @Column
+    private Long quantity; // 주문 수량
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus previousStatus; // 이전 주문 상태 (주문 생성 시 null)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OrderStatus status; // 변경된 주문 상태
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt; // 이벤트 발생 일시
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt; // 발행 일시 (미발행 시 null)
+
+    @Column(columnDefinition = "int default 0")
+    private int attempts; // 발행 실패 횟수
+
+    @Column(name = "failed_at")
+    private LocalDateTime failedAt; // 최대 실패 횟수를 넘겨 발행을 포기한 일시 (dead letter, 재발행 대상에서 제외)
+
+    public OrderOutbox(Orders order, OrderStatus previousStatus, LocalDateTime now) {
+        this.orderId = order.getPk();
+        this.customerId = order.getCustomer() != null ? order.getCustomer().getCustomerId() : null;
+        this.productId = order.getProductId();
+        this.quantity = order.getQuantity();
+        this.previousStatus = previousStatus;
+        this.status = order.getStatus();
+        this.createdAt = now;
+    }
+
+    public OrderOutbox(OrderTransitionRow row, OrderStatus status, LocalDateTime now) {
+        this.orderId = row.getPk();
+        this.customerId = row.getCustomerId();
+        this.productId = row.getProductId();
+        this.quantity = row.getQuantity();
+        this.previousStatus = row.getStatus();
+        this.status = status;
+        this.createdAt = now;
+    }
+}
@@ -0,0 +1,34 @@
+package com.shop.shop.infrastructure.persistence.order;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OrderOutboxRepository extends JpaRepository<OrderOutbox, Long> {
+
+    // 미발행 이벤트 조회 (여러 서버의 relay 가 같은 row 를 가져가지 않도록 SKIP LOCKED, 발행을 포기한 이벤트는 제외)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM OrderOutbox o WHERE o.publishedAt IS NULL AND o.failedAt IS NULL ORDER BY o.pk")
+    List<OrderOutbox> findUnpublished(Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE OrderOutbox o SET o.publishedAt = :publishedAt WHERE o.pk IN :pks")
+    int markPublished(@Param("pks") Collection<Long> pks, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Query("DELETE FROM OrderOutbox o WHERE o.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,17 +1,51 @@
 package com.shop.shop.infrastructure.persistence.order;
 
+import com.shop.shop.application.order.dto.response.OrderResponseDto;
+import com.shop.shop.infrastructure.constant.OrderStatus;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Orders, Long>, OrderRepositoryCustom {
 
-    @Query("SELECT o FROM Orders o JOIN FETCH o.customer")
-    List<Orders> findAllWithCustomer();
+    // 전체 주문 내보내기용 스트림 (DTO 프로젝션이라 영속성 컨텍스트에 엔티티가 쌓이지 않음)
+    // MySQL 드라이버는 fetchSize 가 Integer.MIN_VALUE 일 때 결과를 한 행씩 스트리밍
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new com.shop.shop.application.order.dto.response.OrderResponseDto(" +
+            "o.pk, o.orderNumber, o.productId, o.quantity, c.customerId, o.status) " +
+            "FROM Orders o JOIN o.customer c ORDER BY o.pk")
+    Stream<OrderResponseDto> streamAllOrders();
+
+    // 아카이브 대상 주문 (다른 트랜잭션이 잡고 있는 주문은 건너뜀)
+    @Query(value = "SELECT pk FROM orders WHERE status IN (:statuses) AND order_date < :before " +
+            "ORDER BY pk LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> findArchivablePks(@Param("statuses") Collection<String> statuses,
+                                 @Param("before") LocalDateTime before,
+                                 @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM Orders o WHERE o.pk IN :pks")
+    int deleteByPkIn(@Param("pks") Collection<Long> pks);
+
+    // 일괄 상태 변경 (허용된 이전 상태인 주문만)
+    @Modifying
+    @Query("UPDATE Orders o SET o.status = :status, o.version = o.version + 1 " +
+            "WHERE o.pk IN :pks AND o.status IN :fromStatuses")
+    int updateStatus(@Param("pks") Collection<Long> pks,
+                     @Param("fromStatuses") Collection<OrderStatus> fromStatuses,
+                     @Param("status") OrderStatus status);
 }
@@ -1,10 +1,17 @@
 package com.shop.shop.infrastructure.persistence.order;
 
+import com.shop.shop.application.order.dto.response.OrderResponseDto;
 import com.shop.shop.infrastructure.constant.OrderStatus;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface OrderRepositoryCustom {
-    List<Orders> findOrdersWithConditions(String customerId, LocalDate startDate, LocalDate endDate, OrderStatus status);
+    Optional<OrderResponseDto> findOrderResponseById(Long orderId);
+    List<OrderResponseDto> findOrdersWithConditions(String customerId, LocalDate startDate, LocalDate endDate, OrderStatus status);
+    List<OrderResponseDto> findOrderPage(Long afterPk, int limit);
+    List<Long> findOrderPksWithConditions(String customerId, LocalDate startDate, LocalDate endDate, Collection<OrderStatus> statuses);
+    List<OrderTransitionRow> findTransitionRowsForUpdate(Collection<Long> pks, Collection<OrderStatus> statuses);
 }
@@ -1,12 +1,22 @@
 package com.shop.shop.infrastructure.persistence.order;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.shop.shop.application.order.dto.response.OrderResponseDto;
 import com.shop.shop.infrastructure.constant.OrderStatus;
+import com.shop.shop.infrastructure.persistence.member.QCustomer;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 
 @Repository
@@ -18,27 +28,148 @@ public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
         this.queryFactory = queryFactory;
     }
 
+    // 단건 조회: 응답에 필요한 컬럼만 DTO 로 조회 (엔티티/스냅샷 생성 없음)
     @Override
-    public List<Orders> findOrdersWithConditions(String customerId, LocalDate startDate, LocalDate endDate, OrderStatus status) {
+    public Optional<OrderResponseDto> findOrderResponseById(Long orderId) {
         QOrders qOrder = QOrders.orders;
+        QCustomer qCustomer = QCustomer.customer;
+
+        OrderResponseDto order = queryFactory.select(orderResponse(qOrder, qCustomer))
+                .from(qOrder)
+                .join(qOrder.customer, qCustomer)
+                .where(qOrder.pk.eq(orderId))
+                .fetchOne();
+        return Optional.ofNullable(order);
+    }
+
+    // 고객 pk 를 먼저 한 번 조회한 뒤, 주문은 customer_pk 로 시작하는 복합 인덱스만으로 필터링 (조인 없음)
+    @Override
+    public List<OrderResponseDto> findOrdersWithConditions(String customerId, LocalDate startDate, LocalDate endDate, OrderStatus status) {
+        QOrders qOrder = QOrders.orders;
+        QCustomer qCustomer = QCustomer.customer;
+
+        // 필수 조건: 고객 ID (customer_id 유니크 인덱스)
+        Long customerPk = queryFactory.select(qCustomer.pk)
+                .from(qCustomer)
+                .where(qCustomer.customerId.eq(customerId))
+                .fetchOne();
+        if (customerPk == null) {
+            return Collections.emptyList();
+        }
 
         BooleanBuilder builder = new BooleanBuilder();
+        builder.and(qOrder.customer.pk.eq(customerPk));
 
-        // 필수 조건: 고객 ID
-        builder.and(qOrder.customer.customerId.eq(customerId));
+        // 선택적 조건: 주문 상태 (customer_pk, status, order_date)
+        if (status != null) {
+            builder.and(qOrder.status.eq(status));
+        }
 
-        // 선택적 조건: 날짜
+        // 선택적 조건: 날짜 (customer_pk, order_date)
         if (startDate != null && endDate != null) {
             builder.and(qOrder.orderDate.between(startDate.atStartOfDay(), endDate.atTime(23, 59, 59)));
         }
 
-        // 선택적 조건: 주문 상태
-        if (status != null) {
-            builder.and(qOrder.status.eq(status));
+        List<Tuple> rows = queryFactory.select(
+                        qOrder.pk,
+                        qOrder.orderNumber,
+                        qOrder.productId,
+                        qOrder.quantity,
+                        qOrder.status)
+                .from(qOrder)
+                .where(builder)
+                .fetch();
+
+        List<OrderResponseDto> orders = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            orders.add(new OrderResponseDto(
+                    row.get(qOrder.pk),
+                    row.get(qOrder.orderNumber),
+                    row.get(qOrder.productId),
+                    row.get(qOrder.quantity),
+                    customerId,
+                    row.get(qOrder.status)));
+        }
+        return orders;
+    }
+
+    // 키셋 페이지네이션: pk 인덱스로 after 다음 위치부터 바로 읽어 OFFSET 스캔 비용이 없음
+    @Override
+    public List<OrderResponseDto> findOrderPage(Long afterPk, int limit) {
+        QOrders qOrder = QOrders.orders;
+        QCustomer qCustomer = QCustomer.customer;
+
+        BooleanBuilder builder = new BooleanBuilder();
+        if (afterPk != null) {
+            builder.and(qOrder.pk.gt(afterPk));
         }
 
-        return queryFactory.selectFrom(qOrder)
+        return queryFactory.select(orderResponse(qOrder, qCustomer))
+                .from(qOrder)
+                .join(qOrder.customer, qCustomer)
                 .where(builder)
+                .orderBy(qOrder.pk.asc())
+                .limit(limit)
                 .fetch();
     }
+
+    // 일괄 상태 변경 대상 pk (고객 pk 를 먼저 조회해 customer_pk 복합 인덱스 사용)
+    @Override
+    public List<Long> findOrderPksWithConditions(String customerId, LocalDate startDate, LocalDate endDate, Collection<OrderStatus> statuses) {
+        QOrders qOrder = QOrders.orders;
+        QCustomer qCustomer = QCustomer.customer;
+
+        Long customerPk = queryFactory.select(qCustomer.pk)
+                .from(qCustomer)
+                .where(qCustomer.customerId.eq(customerId))
+                .fetchOne();
+        if (customerPk == null) {
+            return Collections.emptyList();
+        }
+
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(qOrder.customer.pk.eq(customerPk));
+        builder.and(qOrder.status.in(statuses));
+        if (startDate != null && endDate != null) {
+            builder.and(qOrder.orderDate.between(startDate.atStartOfDay(), endDate.atTime(23, 59, 59)));
+        }
+
+        return queryFactory.select(qOrder.pk)
+                .from(qOrder)
+                .where(builder)
+                .orderBy(qOrder.pk.asc())
+                .fetch();
+    }
+
+    // 변경 대상 주문 잠금 조회 (같은 주문을 동시에 변경해 재고가 두 번 복구되지 않도록)
+    @Override
+    public List<OrderTransitionRow> findTransitionRowsForUpdate(Collection<Long> pks, Collection<OrderStatus> statuses) {
+        QOrders qOrder = QOrders.orders;
+        QCustomer qCustomer = QCustomer.customer;
+
+        return queryFactory.select(Projections.constructor(OrderTransitionRow.class,
+                        qOrder.pk,
+                        qCustomer.pk,
+                        qCustomer.customerId,
+                        qOrder.productId,
+                        qOrder.quantity,
+                        qOrder.totalPrice,
+                        qOrder.status))
+                .from(qOrder)
+                .join(qOrder.customer, qCustomer)
+                .where(qOrder.pk.in(pks), qOrder.status.in(statuses))
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+    }
+
+    // OrderResponseDto 에 필요한 컬럼만 선택하는 프로젝션
+    private ConstructorExpression<OrderResponseDto> orderResponse(QOrders qOrder, QCustomer qCustomer) {
+        return Projections.constructor(OrderResponseDto.class,
+                qOrder.pk,
+                qOrder.orderNumber,
+                qOrder.productId,
+                qOrder.quantity,
+                qCustomer.customerId,
+                qOrder.status);
+    }
 }
@@ -0,0 +1,21 @@
+package com.shop.shop.infrastructure.persistence.order;
+
+import com.shop.shop.infrastructure.constant.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 일괄 상태 변경 대상 주문 (재고 복구/이벤트/요약 반영에 필요한 컬럼만)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderTransitionRow {
+
+    private Long pk;
+    private Long customerPk;
+    private String customerId;
+    private Long productId;
+    private Long quantity;
+    private Long totalPrice;
+    private OrderStatus status; // 변경 전 상태
+}
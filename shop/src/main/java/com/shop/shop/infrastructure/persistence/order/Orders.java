@@ -16,10 +16,24 @@ import java.util.List;
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "uk_orders_order_number", columnList = "order_number", unique = true),
+        // 고객별 기간 조회 / 고객별 상태 + 기간 조회 (findOrdersWithConditions)
+        @Index(name = "idx_orders_customer_date", columnList = "customer_pk, order_date"),
+        @Index(name = "idx_orders_customer_status_date", columnList = "customer_pk, status, order_date"),
+        // 아카이브 대상 조회 (OrderArchiveService)
+        @Index(name = "idx_orders_status_date", columnList = "status, order_date")
+})
 public class Orders {
 
+    public static final int PK_ALLOCATION_SIZE = 50;
+
+    // IDENTITY 는 insert 마다 키를 받아와야 해서 JDBC batch 가 비활성화되므로 pooled sequence 사용
+    // (MySQL 에서는 orders_seq 테이블로 에뮬레이션되며, allocationSize 만큼 키를 미리 할당)
+    // 기존 pk 와 겹치지 않도록 기동 시 OrdersSequenceInitializer 가 next_val 을 맞춤
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq_generator")
+    @SequenceGenerator(name = "orders_seq_generator", sequenceName = "orders_seq", allocationSize = PK_ALLOCATION_SIZE)
     private Long pk;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -29,8 +43,8 @@ public class Orders {
     @Column
     private Long productId;
 
-    @Column
-    private String orderNumber;
+    @Column(name = "order_number", length = 19)
+    private String orderNumber; // 시간순 주문 번호 (SnowflakeIdGenerator)
 
     @Column
     private LocalDateTime orderDate;
@@ -62,12 +76,20 @@ public class Orders {
     @Column
     private String remarks;
 
+    @Version
+    @Column(columnDefinition = "bigint default 0")
+    private Long version; // 낙관적 잠금 버전 (일괄 상태 변경 UPDATE 도 함께 증가)
+
     @JsonIgnore
     @OneToMany(mappedBy = "customer")
     private List<Orders> orderList;
 
     public Orders(Product product, Long quantity, Customer customer, OrderStatus orderStatus, LocalDateTime now) {
-        this.productId = product.getId();  // 상품 ID 설정
+        this(product.getId(), quantity, customer, orderStatus, now);
+    }
+
+    public Orders(Long productId, Long quantity, Customer customer, OrderStatus orderStatus, LocalDateTime now) {
+        this.productId = productId;        // 상품 ID 설정
         this.quantity = quantity;          // 주문 수량 설정
         this.customer = customer;          // 고객 정보 설정
         this.status = orderStatus;         // 주문 상태 설정
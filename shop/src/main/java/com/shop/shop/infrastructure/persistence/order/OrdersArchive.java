@@ -0,0 +1,69 @@
+package com.shop.shop.infrastructure.persistence.order;
+
+import com.shop.shop.infrastructure.constant.OrderStatus;
+import com.shop.shop.infrastructure.persistence.member.Customer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// 보관 기간이 지난 완료/취소 주문 (orders 에서 INSERT ... SELECT 로 이동되며 pk 를 그대로 유지)
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "orders_archive",
+        indexes = {
+                @Index(name = "idx_orders_archive_customer_date", columnList = "customer_pk, order_date"),
+                @Index(name = "idx_orders_archive_customer_status_date", columnList = "customer_pk, status, order_date")
+        })
+public class OrdersArchive {
+
+    @Id
+    private Long pk; // 원래 주문 ID
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "customer_pk")
+    private Customer customer;
+
+    @Column
+    private Long productId;
+
+    @Column(name = "order_number", length = 19)
+    private String orderNumber;
+
+    @Column
+    private LocalDateTime orderDate;
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status;
+
+    @Column
+    private String paymentMethod;
+
+    @Column
+    private String name;
+
+    @Column
+    private String zipCode;
+
+    @Column
+    private String address;
+
+    @Column
+    private String phone;
+
+    @Column
+    private Long quantity;
+
+    @Column
+    private Long totalPrice;
+
+    @Column
+    private String remarks;
+
+    @Column
+    private LocalDateTime archivedAt; // 아카이브 이동 일시
+}
@@ -0,0 +1,23 @@
+package com.shop.shop.infrastructure.persistence.order;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface OrdersArchiveRepository extends JpaRepository<OrdersArchive, Long>, OrdersArchiveRepositoryCustom {
+
+    // 주문을 엔티티로 읽지 않고 DB 안에서 바로 복사
+    @Modifying
+    @Query(value = "INSERT INTO orders_archive (pk, customer_pk, product_id, order_number, order_date, status, " +
+            "payment_method, name, zip_code, address, phone, quantity, total_price, remarks, archived_at) " +
+            "SELECT pk, customer_pk, product_id, order_number, order_date, status, " +
+            "payment_method, name, zip_code, address, phone, quantity, total_price, remarks, :archivedAt " +
+            "FROM orders WHERE pk IN (:pks)", nativeQuery = true)
+    int copyFromOrders(@Param("pks") Collection<Long> pks, @Param("archivedAt") LocalDateTime archivedAt);
+}
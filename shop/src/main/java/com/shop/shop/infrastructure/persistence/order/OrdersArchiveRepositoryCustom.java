@@ -0,0 +1,13 @@
+package com.shop.shop.infrastructure.persistence.order;
+
+import com.shop.shop.application.order.dto.response.OrderResponseDto;
+import com.shop.shop.infrastructure.constant.OrderStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface OrdersArchiveRepositoryCustom {
+    Optional<OrderResponseDto> findOrderResponseById(Long orderId);
+    List<OrderResponseDto> findOrdersWithConditions(String customerId, LocalDate startDate, LocalDate endDate, OrderStatus status);
+}
@@ -0,0 +1,75 @@
+package com.shop.shop.infrastructure.persistence.order;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.shop.shop.application.order.dto.response.OrderResponseDto;
+import com.shop.shop.infrastructure.constant.OrderStatus;
+import com.shop.shop.infrastructure.persistence.member.QCustomer;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class OrdersArchiveRepositoryCustomImpl implements OrdersArchiveRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    public OrdersArchiveRepositoryCustomImpl(JPAQueryFactory queryFactory) {
+        this.queryFactory = queryFactory;
+    }
+
+    @Override
+    public Optional<OrderResponseDto> findOrderResponseById(Long orderId) {
+        QOrdersArchive qArchive = QOrdersArchive.ordersArchive;
+        QCustomer qCustomer = QCustomer.customer;
+
+        OrderResponseDto order = queryFactory.select(Projections.constructor(OrderResponseDto.class,
+                        qArchive.pk,
+                        qArchive.orderNumber,
+                        qArchive.productId,
+                        qArchive.quantity,
+                        qCustomer.customerId,
+                        qArchive.status))
+                .from(qArchive)
+                .join(qArchive.customer, qCustomer)
+                .where(qArchive.pk.eq(orderId))
+                .fetchOne();
+        return Optional.ofNullable(order);
+    }
+
+    @Override
+    public List<OrderResponseDto> findOrdersWithConditions(String customerId, LocalDate startDate, LocalDate endDate, OrderStatus status) {
+        QOrdersArchive qArchive = QOrdersArchive.ordersArchive;
+        QCustomer qCustomer = QCustomer.customer;
+
+        BooleanBuilder builder = new BooleanBuilder();
+
+        // 필수 조건: 고객 ID
+        builder.and(qCustomer.customerId.eq(customerId));
+
+        // 선택적 조건: 주문 상태
+        if (status != null) {
+            builder.and(qArchive.status.eq(status));
+        }
+
+        // 선택적 조건: 날짜
+        if (startDate != null && endDate != null) {
+            builder.and(qArchive.orderDate.between(startDate.atStartOfDay(), endDate.atTime(23, 59, 59)));
+        }
+
+        return queryFactory.select(Projections.constructor(OrderResponseDto.class,
+                        qArchive.pk,
+                        qArchive.orderNumber,
+                        qArchive.productId,
+                        qArchive.quantity,
+                        qCustomer.customerId,
+                        qArchive.status))
+                .from(qArchive)
+                .join(qArchive.customer, qCustomer)
+                .where(builder)
+                .fetch();
+    }
+}
@@ -0,0 +1,44 @@
+package com.shop.shop.infrastructure.persistence.order;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+
+// orders_seq 시드: IDENTITY 로 쌓인 기존 주문이 있는 DB 에서 ddl-auto 가 만든 orders_seq 는 1 부터 시작하므로
+// 기동 시 next_val 을 MAX(pk) 이후로 올려 키 충돌을 막음 (이미 충분히 크면 그대로 둠 → 매 기동마다 실행해도 안전)
+// * pooled optimizer 는 읽은 값 V 에 대해 (V - allocationSize, V] 구간을 사용하므로 MAX(pk) + allocationSize 로 맞춤
+// * 아카이브로 이동한 주문도 pk 를 유지하므로 orders_archive 의 MAX(pk) 까지 포함
+// * entityManagerFactory 이후에 생성되므로 스키마 갱신(orders_seq 생성) 이후, 웹 서버가 요청을 받기 전에 실행
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Slf4j
+public class OrdersSequenceInitializer {
+
+    static final String MAX_PK_SQL =
+            "SELECT GREATEST((SELECT COALESCE(MAX(pk), 0) FROM orders), (SELECT COALESCE(MAX(pk), 0) FROM orders_archive))";
+    static final String COUNT_SQL = "SELECT COUNT(*) FROM orders_seq";
+    static final String INSERT_SQL = "INSERT INTO orders_seq (next_val) VALUES (?)";
+    static final String SEED_SQL = "UPDATE orders_seq SET next_val = GREATEST(next_val, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void seed() {
+        Long maxPk = jdbcTemplate.queryForObject(MAX_PK_SQL, Long.class);
+        long nextVal = (maxPk == null ? 0L : maxPk) + Orders.PK_ALLOCATION_SIZE;
+
+        Long rows = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+        if (rows == null || rows == 0L) {
+            // 테이블만 있고 행이 없으면 Hibernate 가 값을 읽지 못하므로 직접 생성
+            jdbcTemplate.update(INSERT_SQL, nextVal);
+        } else {
+            jdbcTemplate.update(SEED_SQL, nextVal);
+        }
+        log.info("orders_seq seeded: max pk={}, next_val>={}", maxPk, nextVal);
+    }
+}
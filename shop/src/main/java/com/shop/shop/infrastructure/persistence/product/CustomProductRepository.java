@@ -1,9 +1,19 @@
 package com.shop.shop.infrastructure.persistence.product;
 
+import com.shop.shop.application.product.dto.ProductSummaryDto;
 import com.shop.shop.application.product.dto.SearchProductFilterDto;
+import com.shop.shop.infrastructure.constant.SearchSort;
+import com.shop.shop.infrastructure.search.SearchCursor;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CustomProductRepository {
-    List<Product> searchByKeywordAndCategory(SearchProductFilterDto searchProductFilterDto);
+    ProductSearchPage searchByKeywordAndCategory(SearchProductFilterDto searchProductFilterDto, SearchSort sort, SearchCursor cursor, int size);
+
+    // 검색 조건 전체에 대한 가격/재고/카테고리 집계와 가격 히스토그램 (bucketCount 개 이하 구간)
+    ProductSearchFacets facetsByKeywordAndCategory(SearchProductFilterDto searchProductFilterDto, int bucketCount);
+
+    // 상품 요약만 조회 (엔티티 대신 필요한 컬럼만, 없는 ID 는 결과에서 빠짐)
+    List<ProductSummaryDto> findSummariesByIdIn(Collection<Long> ids);
 }
@@ -2,25 +2,188 @@ package com.shop.shop.infrastructure.persistence.product;
 
 import com.querydsl.core.BooleanBuilder;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.DateTimeExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.shop.shop.application.product.dto.ProductCardDto;
+import com.shop.shop.application.product.dto.ProductSummaryDto;
 import com.shop.shop.application.product.dto.SearchProductFilterDto;
+import com.shop.shop.infrastructure.constant.SearchSort;
+import com.shop.shop.infrastructure.search.ProductSearchIndex;
+import com.shop.shop.infrastructure.search.SearchCursor;
+import com.shop.shop.infrastructure.search.SearchPage;
 import lombok.RequiredArgsConstructor;
 
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
-import java.util.List;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
 
 @RequiredArgsConstructor
 public class CustomProductRepositoryImpl implements CustomProductRepository {
 
+    private static final LocalDateTime NO_REGISTERED_DATE = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
+
     private final JPAQueryFactory queryFactory;
+    private final ProductSearchIndex productSearchIndex;
 
     @PersistenceContext
     private EntityManager entityManager;
 
     @Override
-    public List<Product> searchByKeywordAndCategory(SearchProductFilterDto searchProductFilterDto) {
+    public ProductSearchPage searchByKeywordAndCategory(SearchProductFilterDto searchProductFilterDto, SearchSort sort, SearchCursor cursor, int size) {
+        QProduct product = QProduct.product;
+        BooleanBuilder builder = filterConditions(searchProductFilterDto);
+
+        // 키워드는 메모리 색인에서 정렬/페이지까지 처리하고, 해당 페이지 상품만 PK 로 조회 (나머지 조건 재적용으로 색인의 재고 정보 지연 보정)
+        if (productSearchIndex.supports(searchProductFilterDto.getKeyword())) {
+            SearchPage page = productSearchIndex.search(searchProductFilterDto, sort, cursor, size);
+            if (page.getProductIds().isEmpty()) {
+                return new ProductSearchPage(Collections.emptyList(), null);
+            }
+            Map<Long, ProductCardDto> byId = new HashMap<>();
+            queryFactory.select(card(product))
+                    .from(product)
+                    .where(product.id.in(page.getProductIds()), builder)
+                    .fetch()
+                    .forEach(found -> byId.put(found.getId(), found));
+            List<ProductCardDto> products = new ArrayList<>(byId.size());
+            for (Long id : page.getProductIds()) {
+                ProductCardDto found = byId.get(id);
+                if (found != null) {
+                    products.add(found);
+                }
+            }
+            return new ProductSearchPage(products, page.getNextCursor());
+        }
+
+        // 필수 조건: keyword 필터 (3 글자 미만 또는 색인 적재 전)
+        builder.and(product.name.containsIgnoreCase(searchProductFilterDto.getKeyword()));
+
+        // keyset 페이지: (정렬 값, 상품 ID) 가 커서 다음인 행만 size + 1 개 조회 (OFFSET 미사용)
+        QProductDetail productDetail = QProductDetail.productDetail;
+        DateTimeExpression<LocalDateTime> registeredDate = productDetail.registeredDate.coalesce(NO_REGISTERED_DATE);
+        String keyword = ProductSearchIndex.normalize(searchProductFilterDto.getKeyword());
+        NumberExpression<Integer> relevance = relevance(product.name.lower(), keyword);
+        if (cursor != null) {
+            builder.and(after(sort, cursor, relevance, registeredDate));
+        }
+
+        ConstructorExpression<ProductCardDto> card = card(product);
+        List<Tuple> rows = queryFactory.select(card, registeredDate)
+                .from(product)
+                .leftJoin(productDetail).on(productDetail.product.id.eq(product.id))
+                .where(builder)
+                .orderBy(orderBy(sort, relevance, registeredDate), product.id.asc())
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+        List<ProductCardDto> products = new ArrayList<>(rows.size());
+        rows.forEach(row -> products.add(row.get(card)));
+        SearchCursor nextCursor = null;
+        if (hasNext) {
+            Tuple last = rows.get(size - 1);
+            nextCursor = new SearchCursor(sortKey(sort, last.get(card), last.get(registeredDate), keyword), last.get(card).getId());
+        }
+        return new ProductSearchPage(products, nextCursor);
+    }
+
+    @Override
+    public ProductSearchFacets facetsByKeywordAndCategory(SearchProductFilterDto searchProductFilterDto, int bucketCount) {
+        if (productSearchIndex.supports(searchProductFilterDto.getKeyword())) {
+            return productSearchIndex.facets(searchProductFilterDto, bucketCount);
+        }
+
+        // 엔티티를 읽지 않고 집계 쿼리로 계산 (결과 수와 무관하게 행 수 일정)
+        QProduct product = QProduct.product;
+        BooleanBuilder builder = filterConditions(searchProductFilterDto);
+        builder.and(product.name.containsIgnoreCase(searchProductFilterDto.getKeyword()));
+
+        NumberExpression<Long> count = product.count();
+        NumberExpression<Long> minPriceExpr = product.price.min();
+        NumberExpression<Long> maxPriceExpr = product.price.max();
+        NumberExpression<Long> inStockCount = new CaseBuilder()
+                .when(product.stockQuantity.gt(0)).then(1L)
+                .otherwise(0L)
+                .sum();
+        Tuple stats = queryFactory.select(count, minPriceExpr, maxPriceExpr, inStockCount)
+                .from(product)
+                .where(builder)
+                .fetchOne();
+        long totalCount = stats != null && stats.get(count) != null ? stats.get(count) : 0L;
+        if (totalCount == 0) {
+            return ProductSearchFacets.empty();
+        }
+        long minPrice = stats.get(minPriceExpr);
+        long maxPrice = stats.get(maxPriceExpr);
+
+        // 카테고리별 상품 수
+        Map<String, Long> categoryCounts = new LinkedHashMap<>();
+        queryFactory.select(product.category, count)
+                .from(product)
+                .where(builder, product.category.isNotNull())
+                .groupBy(product.category)
+                .orderBy(count.desc())
+                .fetch()
+                .forEach(row -> categoryCounts.put(row.get(product.category), row.get(count)));
+
+        // 가격 히스토그램: 구간별 조건부 SUM 을 한 행으로 조회 (GROUP BY 식 미사용)
+        long width = ProductSearchFacets.bucketWidth(minPrice, maxPrice, bucketCount);
+        int buckets = ProductSearchFacets.bucketCount(minPrice, maxPrice, width);
+        List<NumberExpression<Long>> bucketSums = new ArrayList<>(buckets);
+        for (int i = 0; i < buckets; i++) {
+            bucketSums.add(new CaseBuilder()
+                    .when(product.price.between(minPrice + i * width, minPrice + (i + 1) * width - 1)).then(1L)
+                    .otherwise(0L)
+                    .sum());
+        }
+        Tuple histogramRow = queryFactory.select(bucketSums.toArray(new Expression<?>[0]))
+                .from(product)
+                .where(builder)
+                .fetchOne();
+        List<PriceBucket> priceHistogram = new ArrayList<>(buckets);
+        for (int i = 0; i < buckets; i++) {
+            Long bucketTotal = histogramRow != null ? histogramRow.get(bucketSums.get(i)) : null;
+            priceHistogram.add(new PriceBucket(minPrice + i * width, minPrice + (i + 1) * width - 1, bucketTotal != null ? bucketTotal : 0L));
+        }
+
+        Long inStock = stats.get(inStockCount);
+        return new ProductSearchFacets(totalCount, minPrice, maxPrice, inStock != null ? inStock : 0L, categoryCounts, priceHistogram);
+    }
+
+    @Override
+    public List<ProductSummaryDto> findSummariesByIdIn(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        QProduct product = QProduct.product;
+        return queryFactory.select(Projections.constructor(ProductSummaryDto.class,
+                        product.id, product.name, product.price, product.category, product.stockQuantity))
+                .from(product)
+                .where(product.id.in(ids))
+                .fetch();
+    }
+
+    // 검색 목록 카드에 필요한 컬럼만 조회 (description, shipping 제외)
+    private ConstructorExpression<ProductCardDto> card(QProduct product) {
+        return Projections.constructor(ProductCardDto.class, product.id, product.name, product.price, product.stockQuantity);
+    }
+
+    private BooleanBuilder filterConditions(SearchProductFilterDto searchProductFilterDto) {
         QProduct product = QProduct.product;
         BooleanBuilder builder = new BooleanBuilder();
 
@@ -29,9 +192,6 @@ public class CustomProductRepositoryImpl implements CustomProductRepository {
             builder.and(product.category.eq(searchProductFilterDto.getCategory()));
         }
 
-        // 필수 조건: keyword 필터
-        builder.and(product.name.containsIgnoreCase(searchProductFilterDto.getKeyword()));
-
         // 선택 조건: 가격 범위 필터 (null이 아닐 경우에만)
         if (searchProductFilterDto.getMinPrice() != null) {
             builder.and(product.price.goe(searchProductFilterDto.getMinPrice())); // minPrice보다 크거나 같음
@@ -44,12 +204,61 @@ public class CustomProductRepositoryImpl implements CustomProductRepository {
         if (searchProductFilterDto.getInStock() != null) {
             builder.and(product.stockQuantity.gt(0)); // 재고가 있을 경우
         }
+        return builder;
+    }
+
+    // ProductSearchIndex.relevance 와 같은 규칙의 CASE 식
+    private NumberExpression<Integer> relevance(StringExpression name, String keyword) {
+        return new CaseBuilder()
+                .when(name.eq(keyword)).then(3)
+                .when(name.startsWith(keyword)).then(2)
+                .when(name.contains(" " + keyword)).then(1)
+                .otherwise(0);
+    }
 
+    private OrderSpecifier<?> orderBy(SearchSort sort, NumberExpression<Integer> relevance, DateTimeExpression<LocalDateTime> registeredDate) {
+        QProduct product = QProduct.product;
+        switch (sort) {
+            case PRICE_ASC:
+                return product.price.asc();
+            case PRICE_DESC:
+                return product.price.desc();
+            case NEWEST:
+                return registeredDate.desc();
+            default:
+                return relevance.desc();
+        }
+    }
 
+    // 커서 다음 행 조건 (정렬 키는 오름차순 기준으로 변환된 값이므로 방향에 맞게 되돌린다)
+    private Predicate after(SearchSort sort, SearchCursor cursor, NumberExpression<Integer> relevance, DateTimeExpression<LocalDateTime> registeredDate) {
+        QProduct product = QProduct.product;
+        long key = cursor.getSortKey();
+        Long lastId = cursor.getProductId();
+        switch (sort) {
+            case PRICE_ASC:
+                return product.price.gt(key).or(product.price.eq(key).and(product.id.gt(lastId)));
+            case PRICE_DESC:
+                return product.price.lt(-key).or(product.price.eq(-key).and(product.id.gt(lastId)));
+            case NEWEST:
+                LocalDateTime last = SearchCursor.fromEpochMicros(-key);
+                return registeredDate.lt(last).or(registeredDate.eq(last).and(product.id.gt(lastId)));
+            default:
+                int score = (int) -key;
+                return relevance.lt(score).or(relevance.eq(score).and(product.id.gt(lastId)));
+        }
+    }
 
-        // 쿼리 실행 및 결과 반환
-        return queryFactory.selectFrom(product)
-                .where(builder)
-                .fetch();  // Product 타입으로 결과 리스트 가져오기
+    private long sortKey(SearchSort sort, ProductCardDto product, LocalDateTime registeredDate, String keyword) {
+        switch (sort) {
+            case PRICE_ASC:
+                return product.getPrice();
+            case PRICE_DESC:
+                return -product.getPrice();
+            case NEWEST:
+                return -SearchCursor.toEpochMicros(registeredDate);
+            default:
+                return -ProductSearchIndex.relevance(ProductSearchIndex.normalize(product.getName()), keyword);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,15 @@
+package com.shop.shop.infrastructure.persistence.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 가격 히스토그램 구간 [minPrice, maxPrice] 의 상품 수 (검색 응답과 함께 REDIS_CACHE 에 저장되므로 기본 생성자 필요)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PriceBucket {
+    private long minPrice;
+    private long maxPrice;
+    private long count;
+}
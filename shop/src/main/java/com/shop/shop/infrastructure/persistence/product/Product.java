@@ -34,6 +34,26 @@ public class Product {
     @Column(nullable = false)
     private String shipping;
 
+    @Column
+    private Integer stockStripes; // 재고 샤드 수 (null 또는 1 이하면 단일 재고)
+
+    @Column
+    private Long reservationFlushSequence; // 마지막으로 반영한 Redis 예약 일괄 반영 번호 (재시도 시 중복 차감 방지)
+
+    @Version
+    @Column(columnDefinition = "bigint default 0")
+    private Long version; // 낙관적 잠금 버전 (조건부 재고 UPDATE 도 함께 증가)
+
+    public Product(Long id, String name, String description, String category, Long stockQuantity, Long price, String shipping) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.category = category;
+        this.stockQuantity = stockQuantity;
+        this.price = price;
+        this.shipping = shipping;
+    }
+
     public Product(long id, String name, long stockQuantity) {
         this.id = id;
         this.name = name;
@@ -63,8 +83,14 @@ public class Product {
     }
 
     // 재고가 있는지 여부를 반환하는 메서드
+    // 샤드 재고 상품은 스케줄러가 샤드 합계로 갱신한 stockQuantity 를 기준으로 판단
     public boolean isInStock() {
         return this.stockQuantity > 0;  // 재고가 0보다 클 경우 true 반환
     }
 
+    // 재고가 샤드로 분산되어 있는지 여부
+    public boolean isStockStriped() {
+        return this.stockStripes != null && this.stockStripes > 1;
+    }
+
 }
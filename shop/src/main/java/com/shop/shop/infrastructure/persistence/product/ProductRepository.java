@@ -2,9 +2,13 @@ package com.shop.shop.infrastructure.persistence.product;
 
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,5 +16,46 @@ import java.util.Optional;
 public interface ProductRepository extends JpaRepository <Product, Long>, CustomProductRepository{
     Optional<Product> findById(Long id);
 
-}
+    // 상품 잠금 조회 (재고 샤드 재구성 시 사용)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id = :id")
+    Optional<Product> findByIdForUpdate(@Param("id") Long id);
+
+    // 재고 조건부 차감 (재고가 충분할 때만 단일 UPDATE 로 차감, 반영된 row 수 반환)
+    // 샤드 재고 상품의 stockQuantity 는 집계 값이므로 차감하지 않음 (조회 이후 샤드로 전환된 경우도 잠금 시점에 다시 확인)
+    @Modifying
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity - :quantity, p.version = p.version + 1 " +
+            "WHERE p.id = :id AND p.stockQuantity >= :quantity AND (p.stockStripes IS NULL OR p.stockStripes <= 1)")
+    int decreaseStockQuantity(@Param("id") Long id, @Param("quantity") Long quantity);
+
+    // 재고 증가 (주문 취소 등으로 재고 복구)
+    @Modifying
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity + :quantity, p.version = p.version + 1 WHERE p.id = :id")
+    int increaseStockQuantity(@Param("id") Long id, @Param("quantity") Long quantity);
+
+    // Redis 예약 수량 일괄 반영 (음수면 재고 복구)
+    // 반영 번호를 같은 UPDATE 로 기록하고, 이미 같거나 더 큰 번호가 반영된 상품은 건너뜀 (재시도해도 한 번만 반영)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity - :quantity, p.reservationFlushSequence = :sequence, " +
+            "p.version = p.version + 1 " +
+            "WHERE p.id = :id AND p.stockQuantity >= :quantity AND COALESCE(p.reservationFlushSequence, 0) < :sequence")
+    int applyReservationFlush(@Param("id") Long id, @Param("quantity") Long quantity, @Param("sequence") Long sequence);
 
+    // 샤드 재고 상품의 stockQuantity 를 샤드 합계로 갱신 (재고 여부/검색 필터용 집계 뷰)
+    // version 도 올려 같은 상품을 읽고 저장하는 낙관적 잠금 쪽이 갱신 전 값으로 덮어쓰지 않도록 함
+    @Modifying
+    @Query("UPDATE Product p SET p.stockQuantity = " +
+            "(SELECT COALESCE(SUM(s.stockQuantity), 0) FROM ProductStockShard s WHERE s.productId = p.id), " +
+            "p.version = p.version + 1 " +
+            "WHERE p.stockStripes > 1")
+    int refreshStripedStockQuantity();
+
+    // 잠금 상태에서 최신 샤드 수 조회 (잠금 읽기라 트랜잭션 시작 이후 커밋된 샤드 전환도 보임, 단일 재고면 null 또는 1 이하)
+    @Query(value = "SELECT stock_stripes FROM product WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Integer lockStockStripes(@Param("id") Long id);
+
+    // 샤드 재고 상품 ID 목록
+    @Query("SELECT p.id FROM Product p WHERE p.stockStripes > 1")
+    List<Long> findStripedProductIds();
+
+}
@@ -0,0 +1,35 @@
+package com.shop.shop.infrastructure.persistence.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+// 검색 조건 전체(페이지 무관)에 대한 집계 값
+// * 결과 수와 무관하게 크기가 일정 (카테고리 수, 히스토그램 구간 수만큼)
+@Getter
+@AllArgsConstructor
+public class ProductSearchFacets {
+    private final long totalCount;
+    private final long minPrice;
+    private final long maxPrice;
+    private final long inStockCount;
+    private final Map<String, Long> categoryCounts; // 상품 수 내림차순
+    private final List<PriceBucket> priceHistogram;
+
+    public static ProductSearchFacets empty() {
+        return new ProductSearchFacets(0L, 0L, 0L, 0L, Collections.emptyMap(), Collections.emptyList());
+    }
+
+    // 최소~최대 가격을 bucketCount 개 이하의 같은 너비 구간으로 나눌 때의 너비
+    public static long bucketWidth(long minPrice, long maxPrice, int bucketCount) {
+        long range = maxPrice - minPrice + 1;
+        return Math.max(1L, (range + bucketCount - 1) / bucketCount);
+    }
+
+    public static int bucketCount(long minPrice, long maxPrice, long width) {
+        return (int) ((maxPrice - minPrice) / width) + 1;
+    }
+}
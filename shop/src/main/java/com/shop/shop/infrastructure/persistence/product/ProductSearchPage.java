@@ -0,0 +1,16 @@
+package com.shop.shop.infrastructure.persistence.product;
+
+import com.shop.shop.application.product.dto.ProductCardDto;
+import com.shop.shop.infrastructure.search.SearchCursor;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 정렬된 검색 결과 한 페이지
+@Getter
+@AllArgsConstructor
+public class ProductSearchPage {
+    private final List<ProductCardDto> products;
+    private final SearchCursor nextCursor; // 마지막 페이지면 null
+}
@@ -0,0 +1,35 @@
+package com.shop.shop.infrastructure.persistence.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "product_stock_shard",
+        uniqueConstraints = @UniqueConstraint(name = "uk_product_stock_shard", columnNames = {"product_id", "shard_no"}))
+public class ProductStockShard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long pk; // primary key
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId; // 상품 ID
+
+    @Column(name = "shard_no", nullable = false)
+    private Integer shardNo; // 샤드 번호 (0 ~ stockStripes - 1)
+
+    @Column(nullable = false)
+    private Long stockQuantity; // 샤드 재고
+
+    public ProductStockShard(Long productId, Integer shardNo, Long stockQuantity) {
+        this.productId = productId;
+        this.shardNo = shardNo;
+        this.stockQuantity = stockQuantity;
+    }
+}
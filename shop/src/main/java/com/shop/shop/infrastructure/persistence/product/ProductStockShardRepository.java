@@ -0,0 +1,32 @@
+package com.shop.shop.infrastructure.persistence.product;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.util.List;
+
+@Repository
+public interface ProductStockShardRepository extends JpaRepository<ProductStockShard, Long> {
+
+    // 상품의 전체 샤드를 잠금 조회 (단일 샤드로 처리할 수 없는 주문 / 샤드 재구성 시 사용)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProductStockShard s WHERE s.productId = :productId ORDER BY s.shardNo")
+    List<ProductStockShard> findByProductIdForUpdate(@Param("productId") Long productId);
+
+    // 샤드 재고 조건부 차감
+    @Modifying
+    @Query("UPDATE ProductStockShard s SET s.stockQuantity = s.stockQuantity - :quantity " +
+            "WHERE s.productId = :productId AND s.shardNo = :shardNo AND s.stockQuantity >= :quantity")
+    int decreaseStockQuantity(@Param("productId") Long productId, @Param("shardNo") Integer shardNo, @Param("quantity") Long quantity);
+
+    // 샤드 재고 증가
+    @Modifying
+    @Query("UPDATE ProductStockShard s SET s.stockQuantity = s.stockQuantity + :quantity " +
+            "WHERE s.productId = :productId AND s.shardNo = :shardNo")
+    int increaseStockQuantity(@Param("productId") Long productId, @Param("shardNo") Integer shardNo, @Param("quantity") Long quantity);
+}
@@ -0,0 +1,30 @@
+package com.shop.shop.infrastructure.scheduler;
+
+import com.shop.shop.domain.cart.CartArchiveResult;
+import com.shop.shop.domain.cart.CartArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shop.cart.archive.enabled", havingValue = "true")
+public class CartArchiveScheduler {
+
+    private final CartArchiveService cartArchiveService;
+
+    // 방치된 장바구니를 MySQL 로 옮기고 Redis 에서 제거
+    @Scheduled(cron = "${shop.cart.archive.cron:0 30 4 * * *}")
+    public void archive() {
+        try {
+            CartArchiveResult result = cartArchiveService.archiveAbandonedCarts();
+            log.info("Archived {} of {} carts, reclaimed {} bytes",
+                    result.getArchivedCarts(), result.getScannedCarts(), result.getReclaimedBytes());
+        } catch (Exception e) {
+            log.error("Error archiving carts: {}", e.getMessage());
+        }
+    }
+}
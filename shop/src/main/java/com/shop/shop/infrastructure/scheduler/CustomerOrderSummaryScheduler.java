@@ -0,0 +1,26 @@
+package com.shop.shop.infrastructure.scheduler;
+
+import com.shop.shop.domain.order.CustomerOrderSummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CustomerOrderSummaryScheduler {
+
+    private final CustomerOrderSummaryService customerOrderSummaryService;
+
+    // 고객별 주문 요약 전체 재계산 (기본값 "-" 는 비활성화)
+    @Scheduled(cron = "${shop.order.summary.rebuild-cron:-}")
+    public void rebuild() {
+        try {
+            int customers = customerOrderSummaryService.rebuildAll();
+            log.info("Rebuilt order summary for {} customers", customers);
+        } catch (Exception e) {
+            log.error("Error rebuilding order summary: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.shop.shop.infrastructure.scheduler;
+
+import com.shop.shop.infrastructure.util.OptimisticRetryAspect;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OptimisticRetryStatsScheduler {
+
+    private final OptimisticRetryAspect optimisticRetryAspect;
+
+    // 직전 로그 시점의 누적값 (구간별 충돌/재시도 비율 계산용)
+    private long lastInvocations;
+    private long lastConflicts;
+    private long lastRetries;
+    private long lastExhausted;
+
+    // @OptimisticRetry 호출 대비 충돌/재시도/소진 비율을 주기적으로 로그 (구간 내 호출이 있을 때만)
+    @Scheduled(fixedDelayString = "${shop.optimistic-retry.stats-interval-ms:60000}")
+    public void logStats() {
+        long invocations = optimisticRetryAspect.getInvocationCount();
+        long conflicts = optimisticRetryAspect.getConflictCount();
+        long retries = optimisticRetryAspect.getRetryCount();
+        long exhausted = optimisticRetryAspect.getExhaustedCount();
+
+        long calls = invocations - lastInvocations;
+        if (calls > 0) {
+            log.info("Optimistic retry: {} calls, {} conflicts ({}%), {} retries ({}%), {} exhausted",
+                    calls,
+                    conflicts - lastConflicts, percent(conflicts - lastConflicts, calls),
+                    retries - lastRetries, percent(retries - lastRetries, calls),
+                    exhausted - lastExhausted);
+        }
+        lastInvocations = invocations;
+        lastConflicts = conflicts;
+        lastRetries = retries;
+        lastExhausted = exhausted;
+    }
+
+    private String percent(long count, long calls) {
+        return String.format("%.1f", count * 100.0 / calls);
+    }
+}
@@ -0,0 +1,37 @@
+package com.shop.shop.infrastructure.scheduler;
+
+import com.shop.shop.domain.order.OrderArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shop.order.archive.enabled", havingValue = "true")
+public class OrderArchiveScheduler {
+
+    private final OrderArchiveService orderArchiveService;
+
+    @Value("${shop.order.archive.batch-size:1000}")
+    private int batchSize;
+
+    // 보관 기간이 지난 완료/취소 주문을 batch 단위(batch 마다 별도 트랜잭션)로 아카이브 이동
+    @Scheduled(cron = "${shop.order.archive.cron:0 0 4 * * *}")
+    public void archive() {
+        try {
+            long total = 0;
+            int moved;
+            do {
+                moved = orderArchiveService.archiveBatch();
+                total += moved;
+            } while (moved == batchSize);
+            log.info("Archived {} orders", total);
+        } catch (Exception e) {
+            log.error("Error archiving orders: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.shop.shop.infrastructure.scheduler;
+
+import com.shop.shop.domain.order.OrderOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderOutboxRelay {
+
+    private final OrderOutboxService orderOutboxService;
+
+    @Value("${shop.order.outbox.batch-size:500}")
+    private int batchSize;
+
+    // 미발행 주문 이벤트를 batch 단위로 발행 (가득 찬 batch 가 나오면 이어서 처리)
+    @Scheduled(fixedDelayString = "${shop.order.outbox.relay-interval-ms:200}")
+    public void relay() {
+        try {
+            int published;
+            do {
+                published = orderOutboxService.relayBatch();
+            } while (published == batchSize);
+        } catch (Exception e) {
+            log.error("Error relaying order events: {}", e.getMessage());
+        }
+    }
+
+    // 발행 완료 후 보관 기간이 지난 이벤트 삭제
+    @Scheduled(cron = "0 30 * * * *")
+    public void purge() {
+        try {
+            int deleted = orderOutboxService.purgePublished();
+            log.info("Purged {} published order events", deleted);
+        } catch (Exception e) {
+            log.error("Error purging order events: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.shop.shop.infrastructure.scheduler;
+
+import com.shop.shop.infrastructure.search.ProductSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexScheduler {
+
+    private final ProductSearchIndex productSearchIndex;
+
+    // 재고가 바뀐 상품을 모아서 다시 색인 (주문 요청 스레드/트랜잭션 커밋과 분리)
+    @Scheduled(fixedDelayString = "${shop.search.reindex-interval-ms:1000}")
+    public void reindexChanged() {
+        try {
+            productSearchIndex.reindexPending();
+        } catch (Exception e) {
+            log.error("Error reindexing changed products: {}", e.getMessage());
+        }
+    }
+
+    // 검색 색인의 재고 비트를 DB 재고로 주기적으로 보정 (다른 서버에서 커밋된 재고 변경 반영)
+    @Scheduled(fixedDelayString = "${shop.search.stock-refresh-interval-ms:60000}")
+    public void refreshStock() {
+        try {
+            int changed = productSearchIndex.refreshStock();
+            if (changed > 0) {
+                log.info("Refreshed search index stock for {} products", changed);
+            }
+        } catch (Exception e) {
+            log.error("Error refreshing search index stock: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.shop.shop.infrastructure.scheduler;
+
+import com.shop.shop.domain.stock.StockReservationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shop.stock.reservation.enabled", havingValue = "true")
+public class StockReservationScheduler {
+
+    private final StockReservationService stockReservationService;
+
+    // Redis 에 누적된 예약 수량을 주기적으로 DB 에 일괄 반영 (write-back)
+    @Scheduled(fixedDelayString = "${shop.stock.reservation.flush-interval-ms:1000}")
+    public void flushPendingReservations() {
+        try {
+            stockReservationService.flushPendingReservations();
+        } catch (Exception e) {
+            log.error("Error flushing stock reservations: {}", e.getMessage());
+        }
+    }
+
+    // Redis 미러 재고를 DB 재고 기준으로 재조정
+    @Scheduled(fixedDelayString = "${shop.stock.reservation.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        try {
+            stockReservationService.reconcile();
+        } catch (Exception e) {
+            log.error("Error reconciling stock reservations: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.shop.shop.infrastructure.scheduler;
+
+import com.shop.shop.domain.stock.StripedStockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockShardScheduler {
+
+    private final StripedStockService stripedStockService;
+
+    // 샤드 재고 합계를 Product.stockQuantity 에 주기적으로 반영
+    @Scheduled(fixedDelayString = "${shop.stock.stripes.aggregate-interval-ms:5000}")
+    public void refreshAggregatedStock() {
+        try {
+            stripedStockService.refreshAggregatedStock();
+        } catch (Exception e) {
+            log.error("Error refreshing striped stock: {}", e.getMessage());
+        }
+    }
+}
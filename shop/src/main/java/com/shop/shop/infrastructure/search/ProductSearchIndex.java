@@ -0,0 +1,528 @@
+package com.shop.shop.infrastructure.search;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.shop.shop.application.product.dto.SearchProductFilterDto;
+import com.shop.shop.domain.stock.event.StockChangedEvent;
+import com.shop.shop.infrastructure.constant.SearchSort;
+import com.shop.shop.infrastructure.persistence.product.PriceBucket;
+import com.shop.shop.infrastructure.persistence.product.ProductSearchFacets;
+import com.shop.shop.infrastructure.persistence.product.QProduct;
+import com.shop.shop.infrastructure.persistence.product.QProductDetail;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+
+// 상품명 검색용 메모리 역색인 (name LIKE '%keyword%' 전체 스캔 대체)
+// * 상품명을 소문자 3-gram 으로 나눠 gram 별 문서 번호 목록(정렬된 int 배열)을 유지
+//   전체 문서의 1/16 이상에 나오는 흔한 gram 은 비트셋도 함께 유지 (gram 수와 무관하게 메모리 상한이 정해짐)
+// * 검색: 모든 gram 이 흔하면 비트셋 AND(카테고리/재고 포함)로 한 번에 교집합,
+//   아니면 가장 짧은 목록을 기준으로 나머지 목록을 비트셋/이진 탐색으로 확인한 뒤 카테고리/재고 비트셋, 가격 배열로 필터
+//   → 3-gram 이 모두 있어도 부분 문자열이 아닐 수 있으므로 상품명 contains 로 최종 확인 (LIKE 와 같은 결과)
+// * 정렬(관련도/가격/최신)과 keyset 커서 페이지도 색인 안에서 처리 (상위 size + 1 개만 유지)
+// * 가격/재고/카테고리 집계도 일치 문서 순회로 계산 (엔티티 미조회)
+// * 기동 시 전체 적재, 재고 변경 알림(StockChangedEvent)을 받은 상품은 대기열에 모아
+//   SearchIndexScheduler 가 shop.search.reindex-interval-ms 마다 IN 조회 한 번으로 다시 색인 (요청 스레드에서는 조회하지 않음)
+// * 다른 서버에서 커밋된 재고 변경은 알림이 오지 않으므로 주기적으로 재고 컬럼만 다시 읽어 재고 비트를 보정
+//   (shop.search.stock-refresh-interval-ms 가 재고 필터/집계가 DB 와 어긋날 수 있는 최대 시간)
+// * 3 글자 미만 키워드나 적재 전에는 사용할 수 없음 (호출자가 SQL 로 처리)
+@Slf4j
+@Component
+public class ProductSearchIndex {
+
+    public static final int GRAM_LENGTH = 3;
+    private static final int DENSE_RATIO = 16;
+    private static final int MIN_DENSE_SIZE = 1024;
+
+    private final JPAQueryFactory queryFactory;
+    private final int loadBatchSize;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    // 문서 번호(docId) 별 값 (상품명이 바뀌면 새 문서 번호를 받고 기존 번호는 live 에서 제거)
+    private int size;
+    private long[] productIds = new long[1024];
+    private String[] names = new String[1024];
+    private long[] prices = new long[1024];
+    private long[] registeredAt = new long[1024]; // 등록 시각 (epoch µs, UTC 기준으로 환산, DB 커서와 같은 단위)
+    private String[] categoryOf = new String[1024];
+    private final BitSet live = new BitSet();
+    private final BitSet inStock = new BitSet();
+    private final Map<Long, Integer> docByProductId = new HashMap<>();
+    private final Map<String, BitSet> categories = new HashMap<>();
+    private final Map<Long, Postings> postings = new HashMap<>();
+
+    // 다시 색인할 상품 ID (재고 변경 커밋 후 추가, reindexPending 에서 비움)
+    private final Set<Long> pendingReindex = ConcurrentHashMap.newKeySet();
+
+    public ProductSearchIndex(JPAQueryFactory queryFactory,
+                              @Value("${shop.search.load-batch-size:5000}") int loadBatchSize) {
+        this.queryFactory = queryFactory;
+        this.loadBatchSize = loadBatchSize;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 색인으로 처리할 수 있는 검색인지 여부
+    public boolean supports(String keyword) {
+        return ready && keyword != null && keyword.length() >= GRAM_LENGTH;
+    }
+
+    // 정렬 순서상 커서 다음부터 size 개 (힙에는 size + 1 개만 유지해 결과 수와 무관하게 메모리 일정)
+    public SearchPage search(SearchProductFilterDto filter, SearchSort sort, SearchCursor cursor, int size) {
+        String keyword = normalize(filter.getKeyword());
+        Comparator<Hit> order = Comparator.comparingLong((Hit hit) -> hit.sortKey).thenComparingLong(hit -> hit.productId);
+        PriorityQueue<Hit> top = new PriorityQueue<>(Math.min(size + 1, 1024), order.reversed());
+        lock.readLock().lock();
+        try {
+            forEachMatch(filter, keyword, doc -> {
+                long sortKey = sortKey(sort, doc, keyword);
+                long productId = productIds[doc];
+                if (cursor != null && !cursor.isBefore(sortKey, productId)) {
+                    return;
+                }
+                Hit hit = new Hit(sortKey, productId);
+                if (top.size() <= size) {
+                    top.add(hit);
+                } else if (order.compare(hit, top.peek()) < 0) {
+                    top.poll();
+                    top.add(hit);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(order);
+        boolean hasNext = hits.size() > size;
+        if (hasNext) {
+            hits = hits.subList(0, size);
+        }
+        List<Long> ids = new ArrayList<>(hits.size());
+        hits.forEach(hit -> ids.add(hit.productId));
+        SearchCursor nextCursor = hasNext ? new SearchCursor(hits.get(size - 1).sortKey, hits.get(size - 1).productId) : null;
+        return new SearchPage(ids, nextCursor);
+    }
+
+    // 조건을 만족하는 전체 상품의 집계 (1차: 건수/최소·최대 가격/재고/카테고리, 2차: 가격 구간)
+    // * 일치 문서를 모으지 않고 순회만 하므로 결과 수와 무관하게 메모리 일정
+    public ProductSearchFacets facets(SearchProductFilterDto filter, int bucketCount) {
+        String keyword = normalize(filter.getKeyword());
+        long[] stats = {0L, Long.MAX_VALUE, Long.MIN_VALUE, 0L}; // 건수, 최소, 최대, 재고 있음
+        Map<String, long[]> categoryCounts = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            forEachMatch(filter, keyword, doc -> {
+                stats[0]++;
+                stats[1] = Math.min(stats[1], prices[doc]);
+                stats[2] = Math.max(stats[2], prices[doc]);
+                if (inStock.get(doc)) {
+                    stats[3]++;
+                }
+                if (categoryOf[doc] != null) {
+                    categoryCounts.computeIfAbsent(categoryOf[doc], key -> new long[1])[0]++;
+                }
+            });
+            if (stats[0] == 0) {
+                return ProductSearchFacets.empty();
+            }
+
+            long minPrice = stats[1];
+            long width = ProductSearchFacets.bucketWidth(minPrice, stats[2], bucketCount);
+            long[] buckets = new long[ProductSearchFacets.bucketCount(minPrice, stats[2], width)];
+            forEachMatch(filter, keyword, doc -> buckets[(int) ((prices[doc] - minPrice) / width)]++);
+
+            List<PriceBucket> histogram = new ArrayList<>(buckets.length);
+            for (int i = 0; i < buckets.length; i++) {
+                histogram.add(new PriceBucket(minPrice + i * width, minPrice + (i + 1) * width - 1, buckets[i]));
+            }
+            Map<String, Long> categories = new LinkedHashMap<>();
+            categoryCounts.entrySet().stream()
+                    .sorted((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]))
+                    .forEach(entry -> categories.put(entry.getKey(), entry.getValue()[0]));
+            return new ProductSearchFacets(stats[0], minPrice, stats[2], stats[3], categories, histogram);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 관련도 점수 (상품명 일치 3, 접두어 2, 단어 시작 1, 부분 일치 0) - SQL 경로의 CASE 식과 같은 규칙
+    public static int relevance(String normalizedName, String keyword) {
+        if (normalizedName.equals(keyword)) {
+            return 3;
+        }
+        if (normalizedName.startsWith(keyword)) {
+            return 2;
+        }
+        return normalizedName.contains(" " + keyword) ? 1 : 0;
+    }
+
+    public static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private long sortKey(SearchSort sort, int doc, String keyword) {
+        switch (sort) {
+            case PRICE_ASC:
+                return prices[doc];
+            case PRICE_DESC:
+                return -prices[doc];
+            case NEWEST:
+                return -registeredAt[doc];
+            default:
+                return -relevance(names[doc], keyword);
+        }
+    }
+
+    private void forEachMatch(SearchProductFilterDto filter, String keyword, IntConsumer action) {
+        BitSet category = null;
+        if (filter.getCategory() != null && !filter.getCategory().isEmpty()) {
+            category = categories.get(filter.getCategory());
+            if (category == null) {
+                return;
+            }
+        }
+
+        Postings[] lists = postingsOf(keyword);
+        if (lists == null) {
+            return;
+        }
+
+        long minPrice = filter.getMinPrice() != null ? filter.getMinPrice() : Long.MIN_VALUE;
+        long maxPrice = filter.getMaxPrice() != null ? filter.getMaxPrice() : Long.MAX_VALUE;
+        boolean inStockOnly = filter.getInStock() != null;
+
+        if (Arrays.stream(lists).allMatch(list -> list.bits != null)) {
+            // 모든 gram 이 흔한 경우: 비트셋 AND 로 교집합 (long 단위 연산)
+            BitSet matched = (BitSet) lists[0].bits.clone();
+            for (int j = 1; j < lists.length; j++) {
+                matched.and(lists[j].bits);
+            }
+            matched.and(live);
+            if (category != null) {
+                matched.and(category);
+            }
+            if (inStockOnly) {
+                matched.and(inStock);
+            }
+            for (int doc = matched.nextSetBit(0); doc >= 0; doc = matched.nextSetBit(doc + 1)) {
+                if (prices[doc] >= minPrice && prices[doc] <= maxPrice && names[doc].contains(keyword)) {
+                    action.accept(doc);
+                }
+            }
+            return;
+        }
+
+        Postings smallest = lists[0];
+        candidates:
+        for (int i = 0; i < smallest.size; i++) {
+            int doc = smallest.docs[i];
+            if (!live.get(doc)
+                    || (category != null && !category.get(doc))
+                    || (inStockOnly && !inStock.get(doc))
+                    || prices[doc] < minPrice || prices[doc] > maxPrice) {
+                continue;
+            }
+            for (int j = 1; j < lists.length; j++) {
+                if (!lists[j].contains(doc)) {
+                    continue candidates;
+                }
+            }
+            if (names[doc].contains(keyword)) {
+                action.accept(doc);
+            }
+        }
+    }
+
+    // 상품 추가/변경 반영
+    public void index(Long productId, String name, String category, Long price, Long stockQuantity, LocalDateTime registeredDate) {
+        String normalizedName = normalize(name);
+        lock.writeLock().lock();
+        try {
+            Integer existing = docByProductId.get(productId);
+            int doc;
+            if (existing != null && names[existing].equals(normalizedName)) {
+                // 상품명이 같으면 문서 번호 유지 (가격/재고/카테고리만 갱신)
+                doc = existing;
+                categories.values().forEach(bits -> bits.clear(existing));
+            } else {
+                if (existing != null) {
+                    live.clear(existing);
+                }
+                doc = append(productId, normalizedName);
+            }
+            prices[doc] = price != null ? price : 0L;
+            registeredAt[doc] = registeredDate != null ? SearchCursor.toEpochMicros(registeredDate) : 0L;
+            inStock.set(doc, stockQuantity != null && stockQuantity > 0);
+            categoryOf[doc] = category;
+            if (category != null) {
+                categories.computeIfAbsent(category, key -> new BitSet()).set(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByProductId.remove(productId);
+            if (doc != null) {
+                live.clear(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 기동 시 전체 적재 (id 기준 keyset 으로 나눠 조회, 엔티티 대신 필요한 컬럼만)
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            // 적재에 실패하면 검색은 계속 SQL 로 처리
+            log.error("Failed to build product search index: {}", e.getMessage());
+        }
+    }
+
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        QProduct product = QProduct.product;
+        long lastId = 0L;
+        int loaded = 0;
+        List<Tuple> rows;
+        do {
+            rows = selectRows()
+                    .where(product.id.gt(lastId))
+                    .orderBy(product.id.asc())
+                    .limit(loadBatchSize)
+                    .fetch();
+            for (Tuple row : rows) {
+                index(row);
+                lastId = row.get(product.id);
+            }
+            loaded += rows.size();
+        } while (rows.size() == loadBatchSize);
+        ready = true;
+        log.info("Product search index built: {} products, {} grams in {}ms",
+                loaded, postings.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    // 재고가 바뀐 상품은 다시 색인 대기열에 추가 (주문 생성/수정/취소, 예약 반영, 샤드 합계 갱신)
+    // * 커밋된 뒤에만 받고 대기열에 넣기만 함 (DB 조회는 reindexPending 에서 모아서 처리)
+    @TransactionalEventListener(classes = StockChangedEvent.class, fallbackExecution = true)
+    public void onStockChanged(StockChangedEvent event) {
+        if (ready && event.getProductId() != null) {
+            pendingReindex.add(event.getProductId());
+        }
+    }
+
+    // 대기열의 상품을 loadBatchSize 개씩 IN 조회로 다시 색인 (반환값: 처리한 상품 수)
+    // * 조회에 실패하면 꺼낸 상품을 대기열에 되돌리고 예외를 그대로 던짐 (다음 주기에 재시도)
+    public int reindexPending() {
+        List<Long> productIds = new ArrayList<>();
+        for (Iterator<Long> iterator = pendingReindex.iterator(); iterator.hasNext(); ) {
+            productIds.add(iterator.next());
+            iterator.remove();
+        }
+        try {
+            for (int from = 0; from < productIds.size(); from += loadBatchSize) {
+                reindex(productIds.subList(from, Math.min(from + loadBatchSize, productIds.size())));
+            }
+        } catch (RuntimeException e) {
+            pendingReindex.addAll(productIds);
+            throw e;
+        }
+        return productIds.size();
+    }
+
+    // 테스트용
+    int pendingReindexCount() {
+        return pendingReindex.size();
+    }
+
+    // 재고 컬럼만 id 기준 keyset 으로 다시 읽어 재고 비트 보정 (반환값: 바뀐 상품 수)
+    public int refreshStock() {
+        if (!ready) {
+            return 0;
+        }
+        QProduct product = QProduct.product;
+        long lastId = 0L;
+        int changed = 0;
+        List<Tuple> rows;
+        do {
+            rows = queryFactory.select(product.id, product.stockQuantity)
+                    .from(product)
+                    .where(product.id.gt(lastId))
+                    .orderBy(product.id.asc())
+                    .limit(loadBatchSize)
+                    .fetch();
+            for (Tuple row : rows) {
+                lastId = row.get(product.id);
+                if (updateStock(lastId, row.get(product.stockQuantity))) {
+                    changed++;
+                }
+            }
+        } while (rows.size() == loadBatchSize);
+        return changed;
+    }
+
+    // 재고 비트만 갱신 (색인에 없는 상품은 무시, 바뀌었으면 true)
+    public boolean updateStock(Long productId, Long stockQuantity) {
+        boolean available = stockQuantity != null && stockQuantity > 0;
+        lock.readLock().lock();
+        try {
+            Integer doc = docByProductId.get(productId);
+            if (doc == null || inStock.get(doc) == available) {
+                return false;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByProductId.get(productId);
+            if (doc == null || inStock.get(doc) == available) {
+                return false;
+            }
+            inStock.set(doc, available);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 여러 상품을 한 번에 다시 색인 (DB 에 없는 상품은 색인에서 제거)
+    private void reindex(List<Long> productIds) {
+        QProduct product = QProduct.product;
+        Set<Long> found = new HashSet<>();
+        for (Tuple row : selectRows().where(product.id.in(productIds)).fetch()) {
+            index(row);
+            found.add(row.get(product.id));
+        }
+        for (Long productId : productIds) {
+            if (!found.contains(productId)) {
+                remove(productId);
+            }
+        }
+    }
+
+    // 색인에 필요한 컬럼만 조회 (엔티티 미사용)
+    private JPAQuery<Tuple> selectRows() {
+        QProduct product = QProduct.product;
+        QProductDetail productDetail = QProductDetail.productDetail;
+        return queryFactory.select(product.id, product.name, product.category, product.price, product.stockQuantity,
+                        productDetail.registeredDate)
+                .from(product)
+                .leftJoin(productDetail).on(productDetail.product.id.eq(product.id));
+    }
+
+    private void index(Tuple row) {
+        QProduct product = QProduct.product;
+        index(row.get(product.id), row.get(product.name), row.get(product.category), row.get(product.price),
+                row.get(product.stockQuantity), row.get(QProductDetail.productDetail.registeredDate));
+    }
+
+    // 테스트/적재 완료 표시용
+    void markReady() {
+        ready = true;
+    }
+
+    private int append(long productId, String normalizedName) {
+        if (size == productIds.length) {
+            int capacity = size * 2;
+            productIds = Arrays.copyOf(productIds, capacity);
+            names = Arrays.copyOf(names, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+            registeredAt = Arrays.copyOf(registeredAt, capacity);
+            categoryOf = Arrays.copyOf(categoryOf, capacity);
+        }
+        int doc = size++;
+        productIds[doc] = productId;
+        names[doc] = normalizedName;
+        live.set(doc);
+        docByProductId.put(productId, doc);
+        // 새 문서 번호는 항상 가장 크므로 목록 끝에 추가해도 정렬 유지
+        for (long gram : grams(normalizedName)) {
+            postings.computeIfAbsent(gram, key -> new Postings()).add(doc, size);
+        }
+        return doc;
+    }
+
+    // 키워드의 3-gram 목록 (짧은 목록 순), 없는 gram 이 있으면 null
+    private Postings[] postingsOf(String keyword) {
+        Set<Long> grams = grams(keyword);
+        Postings[] lists = new Postings[grams.size()];
+        int i = 0;
+        for (long gram : grams) {
+            Postings list = postings.get(gram);
+            if (list == null) {
+                return null;
+            }
+            lists[i++] = list;
+        }
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+        return lists;
+    }
+
+    // 문자 3개를 16bit 씩 long 하나로 묶어 키로 사용
+    private static Set<Long> grams(String text) {
+        Set<Long> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+        return grams;
+    }
+
+    private static final class Hit {
+        private final long sortKey;
+        private final long productId;
+
+        private Hit(long sortKey, long productId) {
+            this.sortKey = sortKey;
+            this.productId = productId;
+        }
+    }
+
+    // 정렬된 문서 번호 목록 (primitive int 배열, 흔한 gram 은 비트셋 병행)
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int size;
+        private BitSet bits;
+
+        private void add(int doc, int indexSize) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+            if (bits != null) {
+                bits.set(doc);
+            } else if (size >= MIN_DENSE_SIZE && (long) size * DENSE_RATIO >= indexSize) {
+                bits = new BitSet(indexSize);
+                for (int i = 0; i < size; i++) {
+                    bits.set(docs[i]);
+                }
+            }
+        }
+
+        private boolean contains(int doc) {
+            return bits != null ? bits.get(doc) : Arrays.binarySearch(docs, 0, size, doc) >= 0;
+        }
+    }
+}
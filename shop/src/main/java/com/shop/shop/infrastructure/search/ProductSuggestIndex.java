@@ -0,0 +1,527 @@
+package com.shop.shop.infrastructure.search;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.shop.shop.infrastructure.constant.SuggestionType;
+import com.shop.shop.infrastructure.persistence.product.QProduct;
+import com.shop.shop.infrastructure.persistence.product.QProductDetail;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 자동완성용 메모리 radix tree (공통 접두어를 한 간선으로 압축한 prefix trie)
+// * 키: 상품명/카테고리 (소문자) 와 그 안의 각 단어로 시작하는 접미어 ("gaming laptop" → "gaming laptop", "laptop")
+// * 노드마다 하위 트리의 인기순 상위 maxResults 개를 미리 유지 → 조회는 접두어 길이만큼 내려가서 목록 복사만 하면 끝 (결과 수와 무관)
+// * 인기도: ProductDetail.viewCount (DB 반영분) + Redis "product:view{id}" (미반영분), 카테고리는 소속 상품 합
+// * 조회수 증가는 해당 항목의 키 경로 노드만 갱신, 상품 추가/변경/삭제도 해당 상품 키만 갱신
+@Slf4j
+@Component
+public class ProductSuggestIndex {
+
+    public static final String VIEW_COUNT_KEY_PREFIX = "product:view";
+
+    // 인기순 (조회수 내림차순, 같으면 이름/상품 ID 오름차순)
+    private static final Comparator<Entry> RANK = Comparator.comparingLong((Entry entry) -> -entry.score)
+            .thenComparing(entry -> entry.text)
+            .thenComparingLong(entry -> entry.productId);
+
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+    private static final Node[] NO_NODES = new Node[0];
+
+    private final JPAQueryFactory queryFactory;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final int maxResults;
+    private final int loadBatchSize;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    private final Node root = new Node("");
+    private final Map<Long, Entry> products = new HashMap<>();
+    private final Map<String, Entry> categories = new HashMap<>();
+
+    public ProductSuggestIndex(JPAQueryFactory queryFactory,
+                               StringRedisTemplate stringRedisTemplate,
+                               @Value("${shop.search.suggest.max-results:10}") int maxResults,
+                               @Value("${shop.search.load-batch-size:5000}") int loadBatchSize) {
+        this.queryFactory = queryFactory;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.maxResults = maxResults;
+        this.loadBatchSize = loadBatchSize;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int getMaxResults() {
+        return maxResults;
+    }
+
+    // 접두어로 시작하는 키를 가진 후보를 인기순으로 최대 limit 개
+    public List<Suggestion> suggest(String query, int limit) {
+        String prefix = ProductSearchIndex.normalize(query).trim();
+        if (prefix.isEmpty()) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = find(prefix);
+            if (node == null) {
+                return Collections.emptyList();
+            }
+            int count = Math.min(limit, node.top.length);
+            List<Suggestion> suggestions = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Entry entry = node.top[i];
+                suggestions.add(new Suggestion(entry.type, entry.text,
+                        entry.type == SuggestionType.PRODUCT ? entry.productId : null, entry.score));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 상품 추가/변경 반영 (상품명·카테고리가 같으면 조회수만 갱신)
+    public void index(Long productId, String name, String category, long views) {
+        lock.writeLock().lock();
+        try {
+            Entry existing = products.get(productId);
+            if (existing != null && existing.text.equals(name) && Objects.equals(existing.category, category)) {
+                addViews(existing, views - existing.score);
+                return;
+            }
+            if (existing != null) {
+                removeProduct(existing);
+            }
+            Entry entry = new Entry(SuggestionType.PRODUCT, productId, name, category, keys(name), views);
+            products.put(productId, entry);
+            insert(entry);
+            if (category != null) {
+                Entry categoryEntry = categories.get(category);
+                if (categoryEntry == null) {
+                    categoryEntry = new Entry(SuggestionType.CATEGORY, 0L, category, category, keys(category), views);
+                    categories.put(category, categoryEntry);
+                    insert(categoryEntry);
+                } else {
+                    setScore(categoryEntry, categoryEntry.score + views);
+                }
+                categoryEntry.members++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = products.get(productId);
+            if (entry != null) {
+                removeProduct(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 상품 상세 조회 1회 반영 (상품과 소속 카테고리 경로만 갱신)
+    public void recordView(Long productId) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = products.get(productId);
+            if (entry != null) {
+                addViews(entry, 1L);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 전체 적재: 상품 ID keyset 순서로 batch 조회, 미반영 조회수는 Redis 에서 batch 조회 후 합산
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        QProduct product = QProduct.product;
+        QProductDetail productDetail = QProductDetail.productDetail;
+        long lastId = 0L;
+        int loaded = 0;
+        List<Tuple> rows;
+        do {
+            rows = queryFactory.select(product.id, product.name, product.category, productDetail.viewCount)
+                    .from(product)
+                    .leftJoin(productDetail).on(productDetail.product.id.eq(product.id))
+                    .where(product.id.gt(lastId))
+                    .orderBy(product.id.asc())
+                    .limit(loadBatchSize)
+                    .fetch();
+            if (rows.isEmpty()) {
+                break;
+            }
+            List<String> viewKeys = new ArrayList<>(rows.size());
+            rows.forEach(row -> viewKeys.add(VIEW_COUNT_KEY_PREFIX + row.get(product.id)));
+            List<String> pendingViews = stringRedisTemplate.opsForValue().multiGet(viewKeys);
+            for (int i = 0; i < rows.size(); i++) {
+                Tuple row = rows.get(i);
+                Long storedViews = row.get(productDetail.viewCount);
+                String pending = pendingViews != null ? pendingViews.get(i) : null;
+                long views = (storedViews != null ? storedViews : 0L) + parseViews(pending);
+                index(row.get(product.id), row.get(product.name), row.get(product.category), views);
+                lastId = row.get(product.id);
+            }
+            loaded += rows.size();
+        } while (rows.size() == loadBatchSize);
+        ready = true;
+        log.info("Product suggest index built: {} products, {} categories in {}ms",
+                loaded, categories.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            // 적재에 실패하면 자동완성은 빈 결과로 응답
+            log.error("Failed to build product suggest index: {}", e.getMessage());
+        }
+    }
+
+    // 테스트/적재 완료 표시용
+    void markReady() {
+        ready = true;
+    }
+
+    private static long parseViews(String value) {
+        if (value == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    // 전체 문자열과 각 단어 시작 위치부터의 접미어
+    private static String[] keys(String text) {
+        String normalized = ProductSearchIndex.normalize(text).trim();
+        Set<String> keys = new LinkedHashSet<>();
+        if (!normalized.isEmpty()) {
+            keys.add(normalized);
+        }
+        for (int i = 1; i < normalized.length(); i++) {
+            if (normalized.charAt(i - 1) == ' ' && normalized.charAt(i) != ' ') {
+                keys.add(normalized.substring(i));
+            }
+        }
+        return keys.toArray(new String[0]);
+    }
+
+    private void removeProduct(Entry entry) {
+        products.remove(entry.productId);
+        delete(entry);
+        if (entry.category != null) {
+            Entry categoryEntry = categories.get(entry.category);
+            if (categoryEntry != null && --categoryEntry.members == 0) {
+                categories.remove(entry.category);
+                delete(categoryEntry);
+            } else if (categoryEntry != null) {
+                setScore(categoryEntry, categoryEntry.score - entry.score);
+            }
+        }
+    }
+
+    private void addViews(Entry entry, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        setScore(entry, entry.score + delta);
+        Entry categoryEntry = entry.category != null ? categories.get(entry.category) : null;
+        if (categoryEntry != null) {
+            setScore(categoryEntry, categoryEntry.score + delta);
+        }
+    }
+
+    // 점수가 오르면 경로 노드에 제안(offer), 내리면 경로 노드를 아래부터 다시 계산
+    private void setScore(Entry entry, long score) {
+        boolean increased = score >= entry.score;
+        entry.score = score;
+        for (String key : entry.keys) {
+            List<Node> path = path(key);
+            if (path == null) {
+                continue;
+            }
+            if (increased) {
+                path.forEach(node -> offer(node, entry));
+            } else {
+                for (int i = path.size() - 1; i >= 0; i--) {
+                    if (path.get(i).contains(entry)) {
+                        recompute(path.get(i));
+                    }
+                }
+            }
+        }
+    }
+
+    private void insert(Entry entry) {
+        for (String key : entry.keys) {
+            List<Node> path = insertPath(key);
+            Node last = path.get(path.size() - 1);
+            last.terminals = append(last.terminals, entry);
+            path.forEach(node -> offer(node, entry));
+        }
+    }
+
+    private void delete(Entry entry) {
+        for (String key : entry.keys) {
+            List<Node> path = path(key);
+            if (path == null) {
+                continue;
+            }
+            Node last = path.get(path.size() - 1);
+            last.terminals = without(last.terminals, entry);
+            for (int i = path.size() - 1; i >= 0; i--) {
+                Node node = path.get(i);
+                if (i > 0 && node.terminals.length == 0 && node.children.length == 0) {
+                    path.get(i - 1).removeChild(node);
+                } else if (node.contains(entry)) {
+                    recompute(node);
+                }
+            }
+        }
+    }
+
+    // 키 끝까지 내려가며 필요한 노드 생성 (간선 중간에서 갈라지면 분할)
+    private List<Node> insertPath(String key) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            int index = node.childIndex(key.charAt(i));
+            if (index < 0) {
+                Node leaf = new Node(key.substring(i));
+                node.addChild(leaf);
+                path.add(leaf);
+                return path;
+            }
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.label, key, i);
+            if (common < child.label.length()) {
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.children = new Node[]{child};
+                middle.top = child.top.clone(); // 하위 트리가 같으므로 상위 목록도 같음
+                node.children[index] = middle;
+                child = middle;
+            }
+            path.add(child);
+            node = child;
+            i += common;
+        }
+        return path;
+    }
+
+    // 키와 정확히 끝나는 노드까지의 경로 (없으면 null)
+    private List<Node> path(String key) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            int index = node.childIndex(key.charAt(i));
+            if (index < 0) {
+                return null;
+            }
+            Node child = node.children[index];
+            if (!key.startsWith(child.label, i)) {
+                return null;
+            }
+            path.add(child);
+            node = child;
+            i += child.label.length();
+        }
+        return path;
+    }
+
+    // 접두어가 끝나는 위치의 노드 (간선 중간에서 끝나면 그 간선 아래 노드)
+    private Node find(String prefix) {
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            int index = node.childIndex(prefix.charAt(i));
+            if (index < 0) {
+                return null;
+            }
+            Node child = node.children[index];
+            int remaining = prefix.length() - i;
+            if (remaining <= child.label.length()) {
+                return child.label.regionMatches(0, prefix, i, remaining) ? child : null;
+            }
+            if (!prefix.startsWith(child.label, i)) {
+                return null;
+            }
+            node = child;
+            i += child.label.length();
+        }
+        return node;
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int length = 0;
+        while (length < max && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    // 점수가 오르거나 새로 들어온 항목을 상위 목록에 반영 (정렬 유지)
+    private void offer(Node node, Entry entry) {
+        Entry[] top = node.top;
+        int position = indexOf(top, entry);
+        if (position < 0) {
+            if (top.length < maxResults) {
+                top = Arrays.copyOf(top, top.length + 1);
+            } else if (RANK.compare(entry, top[top.length - 1]) >= 0) {
+                return;
+            }
+            position = top.length - 1;
+            top[position] = entry;
+        }
+        while (position > 0 && RANK.compare(top[position], top[position - 1]) < 0) {
+            Entry swap = top[position - 1];
+            top[position - 1] = top[position];
+            top[position] = swap;
+            position--;
+        }
+        node.top = top;
+    }
+
+    // 자기 키로 끝나는 항목과 자식들의 상위 목록으로 다시 계산 (한 항목이 여러 자식에 있을 수 있어 중복 제거)
+    private void recompute(Node node) {
+        Set<Entry> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        candidates.addAll(Arrays.asList(node.terminals));
+        for (Node child : node.children) {
+            candidates.addAll(Arrays.asList(child.top));
+        }
+        node.top = candidates.stream()
+                .sorted(RANK)
+                .limit(maxResults)
+                .toArray(Entry[]::new);
+    }
+
+    private static int indexOf(Entry[] entries, Entry entry) {
+        for (int i = 0; i < entries.length; i++) {
+            if (entries[i] == entry) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static Entry[] append(Entry[] entries, Entry entry) {
+        Entry[] appended = Arrays.copyOf(entries, entries.length + 1);
+        appended[entries.length] = entry;
+        return appended;
+    }
+
+    private static Entry[] without(Entry[] entries, Entry entry) {
+        int index = indexOf(entries, entry);
+        if (index < 0) {
+            return entries;
+        }
+        if (entries.length == 1) {
+            return NO_ENTRIES;
+        }
+        Entry[] remaining = new Entry[entries.length - 1];
+        System.arraycopy(entries, 0, remaining, 0, index);
+        System.arraycopy(entries, index + 1, remaining, index, entries.length - index - 1);
+        return remaining;
+    }
+
+    // 자동완성 항목 (상품 또는 카테고리, 점수는 쓰기 잠금 안에서만 변경)
+    private static final class Entry {
+        private final SuggestionType type;
+        private final long productId;
+        private final String text;
+        private final String category;
+        private final String[] keys;
+        private long score;
+        private int members; // 카테고리 소속 상품 수
+
+        private Entry(SuggestionType type, long productId, String text, String category, String[] keys, long score) {
+            this.type = type;
+            this.productId = productId;
+            this.text = text;
+            this.category = category;
+            this.keys = keys;
+            this.score = score;
+        }
+    }
+
+    // radix tree 노드 (자식은 간선 첫 글자 순으로 정렬된 배열, 이진 탐색)
+    private static final class Node {
+        private String label;
+        private Node[] children = NO_NODES;
+        private Entry[] terminals = NO_ENTRIES;
+        private Entry[] top = NO_ENTRIES;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private int childIndex(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char c = children[mid].label.charAt(0);
+                if (c < first) {
+                    low = mid + 1;
+                } else if (c > first) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -1;
+        }
+
+        private void addChild(Node child) {
+            char first = child.label.charAt(0);
+            int position = 0;
+            while (position < children.length && children[position].label.charAt(0) < first) {
+                position++;
+            }
+            Node[] expanded = new Node[children.length + 1];
+            System.arraycopy(children, 0, expanded, 0, position);
+            expanded[position] = child;
+            System.arraycopy(children, position, expanded, position + 1, children.length - position);
+            children = expanded;
+        }
+
+        private void removeChild(Node child) {
+            for (int i = 0; i < children.length; i++) {
+                if (children[i] == child) {
+                    Node[] remaining = new Node[children.length - 1];
+                    System.arraycopy(children, 0, remaining, 0, i);
+                    System.arraycopy(children, i + 1, remaining, i, children.length - i - 1);
+                    children = remaining;
+                    return;
+                }
+            }
+        }
+
+        private boolean contains(Entry entry) {
+            return indexOf(top, entry) >= 0;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.shop.shop.infrastructure.search;
+
+import com.shop.shop.infrastructure.exception.ExceptionList;
+import com.shop.shop.infrastructure.exception.ServiceException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+// 검색 keyset 커서: (정렬 키, 상품 ID)
+// * 정렬 키는 오름차순이 곧 정렬 순서가 되도록 변환한 값 (가격 내림차순은 -price, 관련도는 -score, 최신순은 -등록시각(µs))
+// * 등록 시각은 MySQL datetime(6) 정밀도와 같은 마이크로초 단위 (ms 로 자르면 같은 ms 안의 상품이 건너뛰어지거나 반복됨)
+// * 동점은 상품 ID 오름차순
+@Getter
+@AllArgsConstructor
+public class SearchCursor {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
+
+    private final long sortKey;
+    private final long productId;
+
+    public static SearchCursor parse(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        int separator = cursor.indexOf('_');
+        try {
+            return new SearchCursor(Long.parseLong(cursor.substring(0, separator)), Long.parseLong(cursor.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new ServiceException(ExceptionList.INVALID_REQUEST);
+        }
+    }
+
+    // 등록 시각 ↔ 정렬 키용 epoch 마이크로초 (UTC 기준으로 환산)
+    public static long toEpochMicros(LocalDateTime dateTime) {
+        return ChronoUnit.MICROS.between(EPOCH, dateTime);
+    }
+
+    public static LocalDateTime fromEpochMicros(long epochMicros) {
+        return EPOCH.plus(epochMicros, ChronoUnit.MICROS);
+    }
+
+    // 이 커서보다 뒤에 오는 항목인지 여부
+    public boolean isBefore(long sortKey, long productId) {
+        return sortKey > this.sortKey || (sortKey == this.sortKey && productId > this.productId);
+    }
+
+    @Override
+    public String toString() {
+        return sortKey + "_" + productId;
+    }
+}
@@ -0,0 +1,14 @@
+package com.shop.shop.infrastructure.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 색인 검색 결과 한 페이지 (정렬 순서의 상품 ID)
+@Getter
+@AllArgsConstructor
+public class SearchPage {
+    private final List<Long> productIds;
+    private final SearchCursor nextCursor; // 마지막 페이지면 null
+}
@@ -0,0 +1,15 @@
+package com.shop.shop.infrastructure.search;
+
+import com.shop.shop.infrastructure.constant.SuggestionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 자동완성 후보 (조회 시점의 인기도 스냅샷)
+@Getter
+@AllArgsConstructor
+public class Suggestion {
+    private final SuggestionType type;
+    private final String text;
+    private final Long productId; // 카테고리는 null
+    private final long score;     // 조회수
+}
@@ -0,0 +1,142 @@
+package com.shop.shop.infrastructure.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+// 프로세스 로컬 캐시 (최대 크기 + 항목별 TTL)
+// * ConcurrentHashMap 기반이라 조회/저장에 전역 락이 없음
+// * 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거 (근사 LRU, 넘칠 때 한 번에 최대 크기의 10% 까지 정리)
+// * loader 가 null 을 반환하면 캐시하지 않음 (없는 데이터는 매번 다시 조회)
+// * 여러 서버 간 동기화는 하지 않으므로 TTL 은 허용 가능한 지연 시간으로 설정
+public class LocalTtlCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    // 마지막 사용 순서 (LRU 판단용, 시계와 무관하게 단조 증가)
+    private final AtomicLong accessSequence = new AtomicLong();
+    private final Object evictionLock = new Object();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public LocalTtlCache(int maxSize, long ttlMillis) {
+        this(maxSize, ttlMillis, System::currentTimeMillis);
+    }
+
+    LocalTtlCache(int maxSize, long ttlMillis, LongSupplier clock) {
+        if (maxSize <= 0 || ttlMillis <= 0) {
+            throw new IllegalArgumentException("maxSize 와 ttlMillis 는 0보다 커야 합니다.");
+        }
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        misses.incrementAndGet();
+        // 같은 키를 동시에 조회하면 중복 로딩될 수 있으나 결과는 같음
+        V loaded = loader.apply(key);
+        if (loaded != null) {
+            put(key, loaded);
+        }
+        return loaded;
+    }
+
+    public V getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= clock.getAsLong()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        entry.lastAccess = accessSequence.incrementAndGet();
+        hits.incrementAndGet();
+        return entry.value;
+    }
+
+    public void put(K key, V value) {
+        entries.put(key, new Entry<>(value, clock.getAsLong() + ttlMillis, accessSequence.incrementAndGet()));
+        if (entries.size() > maxSize) {
+            evictLeastRecentlyUsed();
+        }
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    // 넘친 만큼 + 여유분(최대 크기의 10%)을 오래 사용되지 않은 순서로 제거 (정리는 한 스레드만)
+    private void evictLeastRecentlyUsed() {
+        synchronized (evictionLock) {
+            int excess = entries.size() - maxSize;
+            if (excess <= 0) {
+                return;
+            }
+            // 정렬 중에 사용 순서가 바뀌지 않도록 값을 복사해 두고 정렬
+            List<Candidate<K, V>> candidates = new ArrayList<>(entries.size());
+            for (Map.Entry<K, Entry<V>> entry : entries.entrySet()) {
+                candidates.add(new Candidate<>(entry.getKey(), entry.getValue()));
+            }
+            candidates.sort(Comparator.comparingLong(candidate -> candidate.lastAccess));
+            int toRemove = Math.min(candidates.size(), excess + maxSize / 10);
+            for (int i = 0; i < toRemove; i++) {
+                entries.remove(candidates.get(i).key, candidates.get(i).entry);
+            }
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+        private volatile long lastAccess;
+
+        private Entry(V value, long expiresAt, long lastAccess) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    private static final class Candidate<K, V> {
+        private final K key;
+        private final Entry<V> entry;
+        private final long lastAccess;
+
+        private Candidate(K key, Entry<V> entry) {
+            this.key = key;
+            this.entry = entry;
+            this.lastAccess = entry.lastAccess;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.shop.shop.infrastructure.util;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 낙관적 잠금 충돌 시 트랜잭션을 새로 시작해 재시도 (OptimisticRetryAspect)
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OptimisticRetry {
+
+    int maxAttempts() default 3;        // 최초 시도 포함 최대 시도 횟수
+
+    long baseDelayMillis() default 20;  // 첫 재시도 대기 (시도마다 2배)
+
+    long maxDelayMillis() default 200;  // 재시도 대기 상한
+}
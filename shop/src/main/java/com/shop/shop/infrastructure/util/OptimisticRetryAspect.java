@@ -0,0 +1,83 @@
+package com.shop.shop.infrastructure.util;
+
+import com.shop.shop.infrastructure.exception.ExceptionList;
+import com.shop.shop.infrastructure.exception.ServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.OptimisticLockException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// @OptimisticRetry 메서드의 낙관적 잠금 충돌 재시도
+// * 트랜잭션 advisor(LOWEST_PRECEDENCE) 바깥에서 동작해야 재시도마다 새 트랜잭션으로 다시 읽음
+// * 대기 시간은 지수 증가 + full jitter (동시에 충돌한 요청들이 같은 시점에 다시 충돌하지 않도록)
+// * 이미 바깥 트랜잭션 안에서 호출된 경우는 롤백 전용이 되므로 재시도하지 않음
+// * 호출/충돌/재시도/소진 누적 횟수는 OptimisticRetryStatsScheduler 가 구간별 비율로 주기적으로 로그
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class OptimisticRetryAspect {
+
+    private final AtomicLong invocations = new AtomicLong();
+    private final AtomicLong conflicts = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong exhausted = new AtomicLong();
+
+    @Around("@annotation(optimisticRetry)")
+    public Object retry(ProceedingJoinPoint joinPoint, OptimisticRetry optimisticRetry) throws Throwable {
+        invocations.incrementAndGet();
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        int attempt = 1;
+        while (true) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                conflicts.incrementAndGet();
+                if (attempt >= optimisticRetry.maxAttempts()) {
+                    exhausted.incrementAndGet();
+                    log.warn("Optimistic lock retries exhausted: {} ({} attempts)",
+                            joinPoint.getSignature().toShortString(), attempt);
+                    throw new ServiceException(ExceptionList.CONCURRENT_MODIFICATION);
+                }
+                retries.incrementAndGet();
+                backoff(optimisticRetry, attempt);
+                attempt++;
+            }
+        }
+    }
+
+    private void backoff(OptimisticRetry optimisticRetry, int attempt) throws InterruptedException {
+        long delay = Math.min(optimisticRetry.maxDelayMillis(), optimisticRetry.baseDelayMillis() << Math.min(attempt - 1, 20));
+        if (delay > 0) {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(delay + 1));
+        }
+    }
+
+    public long getInvocationCount() {
+        return invocations.get();
+    }
+
+    public long getConflictCount() {
+        return conflicts.get();
+    }
+
+    public long getRetryCount() {
+        return retries.get();
+    }
+
+    public long getExhaustedCount() {
+        return exhausted.get();
+    }
+}
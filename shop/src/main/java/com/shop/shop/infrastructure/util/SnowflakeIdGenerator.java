@@ -0,0 +1,90 @@
+package com.shop.shop.infrastructure.util;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// 시간 순으로 정렬되는 64bit ID 생성기 (Snowflake 방식)
+// * [41bit 타임스탬프(ms, 2024-01-01 기준)][10bit 노드 ID][12bit 시퀀스]
+// * 락 없이 AtomicLong CAS 로 (마지막 타임스탬프, 시퀀스) 상태를 갱신
+// * 시계가 허용 범위 내에서 뒤로 가면 마지막 타임스탬프를 계속 사용하고, 허용 범위를 넘으면 예외
+@Component
+public class SnowflakeIdGenerator {
+
+    private static final long EPOCH = 1704067200000L; // 2024-01-01T00:00:00Z
+    private static final int NODE_ID_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int ORDER_NUMBER_LENGTH = 19;
+
+    private final long nodeId;
+    private final long maxClockSkewMillis;
+    private final LongSupplier clock;
+
+    // 상위 비트: 마지막 타임스탬프, 하위 12bit: 시퀀스
+    private final AtomicLong state = new AtomicLong();
+
+    @Autowired
+    public SnowflakeIdGenerator(@Value("${shop.order.node-id:0}") long nodeId,
+                                @Value("${shop.order.max-clock-skew-ms:1000}") long maxClockSkewMillis) {
+        this(nodeId, maxClockSkewMillis, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(long nodeId, long maxClockSkewMillis, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("node-id 는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다.");
+        }
+        this.nodeId = nodeId;
+        this.maxClockSkewMillis = maxClockSkewMillis;
+        this.clock = clock;
+    }
+
+    public long nextId() {
+        while (true) {
+            long current = state.get();
+            long lastTimestamp = current >>> SEQUENCE_BITS;
+            long now = clock.getAsLong() - EPOCH;
+
+            long timestamp;
+            long sequence;
+            if (now > lastTimestamp) {
+                timestamp = now;
+                sequence = 0;
+            } else {
+                // 시계가 뒤로 간 경우 (허용 범위 내에서는 마지막 타임스탬프 유지)
+                if (lastTimestamp - now > maxClockSkewMillis) {
+                    throw new IllegalStateException("Clock moved backwards by " + (lastTimestamp - now) + "ms");
+                }
+                timestamp = lastTimestamp;
+                sequence = (current & SEQUENCE_MASK) + 1;
+                if (sequence > SEQUENCE_MASK) {
+                    // 같은 ms 의 시퀀스 소진: 허용 범위 내에서 다음 ms 를 미리 사용하고, 넘으면 시계를 기다림
+                    if (lastTimestamp + 1 - now > maxClockSkewMillis) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    timestamp = lastTimestamp + 1;
+                    sequence = 0;
+                }
+            }
+
+            if (state.compareAndSet(current, (timestamp << SEQUENCE_BITS) | sequence)) {
+                return (timestamp << (NODE_ID_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+
+    // 사전순 정렬이 생성 순서와 같도록 19자리로 0 패딩한 주문 번호
+    public String nextOrderNumber() {
+        String id = Long.toString(nextId());
+        StringBuilder builder = new StringBuilder(ORDER_NUMBER_LENGTH);
+        for (int i = id.length(); i < ORDER_NUMBER_LENGTH; i++) {
+            builder.append('0');
+        }
+        return builder.append(id).toString();
+    }
+}
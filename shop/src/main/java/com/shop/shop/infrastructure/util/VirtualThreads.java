@@ -0,0 +1,49 @@
+package com.shop.shop.infrastructure.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+// 가상 스레드 생성 (Java 21 API 를 리플렉션으로 호출 → Java 17 로 빌드해도 21 런타임에서 사용 가능)
+// * 지원하지 않는 런타임이면 Optional.empty() 를 반환하고 호출 측은 플랫폼 스레드를 그대로 사용
+@Slf4j
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isSupported() {
+        return newPerTaskExecutor().map(executor -> {
+            executor.shutdown();
+            return true;
+        }).orElse(false);
+    }
+
+    // 작업마다 가상 스레드 하나 (Executors.newVirtualThreadPerTaskExecutor)
+    public static Optional<ExecutorService> newPerTaskExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return Optional.of((ExecutorService) method.invoke(null));
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            log.debug("Virtual threads are not available: {}", e.toString());
+            return Optional.empty();
+        }
+    }
+
+    // 이름이 prefix0, prefix1 ... 인 가상 스레드 factory (Thread.ofVirtual().name(prefix, 0).factory())
+    public static Optional<ThreadFactory> factory(String prefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            return Optional.of((ThreadFactory) builderType.getMethod("factory").invoke(builder));
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            log.debug("Virtual threads are not available: {}", e.toString());
+            return Optional.empty();
+        }
+    }
+}
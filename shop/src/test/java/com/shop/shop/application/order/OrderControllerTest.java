@@ -0,0 +1,90 @@
+package com.shop.shop.application.order;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.shop.application.order.dto.request.OrderStatusTransitionRequestDto;
+import com.shop.shop.domain.order.CustomerOrderSummaryService;
+import com.shop.shop.domain.order.OrderService;
+import com.shop.shop.infrastructure.authentication.JwtTokenProvider;
+import com.shop.shop.infrastructure.constant.OrderStatus;
+import com.shop.shop.infrastructure.idempotency.IdempotencyHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.List;
+
+// @Secured 는 메서드 보안 프록시에서 검사하므로 컨트롤러를 스프링 빈으로 띄워 확인
+@SpringJUnitConfig(OrderControllerTest.Config.class)
+class OrderControllerTest {
+
+    @Configuration
+    @EnableGlobalMethodSecurity(securedEnabled = true)
+    static class Config {
+
+        @Bean
+        public OrderService orderService() {
+            return mock(OrderService.class);
+        }
+
+        @Bean
+        public OrderController orderController(OrderService orderService) {
+            return new OrderController(orderService, mock(IdempotencyHandler.class), mock(CustomerOrderSummaryService.class),
+                    new ObjectMapper(), mock(JwtTokenProvider.class));
+        }
+    }
+
+    @Autowired
+    private OrderController orderController;
+
+    @Autowired
+    private OrderService orderService;
+
+    private OrderStatusTransitionRequestDto requestDto;
+
+    @BeforeEach
+    void setUp() {
+        reset(orderService);
+        requestDto = new OrderStatusTransitionRequestDto(List.of(1L, 2L), null, OrderStatus.CANCELLED);
+    }
+
+    @DisplayName("TransitionOrders - 관리자는 일괄 상태 변경 가능 (Success)")
+    @WithMockUser(roles = "ADMIN")
+    @Test
+    void testTransitionOrdersAsAdmin() {
+        // When
+        HttpStatus status = orderController.transitionOrders(requestDto).getStatusCode();
+
+        // Then
+        assertEquals(HttpStatus.OK, status);
+        verify(orderService, times(1)).transitionOrders(requestDto);
+    }
+
+    @DisplayName("TransitionOrders - 관리자가 아니면 거부 (Fail)")
+    @WithMockUser(roles = "CUSTOMER")
+    @Test
+    void testTransitionOrdersAsCustomer() {
+        // When & Then
+        assertThrows(AccessDeniedException.class, () -> orderController.transitionOrders(requestDto));
+        verifyNoInteractions(orderService);
+    }
+
+    @DisplayName("TransitionOrders - 인증 없이 호출하면 거부 (Fail)")
+    @Test
+    void testTransitionOrdersAnonymous() {
+        // When & Then
+        assertThrows(AuthenticationCredentialsNotFoundException.class, () -> orderController.transitionOrders(requestDto));
+        verifyNoInteractions(orderService);
+    }
+}
@@ -0,0 +1,51 @@
+package com.shop.shop.application.product.dto;
+
+import com.shop.shop.infrastructure.persistence.product.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductCardDtoTest {
+
+    private static final int PAGE_SIZE = 100;
+
+    // REDIS_CACHE 와 같은 직렬화 방식
+    private final GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer();
+
+    private List<Product> products;
+
+    @BeforeEach
+    void setUp() {
+        products = new ArrayList<>(PAGE_SIZE);
+        String description = "High performance laptop with 16GB RAM, 1TB SSD and a 15.6 inch display. ".repeat(8);
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            products.add(new Product(id, "Gaming Laptop " + id, description, "electronics", id % 5, 1000L + id,
+                    "Free shipping, delivered in 2-3 business days"));
+        }
+    }
+
+    @DisplayName("Serialize - 검색 목록 카드/요약 DTO 는 엔티티보다 직렬화 크기가 작고 역직렬화 가능 (Success)")
+    @Test
+    void testPayloadSize() {
+        // Given
+        List<ProductCardDto> cards = products.stream().map(ProductCardDto::new).collect(Collectors.toList());
+        List<ProductSummaryDto> summaries = products.stream().map(ProductSummaryDto::new).collect(Collectors.toList());
+
+        // When
+        int entityBytes = serializer.serialize(new ArrayList<>(products)).length;
+        int summaryBytes = serializer.serialize(new ArrayList<>(summaries)).length;
+        byte[] cardPayload = serializer.serialize(new ArrayList<>(cards));
+
+        // Then
+        assertTrue(cardPayload.length * 4 < entityBytes, "카드 " + cardPayload.length + "B, 엔티티 " + entityBytes + "B");
+        assertTrue(cardPayload.length < summaryBytes, "카드 " + cardPayload.length + "B, 요약 " + summaryBytes + "B");
+        assertEquals(cards, serializer.deserialize(cardPayload));
+    }
+}
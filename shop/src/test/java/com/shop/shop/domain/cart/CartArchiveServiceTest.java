@@ -0,0 +1,119 @@
+package com.shop.shop.domain.cart;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.shop.domain.cart.implement.CartArchiveServiceImpl;
+import com.shop.shop.infrastructure.persistence.cart.CartArchive;
+import com.shop.shop.infrastructure.persistence.cart.CartArchiveRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+class CartArchiveServiceTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private CartArchiveRepository cartArchiveRepository;
+
+    @Mock
+    private Cursor<String> cursor;
+
+    private CartArchiveServiceImpl cartArchiveService;
+
+    private static final long DAY = Duration.ofDays(1).toMillis();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        cartArchiveService = new CartArchiveServiceImpl(stringRedisTemplate, cartArchiveRepository, new ObjectMapper());
+        ReflectionTestUtils.setField(cartArchiveService, "ttlDays", 30L);
+        ReflectionTestUtils.setField(cartArchiveService, "abandonAfterDays", 7L);
+        ReflectionTestUtils.setField(cartArchiveService, "batchSize", 500);
+    }
+
+    @DisplayName("ArchiveAbandonedCarts - 방치된 장바구니만 아카이브 후 제거 (Success)")
+    @Test
+    void testArchiveAbandonedCarts() {
+        // Given: 10일 방치, 1일 전 사용, TTL 없음
+        scanReturns("cartold", "cartactive", "cartlegacy");
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenReturn(List.<Object>of(20 * DAY, 29 * DAY, -1L))            // PTTL
+                .thenReturn(List.<Object>of(true))                                // PEXPIRE (TTL 없는 장바구니)
+                .thenReturn(List.<Object>of(Map.of("3", "1", "1", "2")));         // HGETALL
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("cartold")), any())).thenReturn(512L);
+
+        // When
+        CartArchiveResult result = cartArchiveService.archiveAbandonedCarts();
+
+        // Then
+        assertEquals(3, result.getScannedCarts());
+        assertEquals(1, result.getArchivedCarts());
+        assertEquals(512, result.getReclaimedBytes());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CartArchive>> captor = ArgumentCaptor.forClass(List.class);
+        verify(cartArchiveRepository).saveAll(captor.capture());
+        CartArchive archive = captor.getValue().get(0);
+        assertEquals("old", archive.getCustomerId());
+        assertEquals("{\"1\":2,\"3\":1}", archive.getItems());
+        assertEquals(2, archive.getItemCount());
+        verify(cartArchiveRepository, never()).deleteAll(any());
+    }
+
+    @DisplayName("ArchiveAbandonedCarts - 아카이브 중 다시 사용된 장바구니는 유지 (Success)")
+    @Test
+    void testArchiveSkipsRefreshedCart() {
+        // Given
+        scanReturns("cartold");
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenReturn(List.<Object>of(20 * DAY))
+                .thenReturn(List.<Object>of(Map.of("1", "2")));
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("cartold")), any())).thenReturn(-1L);
+
+        // When
+        CartArchiveResult result = cartArchiveService.archiveAbandonedCarts();
+
+        // Then
+        assertEquals(0, result.getArchivedCarts());
+        verify(cartArchiveRepository).deleteAll(argThat(archives -> ((List<?>) archives).size() == 1));
+    }
+
+    @DisplayName("ArchiveAbandonedCarts - 방치 기준이 TTL 이상이면 실행하지 않음 (Success)")
+    @Test
+    void testArchiveDisabledWhenAbandonExceedsTtl() {
+        // Given
+        ReflectionTestUtils.setField(cartArchiveService, "abandonAfterDays", 30L);
+
+        // When
+        CartArchiveResult result = cartArchiveService.archiveAbandonedCarts();
+
+        // Then
+        assertEquals(0, result.getScannedCarts());
+        verify(stringRedisTemplate, never()).scan(any(ScanOptions.class));
+    }
+
+    private void scanReturns(String... cartKeys) {
+        Iterator<String> iterator = List.of(cartKeys).iterator();
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        when(cursor.next()).thenAnswer(invocation -> iterator.next());
+        when(stringRedisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+    }
+}
@@ -0,0 +1,132 @@
+package com.shop.shop.domain.cart;
+
+import com.shop.shop.application.cart.dto.CartRequestDto;
+import com.shop.shop.domain.cart.implement.CartServiceImpl;
+import com.shop.shop.infrastructure.exception.ServiceException;
+import com.shop.shop.infrastructure.persistence.product.ProductRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+// 장바구니 Lua 스크립트를 실제 Redis 에서 실행해 동시 변경 시 원자성을 확인 (Docker 필요: ./gradlew integrationTest)
+@Tag("integration")
+@Testcontainers
+class CartServiceRedisIntegrationTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+
+    private CartServiceImpl cartService;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+        cartService = new CartServiceImpl(stringRedisTemplate, mock(ProductRepository.class), mock(CartValidationService.class));
+        ReflectionTestUtils.setField(cartService, "ttlDays", 30L);
+        ReflectionTestUtils.setField(cartService, "maxItems", 3);
+    }
+
+    @DisplayName("AddToCart - 동시 요청에도 수량 유실 없음 (Concurrency)")
+    @Test
+    void testAddToCartConcurrent() throws Exception {
+        // Given
+        int threads = 8;
+        int addsPerThread = 250;
+        CartRequestDto addOne = new CartRequestDto("customer123", 1L, 1);
+
+        // When
+        runConcurrently(threads, i -> {
+            for (int j = 0; j < addsPerThread; j++) {
+                cartService.addToCart(addOne);
+            }
+        });
+
+        // Then
+        assertEquals(String.valueOf(threads * addsPerThread), stringRedisTemplate.opsForHash().get("cartcustomer123", "1"));
+        assertTrue(stringRedisTemplate.getExpire("cartcustomer123", TimeUnit.SECONDS) > 0);
+    }
+
+    @DisplayName("AddToCart - 동시에 서로 다른 상품을 담아도 상품 종류 수 상한을 넘지 않음 (Concurrency)")
+    @Test
+    void testAddToCartItemLimitConcurrent() throws Exception {
+        // Given
+        int threads = 8;
+        AtomicInteger rejected = new AtomicInteger();
+
+        // When: 상품 8종을 동시에 담음 (상한 3)
+        runConcurrently(threads, i -> {
+            try {
+                cartService.addToCart(new CartRequestDto("customer123", (long) i + 1, 1));
+            } catch (ServiceException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        // Then
+        assertEquals(3L, stringRedisTemplate.opsForHash().size("cartcustomer123"));
+        assertEquals(threads - 3, rejected.get());
+    }
+
+    private void runConcurrently(int threads, ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            int index = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.run(index);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int index);
+    }
+}
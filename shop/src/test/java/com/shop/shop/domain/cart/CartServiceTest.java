@@ -5,9 +5,10 @@ import static org.mockito.Mockito.*;
 
 import com.shop.shop.application.cart.dto.CartRequestDto;
 import com.shop.shop.application.cart.dto.CartResponseDto;
+import com.shop.shop.application.product.dto.ProductSummaryDto;
 import com.shop.shop.domain.cart.implement.CartServiceImpl;
+import com.shop.shop.infrastructure.exception.ExceptionList;
 import com.shop.shop.infrastructure.exception.ServiceException;
-import com.shop.shop.infrastructure.persistence.member.CustomerRepository;
 import com.shop.shop.infrastructure.persistence.product.Product;
 import com.shop.shop.infrastructure.persistence.product.ProductRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,27 +17,34 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
 import org.springframework.data.redis.core.HashOperations;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 class CartServiceTest {
 
     @Mock
-    private RedisTemplate<String, Object> redisTemplate;
+    private StringRedisTemplate stringRedisTemplate;
 
     @Mock
-    private HashOperations<String, String, Object> hashOperations;
+    private HashOperations<String, Object, Object> hashOperations;
 
     @Mock
     private ProductRepository productRepository;
 
     @Mock
-    private CustomerRepository customerRepository;
+    private CartValidationService cartValidationService;
 
     @InjectMocks
     private CartServiceImpl cartService;
@@ -44,64 +52,140 @@ class CartServiceTest {
     private CartRequestDto cartRequestDto;
     private Product product;
 
+    // Redis 를 흉내낸 장바구니 저장소
+    private final Map<String, Map<String, String>> carts = new HashMap<>();
+    private final Map<String, Long> ttls = new HashMap<>();
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(cartService, "ttlDays", 30L);
+        ReflectionTestUtils.setField(cartService, "maxItems", 3);
 
         cartRequestDto = new CartRequestDto("customer123", 1L, 2); // 고객 ID, 상품 ID, 수량 설정
         product = new Product(1L, "Test Product", 100); // 상품 객체
 
-        // RedisTemplate의 opsForHash가 HashOperations Mock을 반환하도록 설정
-        doReturn(hashOperations).when(redisTemplate).opsForHash();
-
-        // CustomerRepository의 existsByCustomerId 메서드 Mock 설정
-        when(customerRepository.existsByCustomerId(cartRequestDto.getCustomerId())).thenReturn(true); // 고객이 존재하는 경우
+        // StringRedisTemplate의 opsForHash가 HashOperations Mock을 반환하도록 설정
+        doReturn(hashOperations).when(stringRedisTemplate).opsForHash();
+        when(hashOperations.entries(anyString())).thenAnswer(invocation -> new LinkedHashMap<Object, Object>(cart(invocation.getArgument(0))));
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any())).thenAnswer(this::executeScript);
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList())).thenAnswer(this::executeScript);
     }
 
     @DisplayName("AddToCart - 정상적으로 장바구니 새상품 추가 (Success)")
     @Test
     void testAddToCartNewItem() {
+        // When
+        cartService.addToCart(cartRequestDto);
+
+        // Then
+        assertEquals("2", cart("cartcustomer123").get("1"));
+    }
+
+    @DisplayName("AddToCart - 기존 상품은 수량 증가 (Success)")
+    @Test
+    void testAddToCartExistingItem() {
         // Given
-        when(productRepository.findById(cartRequestDto.getProductId())).thenReturn(Optional.of(product));
-        when(hashOperations.get(anyString(), anyString())).thenReturn(null); // 새 상품
+        cart("cartcustomer123").put("1", "3");
+
+        // When
+        cartService.addToCart(cartRequestDto);
+
+        // Then
+        assertEquals("5", cart("cartcustomer123").get("1"));
+    }
 
+    @DisplayName("AddToCart - 담을 때마다 TTL 연장 (Success)")
+    @Test
+    void testAddToCartRefreshesTtl() {
         // When
         cartService.addToCart(cartRequestDto);
 
         // Then
-        verify(hashOperations, times(1)).put(anyString(), anyString(), any());
+        assertEquals(Duration.ofDays(30).toMillis(), ttls.get("cartcustomer123"));
+    }
+
+    @DisplayName("AddToCart - 상품 종류 수 상한 초과 (Fail)")
+    @Test
+    void testAddToCartItemLimit() {
+        // Given
+        cart("cartcustomer123").put("7", "1");
+        cart("cartcustomer123").put("8", "1");
+        cart("cartcustomer123").put("9", "1");
+
+        // When & Then
+        ServiceException exception = assertThrows(ServiceException.class, () -> cartService.addToCart(cartRequestDto));
+        assertEquals(ExceptionList.CART_ITEM_LIMIT.getCode(), exception.getCode());
+        assertFalse(cart("cartcustomer123").containsKey("1"));
+
+        // 이미 담긴 상품의 수량 증가는 허용
+        cartService.addToCart(new CartRequestDto("customer123", 9L, 1));
+        assertEquals("2", cart("cartcustomer123").get("9"));
+    }
+
+    @DisplayName("AddToCart - 해시를 읽고 쓰지 않고 스크립트 1회로 수량 증가 (Success)")
+    @Test
+    void testAddToCartSingleScriptCall() {
+        // When
+        cartService.addToCart(cartRequestDto);
+
+        // Then: 원자성은 Redis 의 스크립트 실행이 보장, 애플리케이션 쪽 읽기-수정-쓰기 없음
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(), any(), any(), any());
+        verifyNoInteractions(hashOperations);
+    }
+
+    @DisplayName("AddToCart - 이전 형식 장바구니는 변환 후 수량 증가 (Success)")
+    @Test
+    void testAddToCartLegacyItem() {
+        // Given
+        cart("cartcustomer123").put("1", "{\"@class\":\"java.util.HashMap\",\"productId\":1,\"quantity\":3}");
+
+        // When
+        cartService.addToCart(cartRequestDto);
+
+        // Then
+        assertEquals("5", cart("cartcustomer123").get("1"));
     }
 
     @DisplayName("UpdateCartItemQuantity - 정상적으로 장바구니 상품 수량 수정 (Success)")
     @Test
     void testUpdateCartItemQuantity(){
         // Given
-        Map<String, Object> cartItem = new HashMap<>();
-        cartItem.put("productId", cartRequestDto.getProductId());
-        cartItem.put("quantity", 5);
-
-        when(productRepository.findById(cartRequestDto.getProductId())).thenReturn(Optional.of(product));
-        when(hashOperations.get(anyString(), anyString())).thenReturn(cartItem);
+        cart("cartcustomer123").put("1", "5");
 
         // When
         cartService.updateCartItemQuantity(cartRequestDto);
 
         // Then
-        verify(hashOperations, times(1)).put(anyString(), anyString(), any());
+        assertEquals("2", cart("cartcustomer123").get("1"));
+    }
+
+    @DisplayName("UpdateCartItemQuantity - 장바구니에 없는 상품 (Fail)")
+    @Test
+    void testUpdateCartItemQuantityNotInCart(){
+        // When & Then
+        assertThrows(ServiceException.class, () -> cartService.updateCartItemQuantity(cartRequestDto));
+        assertTrue(cart("cartcustomer123").isEmpty());
+    }
+
+    @DisplayName("AddToCart - 유효성 검증 실패 시 장바구니 변경 없음 (Fail)")
+    @Test
+    void testAddToCartValidationFail() {
+        // Given
+        doThrow(new ServiceException(ExceptionList.NOT_ENOUGH_STOCK))
+                .when(cartValidationService).validate("customer123", 1L, 2);
+
+        // When & Then
+        assertThrows(ServiceException.class, () -> cartService.addToCart(cartRequestDto));
+        assertTrue(cart("cartcustomer123").isEmpty());
     }
 
     @DisplayName("GetCart - 장바구니 조회 성공 (Success)")
     @Test
     void testGetCartSuccess() {
         // Given
-        Map<String, Object> cartItems = new HashMap<>();
-        Map<String, Object> cartItem = new HashMap<>();
-        cartItem.put("productId", 1L);
-        cartItem.put("quantity", 2);
-        cartItems.put("1", cartItem);
-
-        when(hashOperations.entries(anyString())).thenReturn(cartItems);
-        when(productRepository.findById(anyLong())).thenReturn(Optional.of(product));
+        cart("cartcustomer123").put("1", "2");
+        when(productRepository.findSummariesByIdIn(any())).thenReturn(List.of(new ProductSummaryDto(product)));
 
         // When
         List<CartResponseDto> cartResponse = cartService.getCart("customer123");
@@ -109,6 +193,65 @@ class CartServiceTest {
         // Then
         assertEquals(1, cartResponse.size());
         assertEquals(product.getName(), cartResponse.get(0).getProduct().getName());
+        assertEquals(2, cartResponse.get(0).getQuantity());
+        verify(stringRedisTemplate).expire("cartcustomer123", Duration.ofDays(30));
+    }
+
+    @DisplayName("GetCart - 이전 형식 장바구니 조회 (Success)")
+    @Test
+    void testGetCartLegacy() {
+        // Given
+        cart("cartcustomer123").put("1", "{\"@class\":\"java.util.HashMap\",\"productId\":1,\"quantity\":4}");
+        when(productRepository.findSummariesByIdIn(any())).thenReturn(List.of(new ProductSummaryDto(product)));
+
+        // When
+        List<CartResponseDto> cartResponse = cartService.getCart("customer123");
+
+        // Then
+        assertEquals(4, cartResponse.get(0).getQuantity());
+        assertEquals("4", cart("cartcustomer123").get("1"));
+    }
+
+    @DisplayName("GetCart - 장바구니 크기와 무관하게 상품 조회 쿼리 1회 (Success)")
+    @Test
+    void testGetCartConstantQueryCount() {
+        for (int cartSize : new int[]{1, 40}) {
+            // Given
+            clearInvocations(productRepository);
+            List<ProductSummaryDto> products = new ArrayList<>();
+            for (long productId = 1; productId <= cartSize; productId++) {
+                cart("cartcustomer123").put(String.valueOf(productId), "1");
+                products.add(new ProductSummaryDto(new Product(productId, "Product" + productId, 100)));
+            }
+            when(productRepository.findSummariesByIdIn(any())).thenReturn(products);
+
+            // When
+            List<CartResponseDto> cartResponse = cartService.getCart("customer123");
+
+            // Then
+            assertEquals(cartSize, cartResponse.size());
+            verify(productRepository, times(1)).findSummariesByIdIn(any());
+            verify(productRepository, never()).findById(anyLong());
+        }
+    }
+
+    @DisplayName("GetCart - 삭제된 상품은 항목별로 표시 (Success)")
+    @Test
+    void testGetCartMissingProduct() {
+        // Given
+        cart("cartcustomer123").put("1", "3");
+        cart("cartcustomer123").put("2", "3");
+        when(productRepository.findSummariesByIdIn(any())).thenReturn(List.of(new ProductSummaryDto(product))); // 2번 상품은 삭제됨
+
+        // When
+        List<CartResponseDto> cartResponse = cartService.getCart("customer123");
+
+        // Then
+        assertEquals(2, cartResponse.size());
+        CartResponseDto missing = cartResponse.stream().filter(item -> !item.isAvailable()).findFirst().orElseThrow();
+        assertEquals(2L, missing.getProductId());
+        assertEquals(3, missing.getQuantity());
+        assertNull(missing.getProduct());
     }
 
     @DisplayName("ClearCart - 장바구니 비우기 (Success)")
@@ -121,40 +264,98 @@ class CartServiceTest {
         cartService.clearCart(customerId);
 
         // Then
-        verify(redisTemplate, times(1)).delete("cart" + customerId);
+        verify(stringRedisTemplate, times(1)).delete("cart" + customerId);
     }
 
     @DisplayName("RemoveFromCart - 장바구니에서 상품 수량 감소 (Decrease Quantity)")
     @Test
     void testRemoveFromCart_DecreaseQuantity() {
         // Given
-        Map<String, Object> cartItem = new HashMap<>();
-        cartItem.put("productId", cartRequestDto.getProductId());
-        cartItem.put("quantity", 5); // 기존 수량이 5
-
-        when(hashOperations.get(anyString(), anyString())).thenReturn(cartItem);
+        cart("cartcustomer123").put("1", "5");
 
         // When
         cartService.removeFromCart(cartRequestDto);
 
         // Then
-        verify(hashOperations, times(1)).put(anyString(), anyString(), any());
+        assertEquals("3", cart("cartcustomer123").get("1"));
     }
 
     @DisplayName("RemoveFromCart - 장바구니에서 상품 삭제 (Remove Item)")
     @Test
     void testRemoveFromCart_RemoveItem() {
         // Given
-        Map<String, Object> cartItem = new HashMap<>();
-        cartItem.put("productId", cartRequestDto.getProductId());
-        cartItem.put("quantity", 2); // 수량이 2이므로 감소 후 삭제됨
-
-        when(hashOperations.get(anyString(), anyString())).thenReturn(cartItem);
+        cart("cartcustomer123").put("1", "2"); // 수량이 2이므로 감소 후 삭제됨
 
         // When
         cartService.removeFromCart(cartRequestDto);
 
         // Then
-        verify(hashOperations, times(1)).delete(anyString(), anyString());
+        assertFalse(cart("cartcustomer123").containsKey("1"));
+    }
+
+    @DisplayName("RemoveFromCart - 장바구니에 없는 상품 (Fail)")
+    @Test
+    void testRemoveFromCart_NotInCart() {
+        // When & Then
+        assertThrows(ServiceException.class, () -> cartService.removeFromCart(cartRequestDto));
+    }
+
+    private Map<String, String> cart(String cartKey) {
+        return carts.computeIfAbsent(cartKey, key -> new LinkedHashMap<>());
+    }
+
+    private static final Pattern LEGACY_QUANTITY = Pattern.compile("\"quantity\":(\\d+)");
+
+    // 장바구니 Lua 스크립트와 같은 동작 (단일 스레드 기준 의미만 확인)
+    private Long executeScript(InvocationOnMock invocation) {
+        String script = invocation.<RedisScript<Long>>getArgument(0).getScriptAsString();
+        Map<String, String> cart = cart(invocation.<List<String>>getArgument(1).get(0));
+        if (script.contains("cjson")) {
+            long migrated = 0;
+            for (Map.Entry<String, String> entry : new ArrayList<>(cart.entrySet())) {
+                if (!isNumber(entry.getValue())) {
+                    Matcher matcher = LEGACY_QUANTITY.matcher(entry.getValue());
+                    if (matcher.find()) {
+                        cart.put(entry.getKey(), matcher.group(1));
+                    } else {
+                        cart.remove(entry.getKey());
+                    }
+                    migrated++;
+                }
+            }
+            return migrated;
+        }
+
+        String cartKey = invocation.<List<String>>getArgument(1).get(0);
+        String field = invocation.getArgument(2);
+        long quantity = Long.parseLong(invocation.getArgument(3));
+        ttls.put(cartKey, Long.parseLong(invocation.getArgument(4)));
+        String current = cart.get(field);
+        if (script.contains("HINCRBY")) {
+            if (current != null && !isNumber(current)) return -2L;
+            if (current == null && cart.size() >= Integer.parseInt(invocation.getArgument(5))) return -3L;
+            long updated = (current == null ? 0 : Long.parseLong(current)) + quantity;
+            cart.put(field, String.valueOf(updated));
+            return updated;
+        }
+        if (script.contains("HEXISTS")) {
+            if (current == null) return -1L;
+            cart.put(field, String.valueOf(quantity));
+            return quantity;
+        }
+        // 수량 감소, 0 이하가 되면 삭제
+        if (current == null) return -1L;
+        if (!isNumber(current)) return -2L;
+        long remaining = Long.parseLong(current) - quantity;
+        if (remaining > 0) {
+            cart.put(field, String.valueOf(remaining));
+            return remaining;
+        }
+        cart.remove(field);
+        return 0L;
+    }
+
+    private boolean isNumber(String value) {
+        return value.matches("-?\\d+");
     }
-}
\ No newline at end of file
+}
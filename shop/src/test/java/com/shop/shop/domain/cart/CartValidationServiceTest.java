@@ -0,0 +1,104 @@
+package com.shop.shop.domain.cart;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.shop.shop.domain.cart.implement.CartValidationServiceImpl;
+import com.shop.shop.domain.stock.event.StockChangedEvent;
+import com.shop.shop.infrastructure.exception.ServiceException;
+import com.shop.shop.infrastructure.persistence.member.CustomerRepository;
+import com.shop.shop.infrastructure.persistence.product.Product;
+import com.shop.shop.infrastructure.persistence.product.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Optional;
+
+class CartValidationServiceTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private CartValidationServiceImpl cartValidationService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        cartValidationService = new CartValidationServiceImpl(customerRepository, productRepository, 100, 300, 30);
+
+        when(customerRepository.existsByCustomerId("customer123")).thenReturn(true);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(new Product(1L, "Test Product", 100)));
+    }
+
+    @DisplayName("Validate - 반복 검증 시 DB 조회 없음 (Success)")
+    @Test
+    void testValidateSteadyStateWithoutQueries() {
+        // Given
+        cartValidationService.validate("customer123", 1L, 1); // 캐시 적재
+        clearInvocations(customerRepository, productRepository);
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            cartValidationService.validate("customer123", 1L, 1);
+        }
+
+        // Then
+        verifyNoInteractions(customerRepository, productRepository);
+    }
+
+    @DisplayName("Validate - 재고 변경 알림 수신 시 상품 스냅샷 다시 조회 (Success)")
+    @Test
+    void testValidateReloadsAfterStockChanged() {
+        // Given
+        cartValidationService.validate("customer123", 1L, 1);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(new Product(1L, "Test Product", 1)));
+
+        // When
+        cartValidationService.onStockChanged(new StockChangedEvent(1L));
+
+        // Then
+        assertThrows(ServiceException.class, () -> cartValidationService.validate("customer123", 1L, 2));
+        verify(productRepository, times(2)).findById(1L);
+    }
+
+    @DisplayName("GetPrice - 가격은 재고와 같은 스냅샷에서 조회 (Success)")
+    @Test
+    void testGetPriceFromSnapshot() {
+        // Given
+        when(productRepository.findById(2L)).thenReturn(Optional.of(
+                new Product(2L, "Priced Product", "desc", "category", 10L, 5000L, "free")));
+        cartValidationService.validate("customer123", 2L, 1);
+
+        // When
+        Long price = cartValidationService.getPrice(2L);
+
+        // Then
+        assertEquals(5000L, price);
+        verify(productRepository, times(1)).findById(2L);
+    }
+
+    @DisplayName("Validate - 없는 고객은 캐시하지 않음 (Fail)")
+    @Test
+    void testValidateMissingCustomerNotCached() {
+        // Given
+        when(customerRepository.existsByCustomerId("newcustomer")).thenReturn(false, true);
+
+        // When & Then
+        assertThrows(ServiceException.class, () -> cartValidationService.validate("newcustomer", 1L, 1));
+        assertDoesNotThrow(() -> cartValidationService.validate("newcustomer", 1L, 1)); // 가입 직후
+        verify(customerRepository, times(2)).existsByCustomerId("newcustomer");
+    }
+
+    @DisplayName("Validate - 재고 부족 (Fail)")
+    @Test
+    void testValidateNotEnoughStock() {
+        // When & Then
+        assertThrows(ServiceException.class, () -> cartValidationService.validate("customer123", 1L, 101));
+    }
+}
@@ -0,0 +1,158 @@
+package com.shop.shop.domain.cart;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.shop.shop.application.cart.dto.CartRequestDto;
+import com.shop.shop.application.cart.dto.CartResponseDto;
+import com.shop.shop.application.product.dto.ProductSummaryDto;
+import com.shop.shop.domain.cart.implement.ReactiveCartServiceImpl;
+import com.shop.shop.infrastructure.exception.ExceptionList;
+import com.shop.shop.infrastructure.exception.ServiceException;
+import com.shop.shop.infrastructure.persistence.product.Product;
+import com.shop.shop.infrastructure.persistence.product.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.ReactiveHashOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.List;
+import java.util.Map;
+
+class ReactiveCartServiceTest {
+
+    @Mock
+    private ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+
+    @Mock
+    private ReactiveHashOperations<String, String, String> hashOperations;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private CartValidationService cartValidationService;
+
+    @InjectMocks
+    private ReactiveCartServiceImpl reactiveCartService;
+
+    private CartRequestDto cartRequestDto;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        cartRequestDto = new CartRequestDto("customer123", 1L, 2);
+        product = new Product(1L, "Test Product", 100);
+
+        ReflectionTestUtils.setField(reactiveCartService, "ttlDays", 30L);
+        ReflectionTestUtils.setField(reactiveCartService, "maxItems", 100);
+        doReturn(hashOperations).when(reactiveStringRedisTemplate).opsForHash();
+        when(reactiveStringRedisTemplate.expire(anyString(), any(Duration.class))).thenReturn(Mono.just(true));
+    }
+
+    @DisplayName("AddToCart - 상품 ID 와 증가 수량으로 스크립트 실행 (Success)")
+    @Test
+    void testAddToCart() {
+        // Given
+        when(reactiveStringRedisTemplate.execute(any(RedisScript.class), anyList(), anyList())).thenReturn(Flux.just(2L));
+
+        // When
+        reactiveCartService.addToCart(cartRequestDto).block();
+
+        // Then
+        verify(reactiveStringRedisTemplate).execute(any(RedisScript.class), eq(List.of("cartcustomer123")),
+                eq(List.of("1", "2", String.valueOf(Duration.ofDays(30).toMillis()), "100")));
+    }
+
+    @DisplayName("AddToCart - 이전 형식 장바구니는 변환 후 재시도 (Success)")
+    @Test
+    void testAddToCartLegacy() {
+        // Given
+        when(reactiveStringRedisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+                .thenReturn(Flux.just(-2L), Flux.just(5L));
+        when(reactiveStringRedisTemplate.execute(any(RedisScript.class), anyList())).thenReturn(Flux.just(1L));
+
+        // When
+        reactiveCartService.addToCart(cartRequestDto).block();
+
+        // Then
+        verify(reactiveStringRedisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of("cartcustomer123")));
+    }
+
+    @DisplayName("AddToCart - 상품 종류 수 상한 초과 (Fail)")
+    @Test
+    void testAddToCartItemLimit() {
+        // Given
+        when(reactiveStringRedisTemplate.execute(any(RedisScript.class), anyList(), anyList())).thenReturn(Flux.just(-3L));
+
+        // When & Then
+        ServiceException exception = assertThrows(ServiceException.class, () -> reactiveCartService.addToCart(cartRequestDto).block());
+        assertEquals(ExceptionList.CART_ITEM_LIMIT.getCode(), exception.getCode());
+    }
+
+    @DisplayName("AddToCart - 재고 부족 시 저장하지 않음 (Fail)")
+    @Test
+    void testAddToCartNotEnoughStock() {
+        // Given
+        doThrow(new ServiceException(ExceptionList.NOT_ENOUGH_STOCK))
+                .when(cartValidationService).validate("customer123", 1L, 2);
+
+        // When & Then
+        assertThrows(ServiceException.class, () -> reactiveCartService.addToCart(cartRequestDto).block());
+        verify(reactiveStringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), anyList());
+    }
+
+    @DisplayName("RemoveFromCart - 장바구니에 없는 상품 (Fail)")
+    @Test
+    void testRemoveFromCartNotInCart() {
+        // Given
+        when(reactiveStringRedisTemplate.execute(any(RedisScript.class), anyList(), anyList())).thenReturn(Flux.just(-1L));
+
+        // When & Then
+        assertThrows(ServiceException.class, () -> reactiveCartService.removeFromCart(cartRequestDto).block());
+    }
+
+    @DisplayName("GetCart - 상품을 한 번에 조회하여 응답 생성 (Success)")
+    @Test
+    void testGetCart() {
+        // Given
+        when(hashOperations.entries("cartcustomer123")).thenReturn(Flux.just(entry("1", "2")));
+        when(productRepository.findSummariesByIdIn(any())).thenReturn(List.of(new ProductSummaryDto(product)));
+
+        // When
+        List<CartResponseDto> result = reactiveCartService.getCart("customer123").block();
+
+        // Then
+        assertNotNull(result);
+        assertEquals(1, result.size());
+        assertEquals(2, result.get(0).getQuantity());
+        verify(productRepository, times(1)).findSummariesByIdIn(any());
+        verify(reactiveStringRedisTemplate, never()).execute(any(RedisScript.class), anyList());
+    }
+
+    @DisplayName("GetCart - 빈 장바구니 (Fail)")
+    @Test
+    void testGetCartEmpty() {
+        // Given
+        when(hashOperations.entries("cartcustomer123")).thenReturn(Flux.empty());
+
+        // When & Then
+        assertThrows(ServiceException.class, () -> reactiveCartService.getCart("customer123").block());
+    }
+
+    private Map.Entry<String, String> entry(String productId, String quantity) {
+        return new AbstractMap.SimpleEntry<>(productId, quantity);
+    }
+}
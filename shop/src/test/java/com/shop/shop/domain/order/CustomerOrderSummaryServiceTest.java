@@ -0,0 +1,163 @@
+package com.shop.shop.domain.order;
+
+import com.shop.shop.application.member.dto.request.SignupRequestDto;
+import com.shop.shop.application.order.dto.response.CustomerOrderSummaryResponseDto;
+import com.shop.shop.domain.order.implement.CustomerOrderSummaryServiceImpl;
+import com.shop.shop.infrastructure.constant.OrderStatus;
+import com.shop.shop.infrastructure.exception.ServiceException;
+import com.shop.shop.infrastructure.persistence.member.Customer;
+import com.shop.shop.infrastructure.persistence.member.CustomerRepository;
+import com.shop.shop.infrastructure.persistence.order.CustomerOrderSummary;
+import com.shop.shop.infrastructure.persistence.order.CustomerOrderSummaryRepository;
+import com.shop.shop.infrastructure.persistence.order.Orders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CustomerOrderSummaryServiceTest {
+
+    @Mock
+    private CustomerOrderSummaryRepository customerOrderSummaryRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private CustomerOrderSummaryServiceImpl customerOrderSummaryService;
+
+    private Customer customer;
+    private Customer otherCustomer;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        customer = Customer.initializeCustomer(
+                new SignupRequestDto("customer123", "1234", "John Doe", "john@example.com", "1234567890"), "encryptedPassword");
+        customer.setPk(1L);
+        otherCustomer = Customer.initializeCustomer(
+                new SignupRequestDto("customer456", "1234", "Jane Doe", "jane@example.com", "0987654321"), "encryptedPassword");
+        otherCustomer.setPk(2L);
+        ReflectionTestUtils.setField(customerOrderSummaryService, "rebuildBatchSize", 2);
+    }
+
+    @DisplayName("RebuildAll - 고객마다 요약 행을 잠근 뒤 집계 결과로 덮어씀 (Success)")
+    @Test
+    void testRebuildAllLocksThenOverwritesPerCustomer() {
+        // Given
+        when(customerRepository.findByPkGreaterThanOrderByPkAsc(eq(0L), any(Pageable.class))).thenReturn(List.of(customer, otherCustomer));
+        when(customerRepository.findByPkGreaterThanOrderByPkAsc(eq(2L), any(Pageable.class))).thenReturn(List.of());
+        when(customerOrderSummaryRepository.aggregateByCustomerPk(1L))
+                .thenReturn(List.<Object[]>of(new Object[]{new BigDecimal(1), new BigDecimal(0), new BigDecimal(2), new BigDecimal(1), new BigDecimal(5), new BigDecimal(5000)}));
+        when(customerOrderSummaryRepository.aggregateByCustomerPk(2L))
+                .thenReturn(List.<Object[]>of(new Object[]{0L, 0L, 0L, 0L, 0L, 0L}));
+
+        // When
+        int rebuilt = customerOrderSummaryService.rebuildAll();
+
+        // Then
+        assertEquals(2, rebuilt);
+        InOrder inOrder = inOrder(customerOrderSummaryRepository);
+        inOrder.verify(customerOrderSummaryRepository).applyDelta(eq(1L), eq("customer123"), eq(0L), eq(0L), eq(0L), eq(0L), eq(0L), eq(0L), any(LocalDateTime.class));
+        inOrder.verify(customerOrderSummaryRepository).aggregateByCustomerPk(1L);
+        inOrder.verify(customerOrderSummaryRepository).overwrite(eq(1L), eq(1L), eq(0L), eq(2L), eq(1L), eq(5L), eq(5000L), any(LocalDateTime.class));
+        verify(customerOrderSummaryRepository).overwrite(eq(2L), eq(0L), eq(0L), eq(0L), eq(0L), eq(0L), eq(0L), any(LocalDateTime.class));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @DisplayName("RecordCreated - 고객별로 합산해 고객당 upsert 한 번 (Success)")
+    @Test
+    void testRecordCreatedGroupsByCustomer() {
+        // Given
+        List<Orders> orders = List.of(
+                order(customer, 2L, 2000L, OrderStatus.PENDING),
+                order(customer, 3L, 3000L, OrderStatus.PENDING),
+                order(otherCustomer, 1L, 1000L, OrderStatus.PENDING)
+        );
+
+        // When
+        customerOrderSummaryService.recordCreated(orders);
+
+        // Then
+        verify(customerOrderSummaryRepository, times(1)).applyDelta(
+                eq(1L), eq("customer123"), eq(2L), eq(0L), eq(0L), eq(0L), eq(5L), eq(5000L), any(LocalDateTime.class));
+        verify(customerOrderSummaryRepository, times(1)).applyDelta(
+                eq(2L), eq("customer456"), eq(1L), eq(0L), eq(0L), eq(0L), eq(1L), eq(1000L), any(LocalDateTime.class));
+    }
+
+    @DisplayName("RecordTransition - 취소 시 상태 건수 이동 및 수량/금액 차감 (Success)")
+    @Test
+    void testRecordTransitionToCancelled() {
+        // Given
+        Orders order = order(customer, 2L, 2000L, OrderStatus.CANCELLED);
+
+        // When
+        customerOrderSummaryService.recordTransition(order, OrderStatus.PENDING);
+
+        // Then
+        verify(customerOrderSummaryRepository, times(1)).applyDelta(
+                eq(1L), eq("customer123"), eq(-1L), eq(0L), eq(0L), eq(1L), eq(-2L), eq(-2000L), any(LocalDateTime.class));
+    }
+
+    @DisplayName("RecordTransition - 상태가 같으면 반영하지 않음 (Success)")
+    @Test
+    void testRecordTransitionSameStatus() {
+        // Given
+        Orders order = order(customer, 2L, 2000L, OrderStatus.CANCELLED);
+
+        // When
+        customerOrderSummaryService.recordTransition(order, OrderStatus.CANCELLED);
+
+        // Then
+        verifyNoInteractions(customerOrderSummaryRepository);
+    }
+
+    @DisplayName("GetSummary - 고객 요약 한 행 조회 (Success)")
+    @Test
+    void testGetSummary() {
+        // Given
+        CustomerOrderSummary summary = new CustomerOrderSummary(1L, "customer123", 1L, 2L, 3L, 4L, 10L, 10000L, LocalDateTime.now());
+        when(customerOrderSummaryRepository.findByCustomerId("customer123")).thenReturn(Optional.of(summary));
+
+        // When
+        CustomerOrderSummaryResponseDto response = customerOrderSummaryService.getSummary("customer123");
+
+        // Then
+        assertEquals(3L, response.getCompletedCount());
+        assertEquals(10000L, response.getTotalSpend());
+    }
+
+    @DisplayName("GetSummary - 요약이 없는 고객 조회 실패 (Fail)")
+    @Test
+    void testGetSummaryNotFound() {
+        // Given
+        when(customerOrderSummaryRepository.findByCustomerId("unknown")).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(ServiceException.class, () -> customerOrderSummaryService.getSummary("unknown"));
+    }
+
+    private Orders order(Customer owner, Long quantity, Long totalPrice, OrderStatus status) {
+        Orders order = new Orders(1L, quantity, owner, status, LocalDateTime.now());
+        order.setTotalPrice(totalPrice);
+        return order;
+    }
+}
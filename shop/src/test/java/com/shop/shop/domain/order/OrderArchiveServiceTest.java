@@ -0,0 +1,112 @@
+package com.shop.shop.domain.order;
+
+import com.shop.shop.domain.order.implement.OrderArchiveServiceImpl;
+import com.shop.shop.infrastructure.constant.OrderStatus;
+import com.shop.shop.infrastructure.persistence.order.OrderRepository;
+import com.shop.shop.infrastructure.persistence.order.OrdersArchiveRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OrderArchiveServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrdersArchiveRepository ordersArchiveRepository;
+
+    @InjectMocks
+    private OrderArchiveServiceImpl orderArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(orderArchiveService, "retentionDays", 90L);
+        ReflectionTestUtils.setField(orderArchiveService, "batchSize", 1000);
+    }
+
+    @DisplayName("ArchiveBatch - 대상 주문을 아카이브로 복사 후 삭제 (Success)")
+    @Test
+    void testArchiveBatchMovesOrders() {
+        // Given
+        List<Long> pks = List.of(1L, 2L, 3L);
+        when(orderRepository.findArchivablePks(anyCollection(), any(LocalDateTime.class), eq(1000))).thenReturn(pks);
+        when(ordersArchiveRepository.copyFromOrders(eq(pks), any(LocalDateTime.class))).thenReturn(3);
+        when(orderRepository.deleteByPkIn(pks)).thenReturn(3);
+
+        // When
+        int moved = orderArchiveService.archiveBatch();
+
+        // Then
+        assertEquals(3, moved);
+        verify(ordersArchiveRepository, times(1)).copyFromOrders(eq(pks), any(LocalDateTime.class));
+        verify(orderRepository, times(1)).deleteByPkIn(pks);
+    }
+
+    @DisplayName("ArchiveBatch - 대상이 없으면 아무것도 하지 않음 (Success)")
+    @Test
+    void testArchiveBatchNothingToMove() {
+        // Given
+        when(orderRepository.findArchivablePks(anyCollection(), any(LocalDateTime.class), anyInt())).thenReturn(List.of());
+
+        // When
+        int moved = orderArchiveService.archiveBatch();
+
+        // Then
+        assertEquals(0, moved);
+        verify(ordersArchiveRepository, never()).copyFromOrders(anyCollection(), any(LocalDateTime.class));
+        verify(orderRepository, never()).deleteByPkIn(anyCollection());
+    }
+
+    @DisplayName("ArchiveBatch - 복사와 삭제 건수가 다르면 롤백되도록 예외 (Fail)")
+    @Test
+    void testArchiveBatchCountMismatch() {
+        // Given
+        List<Long> pks = List.of(1L, 2L);
+        when(orderRepository.findArchivablePks(anyCollection(), any(LocalDateTime.class), anyInt())).thenReturn(pks);
+        when(ordersArchiveRepository.copyFromOrders(eq(pks), any(LocalDateTime.class))).thenReturn(2);
+        when(orderRepository.deleteByPkIn(pks)).thenReturn(1);
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> orderArchiveService.archiveBatch());
+    }
+
+    @DisplayName("MayContainArchived - 최근 기간 또는 진행 중 상태는 orders 만 조회 (Success)")
+    @Test
+    void testMayContainArchivedRouting() {
+        // Given
+        LocalDate recent = LocalDate.now().minusDays(10);
+        LocalDate old = LocalDate.now().minusDays(365);
+        LocalDate today = LocalDate.now();
+
+        // When & Then
+        assertFalse(orderArchiveService.mayContainArchived(recent, today, null));
+        assertFalse(orderArchiveService.mayContainArchived(old, today, OrderStatus.PENDING));
+        assertFalse(orderArchiveService.mayContainArchived(null, null, OrderStatus.SHIPPING));
+        assertTrue(orderArchiveService.mayContainArchived(old, today, OrderStatus.COMPLETED));
+        assertTrue(orderArchiveService.mayContainArchived(null, null, null));
+    }
+
+    @DisplayName("MayContainArchived - 시작일만 있으면 조회 쿼리처럼 기간 조건을 무시 (Both Dates)")
+    @Test
+    void testMayContainArchivedIgnoresHalfOpenRange() {
+        // Given: 조회 쿼리는 시작일/종료일이 모두 있을 때만 기간을 적용하므로 전체 기간이 대상
+        LocalDate recent = LocalDate.now().minusDays(10);
+
+        // When & Then
+        assertTrue(orderArchiveService.mayContainArchived(recent, null, null));
+        assertTrue(orderArchiveService.mayContainArchived(null, recent, OrderStatus.COMPLETED));
+    }
+}
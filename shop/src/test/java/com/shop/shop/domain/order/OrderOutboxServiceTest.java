@@ -0,0 +1,149 @@
+package com.shop.shop.domain.order;
+
+import com.shop.shop.application.member.dto.request.SignupRequestDto;
+import com.shop.shop.domain.order.event.OrderEvent;
+import com.shop.shop.domain.order.event.OrderEventSink;
+import com.shop.shop.domain.order.implement.OrderOutboxServiceImpl;
+import com.shop.shop.infrastructure.constant.OrderStatus;
+import com.shop.shop.infrastructure.persistence.member.Customer;
+import com.shop.shop.infrastructure.persistence.order.OrderOutbox;
+import com.shop.shop.infrastructure.persistence.order.OrderOutboxRepository;
+import com.shop.shop.infrastructure.persistence.order.Orders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OrderOutboxServiceTest {
+
+    @Mock
+    private OrderOutboxRepository orderOutboxRepository;
+
+    @Mock
+    private OrderEventSink orderEventSink;
+
+    @InjectMocks
+    private OrderOutboxServiceImpl orderOutboxService;
+
+    private Orders order;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(orderOutboxService, "batchSize", 500);
+        ReflectionTestUtils.setField(orderOutboxService, "maxAttempts", 3);
+
+        SignupRequestDto signupRequestDto = new SignupRequestDto("customer123", "1234", "John Doe", "john@example.com", "1234567890");
+        Customer customer = Customer.initializeCustomer(signupRequestDto, "encryptedPassword");
+        order = new Orders(1L, 2L, customer, OrderStatus.PENDING, LocalDateTime.now());
+        order.setPk(10L);
+    }
+
+    @DisplayName("RecordTransition - 이전 상태와 변경된 상태를 기록 (Success)")
+    @Test
+    void testRecordTransition() {
+        // Given
+        order.setStatus(OrderStatus.CANCELLED);
+
+        // When
+        orderOutboxService.recordTransition(order, OrderStatus.PENDING);
+
+        // Then
+        ArgumentCaptor<OrderOutbox> captor = ArgumentCaptor.forClass(OrderOutbox.class);
+        verify(orderOutboxRepository).save(captor.capture());
+        assertEquals(10L, captor.getValue().getOrderId());
+        assertEquals(OrderStatus.PENDING, captor.getValue().getPreviousStatus());
+        assertEquals(OrderStatus.CANCELLED, captor.getValue().getStatus());
+        assertEquals("customer123", captor.getValue().getCustomerId());
+        assertNull(captor.getValue().getPublishedAt());
+    }
+
+    @DisplayName("RelayBatch - 미발행 이벤트를 발행하고 발행 완료 표시 (Success)")
+    @Test
+    void testRelayBatch() {
+        // Given
+        OrderOutbox outbox = new OrderOutbox(order, null, LocalDateTime.now());
+        outbox.setPk(100L);
+        when(orderOutboxRepository.findUnpublished(any(Pageable.class))).thenReturn(List.of(outbox));
+
+        // When
+        int published = orderOutboxService.relayBatch();
+
+        // Then
+        assertEquals(1, published);
+        ArgumentCaptor<List<OrderEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(orderEventSink).publish(captor.capture());
+        assertEquals(100L, captor.getValue().get(0).getEventId());
+        assertEquals(OrderStatus.PENDING, captor.getValue().get(0).getStatus());
+        verify(orderOutboxRepository).markPublished(eq(List.of(100L)), any(LocalDateTime.class));
+    }
+
+    @DisplayName("RelayBatch - 발행 실패 시 앞선 이벤트만 발행 완료 표시하고 실패 횟수 기록 (Fail)")
+    @Test
+    void testRelayBatchSinkFailure() {
+        // Given: 두 번째 이벤트 발행 실패
+        OrderOutbox first = outbox(100L);
+        OrderOutbox failing = outbox(101L);
+        OrderOutbox last = outbox(102L);
+        when(orderOutboxRepository.findUnpublished(any(Pageable.class))).thenReturn(List.of(first, failing, last));
+        doThrow(new IllegalStateException("listener failed")).when(orderEventSink)
+                .publish(argThat(events -> events.get(0).getEventId() == 101L));
+
+        // When
+        int handled = orderOutboxService.relayBatch();
+
+        // Then: 실패한 이벤트 뒤는 다음 주기에 순서대로 발행
+        assertEquals(1, handled);
+        verify(orderOutboxRepository).markPublished(eq(List.of(100L)), any(LocalDateTime.class));
+        verify(orderEventSink, never()).publish(argThat(events -> events.get(0).getEventId() == 102L));
+        assertEquals(1, failing.getAttempts());
+        assertNull(failing.getFailedAt());
+    }
+
+    @DisplayName("RelayBatch - 최대 실패 횟수에 도달하면 발행을 포기하고 다음 이벤트로 진행 (Dead Letter)")
+    @Test
+    void testRelayBatchDeadLettersAfterMaxAttempts() {
+        // Given: 이미 두 번 실패한 이벤트 (최대 3회)
+        OrderOutbox failing = outbox(100L);
+        failing.setAttempts(2);
+        when(orderOutboxRepository.findUnpublished(any(Pageable.class))).thenReturn(List.of(failing));
+        doThrow(new IllegalStateException("listener failed")).when(orderEventSink).publish(anyList());
+
+        // When
+        int handled = orderOutboxService.relayBatch();
+
+        // Then
+        assertEquals(1, handled);
+        assertEquals(3, failing.getAttempts());
+        assertNotNull(failing.getFailedAt());
+        verify(orderOutboxRepository, never()).markPublished(anyCollection(), any(LocalDateTime.class));
+    }
+
+    @DisplayName("RelayBatch - 미발행 이벤트가 없으면 발행하지 않음 (Empty)")
+    @Test
+    void testRelayBatchEmpty() {
+        // Given
+        when(orderOutboxRepository.findUnpublished(any(Pageable.class))).thenReturn(List.of());
+
+        // When & Then
+        assertEquals(0, orderOutboxService.relayBatch());
+        verifyNoInteractions(orderEventSink);
+    }
+
+    private OrderOutbox outbox(Long pk) {
+        OrderOutbox outbox = new OrderOutbox(order, null, LocalDateTime.now());
+        outbox.setPk(pk);
+        return outbox;
+    }
+}
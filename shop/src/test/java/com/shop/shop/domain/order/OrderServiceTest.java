@@ -2,34 +2,61 @@ package com.shop.shop.domain.order;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
+import static com.shop.shop.infrastructure.constant.CacheConstants.REDIS_CACHE;
 
 import com.shop.shop.application.member.dto.request.SignupRequestDto;
 import com.shop.shop.application.order.dto.request.OrderConditionDto;
 import com.shop.shop.application.order.dto.request.OrderRequestDto;
+import com.shop.shop.application.order.dto.request.OrderStatusTransitionRequestDto;
+import com.shop.shop.application.order.dto.response.OrderPageResponseDto;
 import com.shop.shop.application.order.dto.response.OrderResponseDto;
+import com.shop.shop.application.order.dto.response.OrderStatusTransitionResponseDto;
 import com.shop.shop.domain.order.implement.OrderServiceImpl;
+import com.shop.shop.domain.stock.StockReservationService;
+import com.shop.shop.domain.stock.StripedStockService;
 import com.shop.shop.infrastructure.authentication.JwtTokenProvider;
 import com.shop.shop.infrastructure.constant.OrderStatus;
+import com.shop.shop.infrastructure.event.StockChangePublisher;
+import com.shop.shop.infrastructure.exception.ExceptionList;
 import com.shop.shop.infrastructure.exception.ServiceException;
 import com.shop.shop.infrastructure.persistence.member.Customer;
 import com.shop.shop.infrastructure.persistence.member.CustomerRepository;
 import com.shop.shop.infrastructure.persistence.order.OrderRepository;
+import com.shop.shop.infrastructure.persistence.order.OrderTransitionRow;
 import com.shop.shop.infrastructure.persistence.order.Orders;
 import com.shop.shop.infrastructure.persistence.product.Product;
 import com.shop.shop.infrastructure.persistence.product.ProductRepository;
+import com.shop.shop.infrastructure.util.SnowflakeIdGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 class OrderServiceTest {
@@ -46,7 +73,34 @@ class OrderServiceTest {
     private JwtTokenProvider jwtTokenProvider;
 
     @Mock
-    private RedisTemplate<String, Object> redisTemplate;
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache orderCache;
+
+    @Mock
+    private StockReservationService stockReservationService;
+
+    @Mock
+    private StripedStockService stripedStockService;
+
+    @Mock
+    private StockChangePublisher stockChangePublisher;
+
+    @Mock
+    private OrderOutboxService orderOutboxService;
+
+    @Mock
+    private SnowflakeIdGenerator snowflakeIdGenerator;
+
+    @Mock
+    private OrderArchiveService orderArchiveService;
+
+    @Mock
+    private CustomerOrderSummaryService customerOrderSummaryService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     @InjectMocks
     private OrderServiceImpl orderService;
@@ -58,6 +112,7 @@ class OrderServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(cacheManager.getCache(REDIS_CACHE)).thenReturn(orderCache);
 
         // 테스트용 Product와 Customer 객체 설정
         product = new Product(1L, "Test Product", 100);
@@ -79,9 +134,9 @@ class OrderServiceTest {
                 new OrderRequestDto(1L, 2L, customer.getCustomerId(), "validToken")
         );
         when(jwtTokenProvider.validateToken(anyString())).thenReturn(true); // 토큰 검증 통과
-        when(productRepository.findById(anyLong())).thenReturn(Optional.of(product));
-        when(customerRepository.findByCustomerId(anyString())).thenReturn(Optional.of(customer));
-        when(orderRepository.save(any(Orders.class))).thenReturn(order);
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(product));
+        when(productRepository.decreaseStockQuantity(1L, 2L)).thenReturn(1); // 재고 차감 성공
+        when(customerRepository.findByCustomerIdIn(anyCollection())).thenReturn(List.of(customer));
 
         // When
         List<OrderResponseDto> responses = orderService.createOrders(orderRequestDtos);
@@ -89,6 +144,123 @@ class OrderServiceTest {
         // Then
         assertEquals(1, responses.size());
         assertEquals(1, responses.get(0).getProductId());
+        verify(productRepository, never()).findById(anyLong()); // 상품 엔티티 조회 없이 처리
+        verify(productRepository, never()).save(any(Product.class));
+        verify(orderOutboxService, times(1)).recordCreated(anyList()); // 주문 생성 이벤트 기록
+        verify(customerOrderSummaryService, times(1)).recordCreated(anyList()); // 고객별 주문 요약 반영
+    }
+
+    @DisplayName("CreateOrders - 요청 순서와 무관하게 상품 ID 오름차순으로 재고 차감 (Lock Order)")
+    @Test
+    void testCreateOrdersDecreasesStockInProductIdOrder() {
+        // Given: 상품 3 → 1 → 2 순서로 담긴 주문
+        List<OrderRequestDto> orderRequestDtos = List.of(
+                new OrderRequestDto(3L, 1L, customer.getCustomerId(), "validToken"),
+                new OrderRequestDto(1L, 1L, customer.getCustomerId(), "validToken"),
+                new OrderRequestDto(2L, 1L, customer.getCustomerId(), "validToken")
+        );
+        when(jwtTokenProvider.validateToken(anyString())).thenReturn(true);
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(
+                new Product(3L, "Product 3", 10), product, new Product(2L, "Product 2", 10)));
+        when(productRepository.decreaseStockQuantity(anyLong(), anyLong())).thenReturn(1);
+        when(customerRepository.findByCustomerIdIn(anyCollection())).thenReturn(List.of(customer));
+
+        // When
+        orderService.createOrders(orderRequestDtos);
+
+        // Then: 동시에 반대 순서로 주문해도 행 잠금 순서가 같아 교착 상태가 생기지 않음
+        InOrder inOrder = inOrder(productRepository);
+        inOrder.verify(productRepository).decreaseStockQuantity(1L, 1L);
+        inOrder.verify(productRepository).decreaseStockQuantity(2L, 1L);
+        inOrder.verify(productRepository).decreaseStockQuantity(3L, 1L);
+    }
+
+    @DisplayName("CreateOrders - 재고 예약 계층 사용 시 Redis 에서 예약 (Reservation)")
+    @Test
+    void testCreateOrdersWithStockReservation() {
+        // Given
+        List<OrderRequestDto> orderRequestDtos = List.of(
+                new OrderRequestDto(1L, 2L, customer.getCustomerId(), "validToken")
+        );
+        when(stockReservationService.isEnabled()).thenReturn(true);
+        when(jwtTokenProvider.validateToken(anyString())).thenReturn(true);
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(product));
+        when(customerRepository.findByCustomerIdIn(anyCollection())).thenReturn(List.of(customer));
+
+        // When
+        List<OrderResponseDto> responses = orderService.createOrders(orderRequestDtos);
+
+        // Then
+        assertEquals(1, responses.size());
+        verify(stockReservationService, times(1)).reserve(1L, 2L);
+        verify(productRepository, never()).decreaseStockQuantity(anyLong(), anyLong());
+    }
+
+    @DisplayName("CreateOrders - 샤드 재고 상품은 샤드에서 차감 (Striped)")
+    @Test
+    void testCreateOrdersWithStripedStock() {
+        // Given
+        product.setStockStripes(8);
+        List<OrderRequestDto> orderRequestDtos = List.of(
+                new OrderRequestDto(1L, 2L, customer.getCustomerId(), "validToken")
+        );
+        when(jwtTokenProvider.validateToken(anyString())).thenReturn(true);
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(product));
+        when(customerRepository.findByCustomerIdIn(anyCollection())).thenReturn(List.of(customer));
+
+        // When
+        orderService.createOrders(orderRequestDtos);
+
+        // Then
+        verify(stripedStockService, times(1)).decrease(1L, 8, 2L);
+        verify(productRepository, never()).decreaseStockQuantity(anyLong(), anyLong());
+    }
+
+    @DisplayName("CreateOrders - 조회 이후 샤드 재고로 전환된 상품은 잠금 후 샤드에서 차감 (Striped)")
+    @Test
+    void testCreateOrdersStripedAfterRead() {
+        // Given: 단일 재고로 조회됐지만 UPDATE 시점에는 샤드 4개로 전환됨
+        List<OrderRequestDto> orderRequestDtos = List.of(
+                new OrderRequestDto(1L, 2L, customer.getCustomerId(), "validToken")
+        );
+        when(jwtTokenProvider.validateToken(anyString())).thenReturn(true);
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(product));
+        when(productRepository.decreaseStockQuantity(1L, 2L)).thenReturn(0);
+        when(productRepository.lockStockStripes(1L)).thenReturn(4);
+        when(customerRepository.findByCustomerIdIn(anyCollection())).thenReturn(List.of(customer));
+
+        // When
+        orderService.createOrders(orderRequestDtos);
+
+        // Then
+        verify(stripedStockService, times(1)).decrease(1L, 4, 2L);
+        verify(orderRepository, times(1)).saveAll(anyIterable());
+    }
+
+    @DisplayName("CreateOrders - 조회 이후 단일 재고로 되돌려진 상품은 잠금 후 단일 재고에서 차감 (Striped)")
+    @Test
+    void testCreateOrdersUnstripedAfterRead() {
+        // Given: 샤드 재고로 조회됐지만 샤드가 삭제되어 샤드 차감은 재고 부족
+        product.setStockStripes(8);
+        List<OrderRequestDto> orderRequestDtos = List.of(
+                new OrderRequestDto(1L, 2L, customer.getCustomerId(), "validToken")
+        );
+        when(jwtTokenProvider.validateToken(anyString())).thenReturn(true);
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(product));
+        doThrow(new ServiceException(ExceptionList.NOT_ENOUGH_STOCK)).when(stripedStockService).decrease(1L, 8, 2L);
+        when(productRepository.lockStockStripes(1L)).thenReturn(null);
+        when(productRepository.decreaseStockQuantity(1L, 2L)).thenReturn(1);
+        when(customerRepository.findByCustomerIdIn(anyCollection())).thenReturn(List.of(customer));
+
+        // When
+        orderService.createOrders(orderRequestDtos);
+
+        // Then
+        InOrder inOrder = inOrder(stripedStockService, productRepository);
+        inOrder.verify(stripedStockService).decrease(1L, 8, 2L);
+        inOrder.verify(productRepository).lockStockStripes(1L);
+        inOrder.verify(productRepository).decreaseStockQuantity(1L, 2L);
+        verify(orderRepository, times(1)).saveAll(anyIterable());
     }
 
     @DisplayName("CreateOrders - 재고 부족으로 주문 생성 실패 (Fail)")
@@ -99,11 +271,127 @@ class OrderServiceTest {
                 new OrderRequestDto(1L, 200L, customer.getCustomerId(), "validToken")
         );
         when(jwtTokenProvider.validateToken(anyString())).thenReturn(true);
-        when(productRepository.findById(anyLong())).thenReturn(Optional.of(product));
-        when(customerRepository.findByCustomerId(anyString())).thenReturn(Optional.of(customer));
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(product));
+        when(productRepository.decreaseStockQuantity(1L, 200L)).thenReturn(0); // 조건 불충족으로 반영된 row 없음
+        when(customerRepository.findByCustomerIdIn(anyCollection())).thenReturn(List.of(customer));
 
         // When & Then
-        assertThrows(ServiceException.class, () -> orderService.createOrders(orderRequestDtos));
+        ServiceException exception = assertThrows(ServiceException.class, () -> orderService.createOrders(orderRequestDtos));
+        assertEquals(ExceptionList.NOT_ENOUGH_STOCK.getCode(), exception.getCode());
+        verify(orderRepository, never()).saveAll(anyIterable());
+    }
+
+    @DisplayName("CreateOrders - 존재하지 않는 상품으로 주문 생성 실패 (Fail)")
+    @Test
+    void testCreateOrdersWithNotExistProduct() {
+        // Given
+        List<OrderRequestDto> orderRequestDtos = List.of(
+                new OrderRequestDto(999L, 1L, customer.getCustomerId(), "validToken")
+        );
+        when(jwtTokenProvider.validateToken(anyString())).thenReturn(true);
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of());
+
+        // When & Then
+        ServiceException exception = assertThrows(ServiceException.class, () -> orderService.createOrders(orderRequestDtos));
+        assertEquals(ExceptionList.NOT_EXIST_DATA.getCode(), exception.getCode());
+        verify(productRepository, never()).decreaseStockQuantity(anyLong(), anyLong());
+    }
+
+    @DisplayName("CreateOrders - 주문 라인 수와 무관하게 상품/고객 조회와 저장은 한 번 (Batch)")
+    @ParameterizedTest(name = "{0} lines")
+    @ValueSource(ints = {1, 10, 100})
+    void testCreateOrdersBatchStatementCount(int lineCount) {
+        // Given: 10개 상품에 나누어 담긴 lineCount 개 주문 라인
+        List<Product> products = LongStream.rangeClosed(1, 10)
+                .mapToObj(id -> new Product(id, "Product " + id, 1_000))
+                .collect(Collectors.toList());
+        List<OrderRequestDto> orderRequestDtos = IntStream.range(0, lineCount)
+                .mapToObj(i -> new OrderRequestDto((long) (i % 10) + 1, 1L, customer.getCustomerId(), "validToken"))
+                .collect(Collectors.toList());
+        when(jwtTokenProvider.validateToken(anyString())).thenReturn(true);
+        when(productRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            Set<Long> ids = new HashSet<>();
+            ((Iterable<Long>) invocation.getArgument(0)).forEach(ids::add);
+            return products.stream().filter(p -> ids.contains(p.getId())).collect(Collectors.toList());
+        });
+        when(productRepository.decreaseStockQuantity(anyLong(), anyLong())).thenReturn(1);
+        when(customerRepository.findByCustomerIdIn(anyCollection())).thenReturn(List.of(customer));
+
+        // When
+        List<OrderResponseDto> responses = orderService.createOrders(orderRequestDtos);
+
+        // Then
+        assertEquals(lineCount, responses.size());
+        verify(jwtTokenProvider, times(1)).validateToken("validToken");
+        verify(productRepository, times(1)).findAllById(anyIterable());
+        verify(customerRepository, times(1)).findByCustomerIdIn(anyCollection());
+        verify(productRepository, times(Math.min(lineCount, 10))).decreaseStockQuantity(anyLong(), anyLong());
+        verify(orderRepository, times(1)).saveAll(anyIterable());
+        verify(orderRepository, never()).save(any(Orders.class));
+    }
+
+    @DisplayName("CreateOrders - 동시 주문 시 재고가 음수가 되지 않음 (Concurrency)")
+    @Test
+    void testCreateOrdersConcurrentStockNeverNegative() throws InterruptedException {
+        // Given: 조건부 UPDATE(stock >= quantity) 를 CAS 로 흉내내는 재고 카운터
+        AtomicLong stock = new AtomicLong(100);
+        AtomicLong minObservedStock = new AtomicLong(Long.MAX_VALUE);
+        when(jwtTokenProvider.validateToken(anyString())).thenReturn(true);
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(product));
+        when(customerRepository.findByCustomerIdIn(anyCollection())).thenReturn(List.of(customer));
+        when(productRepository.decreaseStockQuantity(eq(1L), anyLong())).thenAnswer(invocation -> {
+            long quantity = invocation.getArgument(1);
+            while (true) {
+                long current = stock.get();
+                if (current < quantity) {
+                    return 0;
+                }
+                if (stock.compareAndSet(current, current - quantity)) {
+                    minObservedStock.accumulateAndGet(current - quantity, Math::min);
+                    return 1;
+                }
+            }
+        });
+
+        int threadCount = 32;
+        int requestsPerThread = 10; // 총 320건 주문, 재고는 100개
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger soldOutCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(threadCount);
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    for (int j = 0; j < requestsPerThread; j++) {
+                        try {
+                            orderService.createOrders(List.of(
+                                    new OrderRequestDto(1L, 1L, customer.getCustomerId(), "validToken")
+                            ));
+                            successCount.incrementAndGet();
+                        } catch (ServiceException e) {
+                            soldOutCount.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        assertTrue(doneLatch.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        // Then
+        assertEquals(100, successCount.get());
+        assertEquals(220, soldOutCount.get());
+        assertEquals(0, stock.get());
+        assertTrue(minObservedStock.get() >= 0);
     }
 
     @DisplayName("GetOrder - 주문 조회 성공 (Success)")
@@ -111,13 +399,14 @@ class OrderServiceTest {
     void testGetOrderSuccess() {
         // Given
         Long orderId = 1L;
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findOrderResponseById(orderId)).thenReturn(Optional.of(new OrderResponseDto(order)));
 
         // When
         OrderResponseDto response = orderService.getOrder(orderId);
 
         // Then
         assertEquals(order.getProductId(), response.getProductId());
+        verify(orderRepository, never()).findById(anyLong()); // 엔티티 조회 없이 프로젝션만 사용
     }
 
     @DisplayName("GetOrder - 존재하지 않는 주문 ID 조회 실패 (Fail)")
@@ -125,12 +414,81 @@ class OrderServiceTest {
     void testGetOrderNotFound() {
         // Given
         Long orderId = 999L;
-        when(orderRepository.findById(orderId)).thenReturn(Optional.empty());
+        when(orderRepository.findOrderResponseById(orderId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(ServiceException.class, () -> orderService.getOrder(orderId));
     }
 
+    @DisplayName("GetOrder - 최근 주문에 없으면 아카이브에서 조회 (Archive)")
+    @Test
+    void testGetOrderFromArchive() {
+        // Given
+        Long orderId = 5L;
+        OrderResponseDto archived = new OrderResponseDto(orderId, null, 1L, 2L, customer.getCustomerId(), OrderStatus.COMPLETED);
+        when(orderRepository.findOrderResponseById(orderId)).thenReturn(Optional.empty());
+        when(orderArchiveService.findArchivedOrder(orderId)).thenReturn(Optional.of(archived));
+
+        // When
+        OrderResponseDto response = orderService.getOrder(orderId);
+
+        // Then
+        assertEquals(OrderStatus.COMPLETED, response.getStatus());
+    }
+
+    @DisplayName("GetOrders - 한 건 더 읽어 다음 페이지 커서 반환 (Success)")
+    @Test
+    void testGetOrdersNextCursor() {
+        // Given
+        List<OrderResponseDto> rows = LongStream.rangeClosed(11, 14)
+                .mapToObj(pk -> new OrderResponseDto(pk, null, 1L, 1L, customer.getCustomerId(), OrderStatus.PENDING))
+                .collect(Collectors.toList());
+        when(orderRepository.findOrderPage(10L, 4)).thenReturn(rows);
+
+        // When
+        OrderPageResponseDto page = orderService.getOrders(10L, 3);
+
+        // Then
+        assertEquals(3, page.getOrders().size());
+        assertEquals(13L, page.getNextCursor());
+    }
+
+    @DisplayName("GetOrders - 마지막 페이지는 커서 없음 (Success)")
+    @Test
+    void testGetOrdersLastPage() {
+        // Given
+        List<OrderResponseDto> rows = List.of(
+                new OrderResponseDto(21L, null, 1L, 1L, customer.getCustomerId(), OrderStatus.PENDING));
+        when(orderRepository.findOrderPage(20L, 4)).thenReturn(rows);
+
+        // When
+        OrderPageResponseDto page = orderService.getOrders(20L, 3);
+
+        // Then
+        assertEquals(1, page.getOrders().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @DisplayName("ExportOrders - 스트림을 한 행씩 전달하고 닫음 (Success)")
+    @Test
+    void testExportOrdersStreamsRows() {
+        // Given
+        AtomicInteger closed = new AtomicInteger();
+        Stream<OrderResponseDto> rows = LongStream.rangeClosed(1, 1000)
+                .mapToObj(pk -> new OrderResponseDto(pk, null, 1L, 1L, customer.getCustomerId(), OrderStatus.PENDING))
+                .onClose(closed::incrementAndGet);
+        when(orderRepository.streamAllOrders()).thenReturn(rows);
+        AtomicLong exported = new AtomicLong();
+
+        // When
+        orderService.exportOrders(order -> exported.incrementAndGet());
+
+        // Then
+        assertEquals(1000, exported.get());
+        assertEquals(1, closed.get()); // 커서 반환
+        verify(orderRepository, never()).findAll();
+    }
+
     @DisplayName("UpdateOrder - 정상적으로 주문 수정 (Success)")
     @Test
     void testUpdateOrderSuccess() {
@@ -150,6 +508,29 @@ class OrderServiceTest {
 
         // Then
         assertEquals(10L, response.getQuantity());
+        verify(productRepository, times(1)).increaseStockQuantity(1L, 8L); // 단일 UPDATE 로 재고 반영
+        verify(productRepository, never()).save(any(Product.class));
+        verify(orderCache, times(1)).evict(orderId);
+    }
+
+    @DisplayName("UpdateOrder - 재고 차감 UPDATE 가 반영되지 않으면 재고 부족 (Fail)")
+    @Test
+    void testUpdateOrderNotEnoughStock() {
+        // Given: 수량 10 → 2 (재고 8 차감)
+        Long orderId = 1L;
+        order.setQuantity(10L);
+        OrderRequestDto requestDto = new OrderRequestDto(1L, 2L, customer.getCustomerId(), "validToken");
+        when(jwtTokenProvider.validateToken(anyString())).thenReturn(true);
+        when(jwtTokenProvider.getCustomerIdFromToken(anyString())).thenReturn(customer.getCustomerId());
+        when(customerRepository.findByCustomerId(customer.getCustomerId())).thenReturn(Optional.of(customer));
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(productRepository.findById(order.getProductId())).thenReturn(Optional.of(product));
+        when(productRepository.decreaseStockQuantity(1L, 8L)).thenReturn(0);
+
+        // When & Then
+        ServiceException exception = assertThrows(ServiceException.class, () -> orderService.updateOrder(orderId, requestDto));
+        assertEquals(ExceptionList.NOT_ENOUGH_STOCK.getCode(), exception.getCode());
+        verify(orderRepository, never()).save(any(Orders.class));
     }
 
     @DisplayName("UpdateOrder - 존재하지 않는 주문 ID로 수정 실패 (Fail)")
@@ -176,11 +557,50 @@ class OrderServiceTest {
         // When
         orderService.cancelOrder(orderId);
 
+        // Then
+        assertEquals(OrderStatus.CANCELLED, order.getStatus());
+        verify(orderRepository, times(1)).save(order);
+        verify(productRepository, times(1)).increaseStockQuantity(product.getId(), order.getQuantity()); // 단일 UPDATE 로 재고 복구
+        verify(productRepository, never()).save(any(Product.class));
+        verify(stockReservationService, times(1)).applyStockChange(product.getId(), order.getQuantity());
+        verify(stockChangePublisher, times(1)).stockChanged(product.getId());
+        verify(orderOutboxService, times(1)).recordTransition(order, OrderStatus.PENDING);
+        verify(customerOrderSummaryService, times(1)).recordTransition(order, OrderStatus.PENDING);
+        verify(orderCache, times(1)).evict(orderId); // getOrder 캐시 키 (REDIS_CACHE::<주문 ID>)
+    }
+
+    @DisplayName("CancelOrder - 캐시 제거에 실패해도 취소는 완료 (Success)")
+    @Test
+    void testCancelOrderCacheEvictFailure() {
+        // Given
+        Long orderId = 1L;
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(productRepository.findById(order.getProductId())).thenReturn(Optional.of(product));
+        doThrow(new IllegalStateException("redis down")).when(orderCache).evict(orderId);
+
+        // When
+        orderService.cancelOrder(orderId);
+
         // Then
         assertEquals(OrderStatus.CANCELLED, order.getStatus());
         verify(orderRepository, times(1)).save(order);
     }
 
+    @DisplayName("CancelOrder - 이미 취소된 주문은 재고를 복구하지 않고 거부 (Fail)")
+    @Test
+    void testCancelOrderAlreadyCancelled() {
+        // Given
+        Long orderId = 1L;
+        order.setStatus(OrderStatus.CANCELLED);
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+
+        // When & Then
+        ServiceException exception = assertThrows(ServiceException.class, () -> orderService.cancelOrder(orderId));
+        assertEquals(ExceptionList.INVALID_REQUEST.getCode(), exception.getCode());
+        verify(productRepository, never()).save(any());
+        verifyNoInteractions(stockReservationService, stripedStockService, stockChangePublisher, orderOutboxService, customerOrderSummaryService);
+    }
+
     @DisplayName("CancelOrder - 존재하지 않는 주문 ID로 취소 실패 (Fail)")
     @Test
     void testCancelOrderNotFound() {
@@ -197,7 +617,7 @@ class OrderServiceTest {
     void testGetOrdersWithConditionsSuccess() {
         // Given
         OrderConditionDto conditionDto = new OrderConditionDto(customer.getCustomerId(), LocalDate.now().minusDays(30), LocalDate.now(), OrderStatus.PENDING);
-        List<Orders> mockOrders = List.of(order);
+        List<OrderResponseDto> mockOrders = List.of(new OrderResponseDto(order));
         when(orderRepository.findOrdersWithConditions(anyString(), any(LocalDate.class), any(LocalDate.class), any(OrderStatus.class)))
                 .thenReturn(mockOrders);
 
@@ -209,6 +629,40 @@ class OrderServiceTest {
         assertEquals(order.getProductId(), responses.get(0).getProductId());
     }
 
+    @DisplayName("GetOrdersWithConditions - 오래된 기간은 아카이브 결과를 합쳐서 반환 (Archive)")
+    @Test
+    void testGetOrdersWithConditionsIncludesArchive() {
+        // Given
+        OrderConditionDto conditionDto = new OrderConditionDto(customer.getCustomerId(), LocalDate.now().minusDays(365), LocalDate.now(), null);
+        when(orderRepository.findOrdersWithConditions(anyString(), any(LocalDate.class), any(LocalDate.class), isNull()))
+                .thenReturn(List.of(new OrderResponseDto(order)));
+        when(orderArchiveService.mayContainArchived(any(LocalDate.class), any(LocalDate.class), isNull())).thenReturn(true);
+        when(orderArchiveService.findArchivedOrders(anyString(), any(LocalDate.class), any(LocalDate.class), isNull()))
+                .thenReturn(List.of(new OrderResponseDto(5L, null, 1L, 2L, customer.getCustomerId(), OrderStatus.COMPLETED)));
+
+        // When
+        List<OrderResponseDto> responses = orderService.getOrdersWithConditions(conditionDto);
+
+        // Then
+        assertEquals(2, responses.size());
+    }
+
+    @DisplayName("GetOrdersWithConditions - 최근 기간은 아카이브를 조회하지 않음 (Hot)")
+    @Test
+    void testGetOrdersWithConditionsSkipsArchive() {
+        // Given
+        OrderConditionDto conditionDto = new OrderConditionDto(customer.getCustomerId(), LocalDate.now().minusDays(7), LocalDate.now(), OrderStatus.PENDING);
+        when(orderRepository.findOrdersWithConditions(anyString(), any(LocalDate.class), any(LocalDate.class), any(OrderStatus.class)))
+                .thenReturn(List.of(new OrderResponseDto(order)));
+        when(orderArchiveService.mayContainArchived(any(LocalDate.class), any(LocalDate.class), any(OrderStatus.class))).thenReturn(false);
+
+        // When
+        orderService.getOrdersWithConditions(conditionDto);
+
+        // Then
+        verify(orderArchiveService, never()).findArchivedOrders(anyString(), any(), any(), any());
+    }
+
     @DisplayName("GetOrdersWithConditions - 조건에 맞는 주문이 없을 때 예외 발생 (Fail)")
     @Test
     void testGetOrdersWithConditionsNoMatch() {
@@ -235,7 +689,7 @@ class OrderServiceTest {
                 any(LocalDate.class),
                 any(LocalDate.class),
                 eq(OrderStatus.SHIPPING)
-        )).thenReturn(List.of(shippedOrder));
+        )).thenReturn(List.of(new OrderResponseDto(shippedOrder)));
 
         // When
         List<OrderResponseDto> responses = orderService.getOrdersWithConditions(conditionDto);
@@ -244,4 +698,86 @@ class OrderServiceTest {
         assertFalse(responses.isEmpty());
         assertTrue(responses.stream().allMatch(r -> OrderStatus.SHIPPING.equals(r.getStatus())));
     }
-}
\ No newline at end of file
+
+    @DisplayName("TransitionOrders - 주문 ID 목록을 chunk 단위 UPDATE 로 변경 (Success)")
+    @Test
+    void testTransitionOrdersChunks() {
+        // Given
+        List<Long> orderIds = LongStream.rangeClosed(1, 2500).boxed().collect(Collectors.toList());
+        when(orderRepository.findTransitionRowsForUpdate(anyCollection(), anyCollection())).thenAnswer(invocation -> {
+            List<Long> pks = new ArrayList<>(invocation.getArgument(0));
+            return pks.stream()
+                    .map(pk -> new OrderTransitionRow(pk, 1L, customer.getCustomerId(), 1L, 1L, 100L, OrderStatus.PENDING))
+                    .collect(Collectors.toList());
+        });
+        when(orderRepository.updateStatus(anyCollection(), anyCollection(), eq(OrderStatus.SHIPPING)))
+                .thenAnswer(invocation -> ((Collection<?>) invocation.getArgument(0)).size());
+
+        // When
+        OrderStatusTransitionResponseDto result = orderService.transitionOrders(
+                new OrderStatusTransitionRequestDto(orderIds, null, OrderStatus.SHIPPING));
+
+        // Then
+        assertEquals(2500, result.getUpdated());
+        assertEquals(3, result.getChunkMillis().size()); // 1000 + 1000 + 500
+        verify(orderRepository, times(3)).updateStatus(anyCollection(), anyCollection(), eq(OrderStatus.SHIPPING));
+        verify(orderRepository, never()).findById(anyLong());
+        verify(orderRepository, never()).save(any(Orders.class));
+        verify(productRepository, never()).increaseStockQuantity(anyLong(), anyLong()); // 배송 전환은 재고 변경 없음
+    }
+
+    @DisplayName("TransitionOrders - 일괄 취소 시 상품별로 합쳐 재고 복구 (Cancel)")
+    @Test
+    void testTransitionOrdersCancelRestoresStockPerProduct() {
+        // Given
+        List<OrderTransitionRow> rows = List.of(
+                new OrderTransitionRow(1L, 1L, customer.getCustomerId(), 1L, 2L, 200L, OrderStatus.PENDING),
+                new OrderTransitionRow(2L, 1L, customer.getCustomerId(), 1L, 3L, 300L, OrderStatus.SHIPPING),
+                new OrderTransitionRow(3L, 1L, customer.getCustomerId(), 2L, 1L, 100L, OrderStatus.PENDING)
+        );
+        when(orderRepository.findTransitionRowsForUpdate(anyCollection(), anyCollection())).thenReturn(rows);
+        when(orderRepository.updateStatus(anyCollection(), anyCollection(), eq(OrderStatus.CANCELLED))).thenReturn(3);
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(product, new Product(2L, "Other Product", 10)));
+
+        // When
+        orderService.transitionOrders(new OrderStatusTransitionRequestDto(List.of(1L, 2L, 3L), null, OrderStatus.CANCELLED));
+
+        // Then
+        verify(productRepository, times(1)).increaseStockQuantity(1L, 5L);
+        verify(productRepository, times(1)).increaseStockQuantity(2L, 1L);
+        verify(orderCache, times(1)).evict(1L);
+        verify(orderCache, times(1)).evict(2L);
+        verify(orderCache, times(1)).evict(3L);
+        verify(orderOutboxService, times(1)).recordTransitions(rows, OrderStatus.CANCELLED);
+        verify(customerOrderSummaryService, times(1)).recordTransitions(rows, OrderStatus.CANCELLED);
+    }
+
+    @DisplayName("TransitionOrders - 조건에 고객 ID 가 없거나 기간이 한쪽만 있으면 조회 없이 거부 (Fail)")
+    @Test
+    void testTransitionOrdersInvalidCondition() {
+        // Given
+        List<OrderConditionDto> conditions = List.of(
+                new OrderConditionDto(null, null, null, OrderStatus.PENDING),
+                new OrderConditionDto(" ", null, null, null),
+                new OrderConditionDto(customer.getCustomerId(), LocalDate.now().minusDays(7), null, null));
+
+        for (OrderConditionDto condition : conditions) {
+            // When & Then
+            ServiceException exception = assertThrows(ServiceException.class, () -> orderService.transitionOrders(
+                    new OrderStatusTransitionRequestDto(null, condition, OrderStatus.CANCELLED)));
+            assertEquals(ExceptionList.INVALID_REQUEST.getCode(), exception.getCode());
+        }
+        verify(orderRepository, never()).findOrderPksWithConditions(any(), any(), any(), anyCollection());
+    }
+
+    @DisplayName("TransitionOrders - PENDING 으로 되돌리는 변경은 허용하지 않음 (Fail)")
+    @Test
+    void testTransitionOrdersInvalidStatus() {
+        // Given
+        OrderStatusTransitionRequestDto requestDto = new OrderStatusTransitionRequestDto(List.of(1L), null, OrderStatus.PENDING);
+
+        // When & Then
+        assertThrows(ServiceException.class, () -> orderService.transitionOrders(requestDto));
+        verify(orderRepository, never()).updateStatus(anyCollection(), anyCollection(), any());
+    }
+}
@@ -1,13 +1,23 @@
 package com.shop.shop.domain.product;
 
+import com.shop.shop.application.product.dto.ProductCardDto;
 import com.shop.shop.application.product.dto.ProductResponseDto;
 import com.shop.shop.application.product.dto.SearchProductFilterDto;
 import com.shop.shop.application.product.dto.SearchResponseDto;
+import com.shop.shop.application.product.dto.SuggestionDto;
 import com.shop.shop.domain.product.implement.ProductServiceImpl;
+import com.shop.shop.infrastructure.constant.SearchSort;
+import com.shop.shop.infrastructure.constant.SuggestionType;
 import com.shop.shop.infrastructure.exception.ExceptionList;
 import com.shop.shop.infrastructure.exception.ServiceException;
+import com.shop.shop.infrastructure.persistence.product.PriceBucket;
 import com.shop.shop.infrastructure.persistence.product.Product;
 import com.shop.shop.infrastructure.persistence.product.ProductRepository;
+import com.shop.shop.infrastructure.persistence.product.ProductSearchFacets;
+import com.shop.shop.infrastructure.persistence.product.ProductSearchPage;
+import com.shop.shop.infrastructure.search.ProductSuggestIndex;
+import com.shop.shop.infrastructure.search.SearchCursor;
+import com.shop.shop.infrastructure.search.Suggestion;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,10 +26,12 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -35,6 +47,9 @@ class ProductServiceTest {
     @Mock
     private ValueOperations<String, Long> valueOperations;
 
+    @Mock
+    private ProductSuggestIndex productSuggestIndex;
+
 
     @InjectMocks
     private ProductServiceImpl productService;
@@ -47,6 +62,7 @@ class ProductServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(productService, "histogramBuckets", 10);
         filterDto = new SearchProductFilterDto("laptop", "electronics", 500L, 1500L, true);
         product = new Product(1L, "White Chair", "Comfortable white chair", "Furniture", 10L, 2000L, "Fast shipping");
         product1 = new Product(1L, "Gaming Laptop", "High performance laptop", "electronics", 10L, 1200L, "Fast shipping");
@@ -57,7 +73,10 @@ class ProductServiceTest {
     @DisplayName("SearchProducts - 필터 조건을 만족하는 제품 검색 성공 (Success)")
     @Test
     void testSearchProducts_Success() {
-        when(productRepository.searchByKeywordAndCategory(filterDto)).thenReturn(Arrays.asList(product1, product2));
+        when(productRepository.searchByKeywordAndCategory(filterDto, SearchSort.RELEVANCE, null, 20))
+                .thenReturn(new ProductSearchPage(Arrays.asList(new ProductCardDto(product1), new ProductCardDto(product2)), null));
+        when(productRepository.facetsByKeywordAndCategory(filterDto, 10)).thenReturn(new ProductSearchFacets(2L, 1000L, 1200L, 2L,
+                Map.of("electronics", 2L), List.of(new PriceBucket(1000L, 1100L, 1L), new PriceBucket(1101L, 1201L, 1L))));
 
         SearchResponseDto response = productService.searchProducts(filterDto);
 
@@ -72,16 +91,28 @@ class ProductServiceTest {
                 ),
 
                 // 재고 상태 검증
-                () -> assertTrue(response.getStockAvailability().contains(true), "재고 상태 확인")
+                () -> assertTrue(response.getStockAvailability().contains(true), "재고 상태 확인"),
+
+                // 페이지 정보 검증
+                () -> assertEquals(2L, response.getTotalCount(), "전체 건수 검증"),
+                () -> assertNull(response.getNextCursor(), "마지막 페이지 검증"),
+
+                // 집계 검증
+                () -> assertEquals(2L, response.getInStockCount(), "재고 있는 상품 수 검증"),
+                () -> assertEquals(Map.of("electronics", 2L), response.getCategoryCounts(), "카테고리별 상품 수 검증"),
+                () -> assertEquals(2, response.getPriceHistogram().size(), "가격 구간 수 검증")
         );
 
-        verify(productRepository, times(1)).searchByKeywordAndCategory(filterDto);
+        verify(productRepository, times(1)).searchByKeywordAndCategory(filterDto, SearchSort.RELEVANCE, null, 20);
+        verify(productRepository, times(1)).facetsByKeywordAndCategory(filterDto, 10);
     }
 
     @DisplayName("SearchProducts - 필터 조건에 맞는 제품이 없을 때 빈 결과 반환 (No Products Found)")
     @Test
     void testSearchProducts_NoProductsFound() {
-        when(productRepository.searchByKeywordAndCategory(filterDto)).thenReturn(Collections.emptyList());
+        when(productRepository.searchByKeywordAndCategory(filterDto, SearchSort.RELEVANCE, null, 20))
+                .thenReturn(new ProductSearchPage(Collections.emptyList(), null));
+        when(productRepository.facetsByKeywordAndCategory(filterDto, 10)).thenReturn(ProductSearchFacets.empty());
 
         SearchResponseDto response = productService.searchProducts(filterDto);
 
@@ -90,7 +121,9 @@ class ProductServiceTest {
         assertEquals(0L, response.getMinPrice());
         assertEquals(0L, response.getMaxPrice());
         assertTrue(response.getStockAvailability().isEmpty());
-        verify(productRepository, times(1)).searchByKeywordAndCategory(filterDto);
+        assertEquals(0L, response.getTotalCount());
+        assertTrue(response.getPriceHistogram().isEmpty());
+        verify(productRepository, times(1)).searchByKeywordAndCategory(filterDto, SearchSort.RELEVANCE, null, 20);
     }
 
     @DisplayName("SearchProducts - 필수 조건인 키워드가 누락된 경우 예외 발생 (Missing Keyword)")
@@ -99,7 +132,100 @@ class ProductServiceTest {
         filterDto.setKeyword(null); // 필수 조건인 키워드를 null로 설정
 
         assertThrows(ServiceException.class, () -> productService.searchProducts(filterDto));
-        verify(productRepository, never()).searchByKeywordAndCategory(filterDto);
+        verify(productRepository, never()).searchByKeywordAndCategory(any(), any(), any(), anyInt());
+    }
+
+    @DisplayName("SearchProducts - 커서로 다음 페이지 조회 시 정렬/크기/커서 전달, 집계는 다시 계산하지 않음 (Success)")
+    @Test
+    void testSearchProducts_NextPage() {
+        // Given
+        filterDto.setSort(SearchSort.PRICE_DESC);
+        filterDto.setSize(1);
+        filterDto.setCursor("-1200_1");
+        when(productRepository.searchByKeywordAndCategory(eq(filterDto), eq(SearchSort.PRICE_DESC), any(SearchCursor.class), eq(1)))
+                .thenReturn(new ProductSearchPage(List.of(new ProductCardDto(product2)), new SearchCursor(-1000L, 2L)));
+
+        // When
+        SearchResponseDto response = productService.searchProducts(filterDto);
+
+        // Then
+        assertEquals(List.of(new ProductCardDto(product2)), response.getProducts());
+        assertEquals("-1000_2", response.getNextCursor());
+        assertNull(response.getTotalCount());
+        assertNull(response.getMinPrice());
+        verify(productRepository).searchByKeywordAndCategory(eq(filterDto), eq(SearchSort.PRICE_DESC),
+                argThat(cursor -> cursor.getSortKey() == -1200L && cursor.getProductId() == 1L), eq(1));
+        verify(productRepository, never()).facetsByKeywordAndCategory(any(), anyInt());
+    }
+
+    @DisplayName("SearchProducts - 가격/재고 집계는 페이지가 아닌 검색 조건 전체 기준 (Success)")
+    @Test
+    void testSearchProducts_FacetsCoverAllMatches() {
+        // Given: 첫 페이지에는 1개만 있지만 전체 일치 상품은 5만 개
+        ReflectionTestUtils.setField(productService, "histogramBuckets", 4);
+        when(productRepository.searchByKeywordAndCategory(filterDto, SearchSort.RELEVANCE, null, 20))
+                .thenReturn(new ProductSearchPage(List.of(new ProductCardDto(product1)), new SearchCursor(-1L, 1L)));
+        when(productRepository.facetsByKeywordAndCategory(filterDto, 4)).thenReturn(new ProductSearchFacets(50_000L, 500L, 1500L, 30_000L,
+                Map.of("electronics", 50_000L), List.of(new PriceBucket(500L, 750L, 50_000L))));
+
+        // When
+        SearchResponseDto response = productService.searchProducts(filterDto);
+
+        // Then
+        assertEquals(50_000L, response.getTotalCount());
+        assertEquals(500L, response.getMinPrice());
+        assertEquals(1500L, response.getMaxPrice());
+        assertEquals(30_000L, response.getInStockCount());
+        assertEquals(List.of(true), response.getStockAvailability());
+        assertEquals("-1_1", response.getNextCursor());
+    }
+
+    @DisplayName("SearchProducts - 페이지 크기는 최대 100, 잘못된 크기/커서는 예외 발생 (Invalid Page)")
+    @Test
+    void testSearchProducts_PageSize() {
+        // Given
+        when(productRepository.searchByKeywordAndCategory(any(), any(), any(), anyInt()))
+                .thenReturn(new ProductSearchPage(Collections.emptyList(), null));
+        when(productRepository.facetsByKeywordAndCategory(any(), anyInt())).thenReturn(ProductSearchFacets.empty());
+
+        // When
+        filterDto.setSize(1000);
+        productService.searchProducts(filterDto);
+
+        // Then
+        verify(productRepository).searchByKeywordAndCategory(filterDto, SearchSort.RELEVANCE, null, 100);
+        filterDto.setSize(0);
+        assertThrows(ServiceException.class, () -> productService.searchProducts(filterDto));
+        filterDto.setSize(null);
+        filterDto.setCursor("abc");
+        assertThrows(ServiceException.class, () -> productService.searchProducts(filterDto));
+    }
+
+    @DisplayName("Suggest - 자동완성 후보를 색인 순위 그대로 반환, 개수는 상한까지 (Success)")
+    @Test
+    void testSuggest_Success() {
+        // Given
+        when(productSuggestIndex.getMaxResults()).thenReturn(10);
+        when(productSuggestIndex.suggest("gam", 10)).thenReturn(List.of(
+                new Suggestion(SuggestionType.PRODUCT, "Gaming Laptop", 1L, 120L),
+                new Suggestion(SuggestionType.CATEGORY, "games", null, 80L)));
+
+        // When
+        List<SuggestionDto> suggestions = productService.suggest("gam", 50);
+
+        // Then
+        assertEquals(2, suggestions.size());
+        assertEquals(new SuggestionDto(SuggestionType.PRODUCT, "Gaming Laptop", 1L, 120L), suggestions.get(0));
+        assertEquals(SuggestionType.CATEGORY, suggestions.get(1).getType());
+        verify(productSuggestIndex).suggest("gam", 10);
+    }
+
+    @DisplayName("Suggest - 빈 검색어는 빈 결과, 잘못된 개수는 예외 발생 (Invalid Query)")
+    @Test
+    void testSuggest_InvalidQuery() {
+        assertTrue(productService.suggest(" ", null).isEmpty());
+        assertThrows(ServiceException.class, () -> productService.suggest("gam", 0));
+        verify(productSuggestIndex, never()).suggest(anyString(), anyInt());
     }
 
     @DisplayName("GetProductDetail - 성공적으로 제품 상세 정보와 조회수 증가 검증")
@@ -119,6 +245,7 @@ class ProductServiceTest {
         assertEquals(product.getId(), responseDto.getId());
         verify(valueOperations).set(viewCountKey, 1L); // 첫 조회수 1로 설정 검증
         verify(valueOperations, never()).increment(viewCountKey); // 처음이므로 증가 메서드는 호출되지 않음
+        verify(productSuggestIndex).recordView(productId); // 자동완성 인기도 반영
     }
 
     @DisplayName("GetProductDetail - 존재하지 않는 제품 ID 요청 시 예외 발생")
@@ -0,0 +1,230 @@
+package com.shop.shop.domain.stock;
+
+import com.shop.shop.domain.stock.implement.StockReservationServiceImpl;
+import com.shop.shop.infrastructure.event.StockChangePublisher;
+import com.shop.shop.infrastructure.exception.ExceptionList;
+import com.shop.shop.infrastructure.exception.ServiceException;
+import com.shop.shop.infrastructure.persistence.product.Product;
+import com.shop.shop.infrastructure.persistence.product.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class StockReservationServiceTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private StockChangePublisher stockChangePublisher;
+
+    @InjectMocks
+    private StockReservationServiceImpl stockReservationService;
+
+    private static final List<String> RESERVE_KEYS = List.of("stock:1", "stock:pending");
+    private static final List<String> LOAD_KEYS = List.of("stock:1", "stock:pending", "stock:mirrored");
+    private static final List<String> PREPARE_KEYS = List.of("stock:pending", "stock:flushing", "stock:flush-sequence");
+    private static final List<String> FLUSHED_KEYS = List.of("stock:pending", "stock:generation", "stock:flushing");
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(stockReservationService, "enabled", true);
+        doReturn(hashOperations).when(stringRedisTemplate).opsForHash();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("Reserve - 미러 재고에서 예약 성공 시 DB 접근 없음 (Success)")
+    @Test
+    void testReserveFromMirror() {
+        // Given
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(RESERVE_KEYS), eq("1"), eq("3"))).thenReturn(1L);
+
+        // When
+        stockReservationService.reserve(1L, 3L);
+
+        // Then
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), eq(RESERVE_KEYS), eq("1"), eq("3"));
+        verifyNoInteractions(productRepository);
+    }
+
+    @DisplayName("Reserve - 미러가 없으면 DB 재고로 적재 후 예약 (Load)")
+    @Test
+    void testReserveLoadsMirror() {
+        // Given: 첫 예약은 미적재(-1), 적재 후 재시도는 성공
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(RESERVE_KEYS), eq("1"), eq("2"))).thenReturn(-1L, 1L);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(new Product(1L, "Test Product", 5)));
+
+        // When
+        stockReservationService.reserve(1L, 2L);
+
+        // Then
+        InOrder inOrder = inOrder(stringRedisTemplate, productRepository);
+        inOrder.verify(stringRedisTemplate).execute(any(RedisScript.class), eq(RESERVE_KEYS), eq("1"), eq("2"));
+        inOrder.verify(productRepository).findById(1L);
+        inOrder.verify(stringRedisTemplate).execute(any(RedisScript.class), eq(LOAD_KEYS), eq("1"), eq("5"));
+        inOrder.verify(stringRedisTemplate).execute(any(RedisScript.class), eq(RESERVE_KEYS), eq("1"), eq("2"));
+    }
+
+    @DisplayName("Reserve - 미러 재고 부족 시 예외 발생 (Fail)")
+    @Test
+    void testReserveNotEnoughStock() {
+        // Given
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(RESERVE_KEYS), eq("1"), eq("2"))).thenReturn(-2L);
+
+        // When & Then
+        ServiceException exception = assertThrows(ServiceException.class, () -> stockReservationService.reserve(1L, 2L));
+        assertEquals(ExceptionList.NOT_ENOUGH_STOCK.getCode(), exception.getCode());
+        verifyNoInteractions(productRepository);
+    }
+
+    @DisplayName("Reserve - 주문 트랜잭션이 롤백되면 예약 취소 (Rollback)")
+    @Test
+    void testReserveCancelledOnRollback() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(RESERVE_KEYS), eq("1"), eq("3"))).thenReturn(1L);
+        stockReservationService.reserve(1L, 3L);
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then: 예약 스크립트와 다른 취소 스크립트가 같은 키/수량으로 한 번 더 실행
+        ArgumentCaptor<RedisScript> scripts = ArgumentCaptor.forClass(RedisScript.class);
+        verify(stringRedisTemplate, times(2)).execute(scripts.capture(), eq(RESERVE_KEYS), eq("1"), eq("3"));
+        assertNotSame(scripts.getAllValues().get(0), scripts.getAllValues().get(1));
+    }
+
+    @DisplayName("Reserve - 주문 트랜잭션이 커밋되면 예약 유지 (Commit)")
+    @Test
+    void testReserveKeptOnCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(RESERVE_KEYS), eq("1"), eq("3"))).thenReturn(1L);
+        stockReservationService.reserve(1L, 3L);
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Then
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), eq(RESERVE_KEYS), eq("1"), eq("3"));
+    }
+
+    @DisplayName("FlushPendingReservations - 누적 예약 수량을 반영 번호와 함께 상품별 UPDATE 한 번으로 반영 (Flush)")
+    @Test
+    void testFlushPendingReservations() {
+        // Given: 상품 2 는 미반영 수량이 0 이라 표식이 생기지 않음
+        when(hashOperations.keys("stock:pending")).thenReturn(Set.of("1", "2"));
+        when(hashOperations.keys("stock:flushing")).thenReturn(Set.of());
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(PREPARE_KEYS), eq("1"), anyString())).thenReturn("123:3");
+        when(productRepository.applyReservationFlush(1L, 3L, 123L)).thenReturn(1);
+
+        // When
+        stockReservationService.flushPendingReservations();
+
+        // Then
+        verify(productRepository, times(1)).applyReservationFlush(1L, 3L, 123L);
+        verify(productRepository, never()).applyReservationFlush(eq(2L), anyLong(), anyLong());
+        verify(stockChangePublisher, times(1)).stockChanged(1L);
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), eq(FLUSHED_KEYS), eq("1"), eq("123:3"), eq("3"));
+    }
+
+    @DisplayName("FlushPendingReservations - 커밋 후 Redis 정리가 실패했던 표식은 DB 차감 없이 정리만 재시도 (Idempotent)")
+    @Test
+    void testFlushRetrySkipsAlreadyAppliedSequence() {
+        // Given: 이전 반영의 표식이 남아 있고, DB 에는 같은 번호가 이미 기록됨
+        Product product = new Product(1L, "Test Product", 7);
+        product.setReservationFlushSequence(123L);
+        when(hashOperations.keys("stock:pending")).thenReturn(Set.of("1"));
+        when(hashOperations.keys("stock:flushing")).thenReturn(Set.of("1"));
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(PREPARE_KEYS), eq("1"), anyString())).thenReturn("123:3");
+        when(productRepository.applyReservationFlush(1L, 3L, 123L)).thenReturn(0);
+        when(productRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(product));
+
+        // When
+        stockReservationService.flushPendingReservations();
+
+        // Then
+        verify(productRepository, times(1)).applyReservationFlush(1L, 3L, 123L);  // 재고는 다시 차감하지 않음 (번호 조건으로 0건)
+        verify(stockChangePublisher, never()).stockChanged(anyLong());
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), eq(FLUSHED_KEYS), eq("1"), eq("123:3"), eq("3"));
+    }
+
+    @DisplayName("FlushPendingReservations - DB 반영 실패 시 표식만 지우고 미반영 수량 유지 (Flush Failure)")
+    @Test
+    void testFlushKeepsPendingWhenDecreaseFails() {
+        // Given: 재고 부족으로 UPDATE 가 반영되지 않았고 DB 에는 이전 번호만 있음
+        Product product = new Product(1L, "Test Product", 1);
+        product.setReservationFlushSequence(100L);
+        when(hashOperations.keys("stock:pending")).thenReturn(Set.of("1"));
+        when(hashOperations.keys("stock:flushing")).thenReturn(Set.of());
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(PREPARE_KEYS), eq("1"), anyString())).thenReturn("123:3");
+        when(productRepository.applyReservationFlush(1L, 3L, 123L)).thenReturn(0);
+        when(productRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(product));
+
+        // When
+        stockReservationService.flushPendingReservations();
+
+        // Then
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of("stock:flushing")), eq("1"), eq("123:3"));
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), eq(FLUSHED_KEYS), anyString(), anyString(), anyString());
+        verify(stockChangePublisher, never()).stockChanged(anyLong());
+    }
+
+    @DisplayName("Reconcile - DB 조회 전에 읽은 세대를 함께 전달 (Generation)")
+    @Test
+    void testReconcilePassesGenerationReadBeforeDb() {
+        // Given
+        SetOperations<String, String> setOperations = mock(SetOperations.class);
+        doReturn(setOperations).when(stringRedisTemplate).opsForSet();
+        when(setOperations.members("stock:mirrored")).thenReturn(Set.of("1"));
+        ReflectionTestUtils.setField(stockReservationService, "reconcileBatchSize", 500);
+        when(hashOperations.multiGet("stock:generation", List.of("1"))).thenReturn(Arrays.asList((Object) "4"));
+        when(productRepository.findAllById(List.of(1L))).thenReturn(List.of(new Product(1L, "Test Product", 5)));
+
+        // When
+        stockReservationService.reconcile();
+
+        // Then
+        InOrder inOrder = inOrder(hashOperations, productRepository, stringRedisTemplate);
+        inOrder.verify(hashOperations).multiGet("stock:generation", List.of("1"));
+        inOrder.verify(productRepository).findAllById(List.of(1L));
+        inOrder.verify(stringRedisTemplate).execute(any(RedisScript.class),
+                eq(List.of("stock:1", "stock:pending", "stock:generation", "stock:flushing")), eq("1"), eq("5"), eq("4"));
+    }
+}
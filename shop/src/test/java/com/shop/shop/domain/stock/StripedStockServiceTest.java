@@ -0,0 +1,252 @@
+package com.shop.shop.domain.stock;
+
+import com.shop.shop.domain.stock.implement.StripedStockServiceImpl;
+import com.shop.shop.infrastructure.event.StockChangePublisher;
+import com.shop.shop.infrastructure.exception.ExceptionList;
+import com.shop.shop.infrastructure.exception.ServiceException;
+import com.shop.shop.infrastructure.persistence.product.Product;
+import com.shop.shop.infrastructure.persistence.product.ProductRepository;
+import com.shop.shop.infrastructure.persistence.product.ProductStockShard;
+import com.shop.shop.infrastructure.persistence.product.ProductStockShardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class StripedStockServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductStockShardRepository productStockShardRepository;
+
+    @Mock
+    private StockChangePublisher stockChangePublisher;
+
+    @InjectMocks
+    private StripedStockServiceImpl stripedStockService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @DisplayName("Stripe - 재고를 샤드에 균등 분배 (Success)")
+    @Test
+    void testStripeDistributesStock() {
+        // Given
+        Product product = new Product(1L, "Hot Product", 10);
+        when(productRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(product));
+        when(productStockShardRepository.findByProductIdForUpdate(1L)).thenReturn(List.of());
+
+        // When
+        stripedStockService.stripe(1L, 4);
+
+        // Then
+        ArgumentCaptor<List<ProductStockShard>> captor = ArgumentCaptor.forClass(List.class);
+        verify(productStockShardRepository).saveAll(captor.capture());
+        List<ProductStockShard> shards = captor.getValue();
+        assertEquals(4, shards.size());
+        assertEquals(10L, shards.stream().mapToLong(ProductStockShard::getStockQuantity).sum());
+        assertEquals(List.of(3L, 3L, 2L, 2L), shards.stream().map(ProductStockShard::getStockQuantity).toList());
+        assertEquals(4, product.getStockStripes());
+        assertTrue(product.isStockStriped());
+        verify(stockChangePublisher, times(1)).stockChanged(1L);
+    }
+
+    @DisplayName("Decrease - 선택된 샤드가 비어 있으면 이웃 샤드에서 차감 (Fallback)")
+    @Test
+    void testDecreaseFallsBackToNeighbor() {
+        // Given: 3번 샤드에만 재고가 있음
+        when(productStockShardRepository.decreaseStockQuantity(eq(1L), anyInt(), eq(1L)))
+                .thenAnswer(invocation -> invocation.getArgument(1, Integer.class) == 3 ? 1 : 0);
+
+        // When
+        stripedStockService.decrease(1L, 8, 1L);
+
+        // Then
+        verify(productStockShardRepository, times(1)).decreaseStockQuantity(1L, 3, 1L);
+        verify(productStockShardRepository, never()).findByProductIdForUpdate(anyLong());
+    }
+
+    @DisplayName("Decrease - 단일 샤드로 부족하면 전체 샤드에서 나누어 차감 (Across Shards)")
+    @Test
+    void testDecreaseAcrossShards() {
+        // Given
+        List<ProductStockShard> shards = new ArrayList<>(List.of(
+                new ProductStockShard(1L, 0, 2L),
+                new ProductStockShard(1L, 1, 2L)
+        ));
+        when(productStockShardRepository.decreaseStockQuantity(anyLong(), anyInt(), anyLong())).thenReturn(0);
+        when(productStockShardRepository.findByProductIdForUpdate(1L)).thenReturn(shards);
+
+        // When
+        stripedStockService.decrease(1L, 2, 3L);
+
+        // Then
+        assertEquals(1L, shards.stream().mapToLong(ProductStockShard::getStockQuantity).sum());
+        verify(productStockShardRepository, times(1)).saveAll(shards);
+    }
+
+    @DisplayName("Decrease - 전체 샤드 합계도 부족하면 예외 발생 (Fail)")
+    @Test
+    void testDecreaseNotEnoughStock() {
+        // Given
+        when(productStockShardRepository.decreaseStockQuantity(anyLong(), anyInt(), anyLong())).thenReturn(0);
+        when(productStockShardRepository.findByProductIdForUpdate(1L))
+                .thenReturn(List.of(new ProductStockShard(1L, 0, 1L), new ProductStockShard(1L, 1, 1L)));
+
+        // When & Then
+        ServiceException exception = assertThrows(ServiceException.class, () -> stripedStockService.decrease(1L, 2, 3L));
+        assertEquals(ExceptionList.NOT_ENOUGH_STOCK.getCode(), exception.getCode());
+    }
+
+    @DisplayName("Decrease - 동시 주문에서 초과 차감 없이 샤드 합계 보존 (Concurrency)")
+    @Test
+    void testConcurrentDecreaseNeverOversells() throws InterruptedException {
+        // Given: 주문 수(32 x 50)보다 적은 재고
+        long startingStock = 1000L;
+
+        // When
+        ConcurrentRun run = runConcurrentOrders(8, startingStock, 32, 50, 0);
+
+        // Then
+        for (AtomicLong stock : run.shardStock) {
+            assertTrue(stock.get() >= 0);
+        }
+        long remaining = run.remainingStock();
+        assertTrue(run.succeeded.get() <= startingStock);
+        assertEquals(startingStock, run.succeeded.get() + remaining);
+    }
+
+    // 수동 실행 전용 (./gradlew benchmark): 샤드 수에 따른 처리량 비교
+    @Tag("benchmark")
+    @DisplayName("Decrease - 경합 상황에서 샤드 수에 따른 처리량 비교 (Benchmark)")
+    @Test
+    void benchmarkStripedThroughputUnderContention() throws InterruptedException {
+        double single = measureOrdersPerSecond(1);
+        double eightStripes = measureOrdersPerSecond(8);
+        double thirtyTwoStripes = measureOrdersPerSecond(32);
+
+        // 샤드별 row lock 을 흉내낸 환경에서 샤드 수가 늘면 처리량이 증가해야 함
+        assertTrue(eightStripes > single * 2, "1 stripe: " + single + ", 8 stripes: " + eightStripes);
+        assertTrue(thirtyTwoStripes > single * 2, "1 stripe: " + single + ", 32 stripes: " + thirtyTwoStripes);
+    }
+
+    private double measureOrdersPerSecond(int stripes) throws InterruptedException {
+        int threadCount = 32;
+        int ordersPerThread = 50;
+        long totalStock = (long) threadCount * ordersPerThread;
+        ConcurrentRun run = runConcurrentOrders(stripes, totalStock, threadCount, ordersPerThread, 200_000);
+        return totalStock * 1_000_000_000.0 / run.elapsedNanos;
+    }
+
+    // 샤드마다 row lock 을 ReentrantLock 으로, lock 보유 시간을 parkNanos 로 흉내내어 동시 주문 실행
+    // (Mockito 호출 기록이 끼어들지 않도록 샤드 리포지토리는 동적 프록시로 구현)
+    private ConcurrentRun runConcurrentOrders(int stripes, long totalStock, int threadCount, int ordersPerThread,
+                                              long lockHoldNanos) throws InterruptedException {
+        ReentrantLock[] rowLocks = new ReentrantLock[stripes];
+        AtomicLong[] shardStock = new AtomicLong[stripes];
+        for (int i = 0; i < stripes; i++) {
+            rowLocks[i] = new ReentrantLock();
+            shardStock[i] = new AtomicLong(totalStock / stripes + (i < totalStock % stripes ? 1 : 0));
+        }
+
+        ProductStockShardRepository shardRepository = (ProductStockShardRepository) Proxy.newProxyInstance(
+                ProductStockShardRepository.class.getClassLoader(),
+                new Class<?>[]{ProductStockShardRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("decreaseStockQuantity")) {
+                        int shardNo = (Integer) args[1];
+                        long quantity = (Long) args[2];
+                        rowLocks[shardNo].lock();
+                        try {
+                            if (lockHoldNanos > 0) {
+                                LockSupport.parkNanos(lockHoldNanos); // row lock 보유 시간
+                            }
+                            if (shardStock[shardNo].get() < quantity) {
+                                return 0;
+                            }
+                            shardStock[shardNo].addAndGet(-quantity);
+                            return 1;
+                        } finally {
+                            rowLocks[shardNo].unlock();
+                        }
+                    }
+                    if (method.getName().equals("findByProductIdForUpdate")) {
+                        return List.of();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        StripedStockServiceImpl service = new StripedStockServiceImpl(productRepository, shardRepository, stockChangePublisher);
+
+        ConcurrentRun run = new ConcurrentRun(shardStock);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    for (int j = 0; j < ordersPerThread; j++) {
+                        try {
+                            service.decrease(1L, stripes, 1L);
+                            run.succeeded.incrementAndGet();
+                        } catch (ServiceException ignored) {
+                            // 재고 부족 또는 샤드 간 재고 편차로 인한 실패
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        startLatch.countDown();
+        assertTrue(doneLatch.await(60, TimeUnit.SECONDS));
+        run.elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+        return run;
+    }
+
+    private static class ConcurrentRun {
+        private final AtomicLong[] shardStock;
+        private final AtomicLong succeeded = new AtomicLong();
+        private long elapsedNanos;
+
+        private ConcurrentRun(AtomicLong[] shardStock) {
+            this.shardStock = shardStock;
+        }
+
+        private long remainingStock() {
+            long remaining = 0;
+            for (AtomicLong stock : shardStock) {
+                remaining += stock.get();
+            }
+            return remaining;
+        }
+    }
+}
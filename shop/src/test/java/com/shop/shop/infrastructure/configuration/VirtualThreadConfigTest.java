@@ -0,0 +1,35 @@
+package com.shop.shop.infrastructure.configuration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadConfigTest {
+
+    @Test
+    @DisplayName("Destroy - 스케줄러용 가상 스레드 풀을 컨텍스트 종료 시 종료 (Success)")
+    void destroy_ShutsDownScheduler_Success() {
+        assumeTrue(Runtime.version().feature() >= 21, "virtual threads require Java 21");
+
+        // Given
+        VirtualThreadConfig config = new VirtualThreadConfig();
+        ReflectionTestUtils.setField(config, "schedulingPoolSize", 2);
+        ScheduledTaskRegistrar registrar = new ScheduledTaskRegistrar();
+        config.configureTasks(registrar);
+        ExecutorService scheduler = (ExecutorService) ((ConcurrentTaskScheduler) registrar.getScheduler()).getConcurrentExecutor();
+        assertFalse(scheduler.isShutdown());
+
+        // When
+        config.destroy();
+
+        // Then
+        assertTrue(scheduler.isShutdown());
+    }
+}
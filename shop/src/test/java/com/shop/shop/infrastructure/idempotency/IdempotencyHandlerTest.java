@@ -0,0 +1,234 @@
+package com.shop.shop.infrastructure.idempotency;
+
+import com.shop.shop.infrastructure.exception.ExceptionList;
+import com.shop.shop.infrastructure.exception.ServiceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class IdempotencyHandlerTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @InjectMocks
+    private IdempotencyHandler idempotencyHandler;
+
+    private static final String KEY = "idempotency:orders:customer-1:key-1";
+    private static final List<String> BODY = List.of("product-1");
+    private static final String BODY_HASH = IdempotencyHandler.fingerprint(BODY);
+    private static final String IN_PROGRESS = "IN_PROGRESS:" + BODY_HASH;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(idempotencyHandler, "ttlHours", 24L);
+        ReflectionTestUtils.setField(idempotencyHandler, "lockTtlSeconds", 30L);
+        ReflectionTestUtils.setField(idempotencyHandler, "waitTimeoutMillis", 1000L);
+        doReturn(valueOperations).when(redisTemplate).opsForValue();
+    }
+
+    @DisplayName("Execute - 키가 없으면 Redis 를 거치지 않고 실행 (No Key)")
+    @Test
+    void testExecuteWithoutKey() {
+        // When
+        String result = idempotencyHandler.execute("orders", "customer-1", null, BODY, () -> "created");
+
+        // Then
+        assertEquals("created", result);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @DisplayName("Execute - 최초 요청은 실행 후 결과를 저장 (First Request)")
+    @Test
+    void testExecuteFirstRequestStoresResult() {
+        // Given
+        when(valueOperations.get(KEY)).thenReturn(null);
+        when(valueOperations.setIfAbsent(eq(KEY), eq(IN_PROGRESS), any(Duration.class))).thenReturn(true);
+
+        // When
+        List<String> result = idempotencyHandler.execute("orders", "customer-1", "key-1", BODY, () -> List.of("order-1"));
+
+        // Then
+        assertEquals(List.of("order-1"), result);
+        verify(valueOperations, times(1)).set(KEY, new IdempotentResult(BODY_HASH, List.of("order-1")), Duration.ofHours(24));
+    }
+
+    @DisplayName("Execute - 재시도 요청은 저장된 결과를 반환하고 실행하지 않음 (Replay)")
+    @Test
+    void testExecuteReplayReturnsStoredResult() {
+        // Given
+        when(valueOperations.get(KEY)).thenReturn(new IdempotentResult(BODY_HASH, List.of("order-1")));
+        AtomicInteger executions = new AtomicInteger();
+
+        // When
+        List<String> result = idempotencyHandler.execute("orders", "customer-1", "key-1", BODY, () -> {
+            executions.incrementAndGet();
+            return List.of("order-2");
+        });
+
+        // Then
+        assertEquals(List.of("order-1"), result);
+        assertEquals(0, executions.get());
+        verify(valueOperations, times(1)).get(KEY);
+        verify(valueOperations, never()).setIfAbsent(anyString(), any(), any(Duration.class));
+    }
+
+    @DisplayName("Execute - 실패한 요청은 키를 삭제해 재시도 가능 (Failure)")
+    @Test
+    void testExecuteFailureReleasesKey() {
+        // Given
+        when(valueOperations.get(KEY)).thenReturn(null);
+        when(valueOperations.setIfAbsent(eq(KEY), eq(IN_PROGRESS), any(Duration.class))).thenReturn(true);
+
+        // When & Then
+        assertThrows(ServiceException.class, () -> idempotencyHandler.execute("orders", "customer-1", "key-1", BODY, () -> {
+            throw new ServiceException(ExceptionList.NOT_ENOUGH_STOCK);
+        }));
+        verify(redisTemplate, times(1)).delete(KEY);
+    }
+
+    @DisplayName("Execute - 결과 저장이 실패해도 키를 삭제하지 않음 (Store Failure)")
+    @Test
+    void testExecuteStoreFailureKeepsKey() {
+        // Given
+        when(valueOperations.get(KEY)).thenReturn(null);
+        when(valueOperations.setIfAbsent(eq(KEY), eq(IN_PROGRESS), any(Duration.class))).thenReturn(true);
+        doThrow(new IllegalStateException("redis down"))
+                .when(valueOperations).set(eq(KEY), any(), any(Duration.class));
+
+        // When
+        String result = idempotencyHandler.execute("orders", "customer-1", "key-1", BODY, () -> "created");
+
+        // Then
+        assertEquals("created", result);
+        verify(redisTemplate, never()).delete(KEY);
+        verify(redisTemplate, times(1)).expire(KEY, Duration.ofHours(24));
+    }
+
+    @DisplayName("Execute - 같은 키로 다른 본문을 보내면 422 (Key Reused)")
+    @Test
+    void testExecuteDifferentBodyIsRejected() {
+        // Given
+        when(valueOperations.get(KEY)).thenReturn(new IdempotentResult(BODY_HASH, List.of("order-1")));
+
+        // When & Then
+        ServiceException exception = assertThrows(ServiceException.class,
+                () -> idempotencyHandler.execute("orders", "customer-1", "key-1", List.of("product-2"), () -> "created"));
+        assertEquals(ExceptionList.IDEMPOTENCY_KEY_REUSED.getCode(), exception.getCode());
+    }
+
+    @DisplayName("Execute - 같은 키라도 다른 고객의 결과는 재생하지 않음 (Owner Scoped)")
+    @Test
+    void testExecuteKeyIsScopedToOwner() {
+        // Given
+        when(valueOperations.get(KEY)).thenReturn(new IdempotentResult(BODY_HASH, List.of("order-1")));
+        String otherKey = "idempotency:orders:customer-2:key-1";
+        when(valueOperations.get(otherKey)).thenReturn(null);
+        when(valueOperations.setIfAbsent(eq(otherKey), eq(IN_PROGRESS), any(Duration.class))).thenReturn(true);
+
+        // When
+        List<String> result = idempotencyHandler.execute("orders", "customer-2", "key-1", BODY, () -> List.of("order-2"));
+
+        // Then
+        assertEquals(List.of("order-2"), result);
+        verify(valueOperations, never()).get(KEY);
+    }
+
+    @DisplayName("Execute - 요청자를 알 수 없으면 401 (No Owner)")
+    @Test
+    void testExecuteWithoutOwner() {
+        // When & Then
+        ServiceException exception = assertThrows(ServiceException.class,
+                () -> idempotencyHandler.execute("orders", null, "key-1", BODY, () -> "created"));
+        assertEquals(ExceptionList.UNAUTHORIZED.getCode(), exception.getCode());
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @DisplayName("Execute - 다른 서버에서 처리 중인 요청이 끝나지 않으면 409 (Conflict)")
+    @Test
+    void testExecuteInProgressTimesOut() {
+        // Given
+        when(valueOperations.get(KEY)).thenReturn(IN_PROGRESS);
+
+        // When & Then
+        ServiceException exception = assertThrows(ServiceException.class,
+                () -> idempotencyHandler.execute("orders", "customer-1", "key-1", BODY, () -> "created"));
+        assertEquals(ExceptionList.DUPLICATE_REQUEST.getCode(), exception.getCode());
+    }
+
+    @DisplayName("Execute - 같은 서버의 동시 중복 요청은 한 번만 실행 (Coalescing)")
+    @Test
+    void testExecuteCoalescesConcurrentDuplicates() throws InterruptedException {
+        // Given: Redis 를 메모리 맵으로 흉내냄
+        ConcurrentHashMap<String, Object> store = new ConcurrentHashMap<>();
+        when(valueOperations.get(KEY)).thenAnswer(invocation -> store.get(KEY));
+        when(valueOperations.setIfAbsent(eq(KEY), any(), any(Duration.class)))
+                .thenAnswer(invocation -> store.putIfAbsent(KEY, invocation.getArgument(1)) == null);
+        doAnswer(invocation -> store.put(KEY, invocation.getArgument(1)))
+                .when(valueOperations).set(eq(KEY), any(), any(Duration.class));
+
+        AtomicInteger executions = new AtomicInteger();
+        int threadCount = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(threadCount);
+        List<String> results = new CopyOnWriteArrayList<>();
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    results.add(idempotencyHandler.execute("orders", "customer-1", "key-1", BODY, () -> {
+                        executions.incrementAndGet();
+                        sleep(100);
+                        return "created";
+                    }));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        assertTrue(doneLatch.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        // Then
+        assertEquals(1, executions.get());
+        assertEquals(threadCount, results.size());
+        assertTrue(results.stream().allMatch("created"::equals));
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.shop.shop.infrastructure.persistence.order;
+
+import com.shop.shop.infrastructure.persistence.member.Customer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 조건부 주문 조회가 의존하는 인덱스 선언이 빠지면 풀 스캔으로 떨어지므로 엔티티 매핑을 검증
+class OrdersIndexTest {
+
+    @Test
+    @DisplayName("Orders - 고객 + 기간 / 고객 + 상태 + 기간 복합 인덱스 선언 (Success)")
+    void ordersCompositeIndexes_Success() {
+        // Given
+        Table table = Orders.class.getAnnotation(Table.class);
+
+        // When
+        Optional<Index> customerDate = findIndex(table, "customer_pk, order_date");
+        Optional<Index> customerStatusDate = findIndex(table, "customer_pk, status, order_date");
+
+        // Then
+        assertTrue(customerDate.isPresent());
+        assertTrue(customerStatusDate.isPresent());
+    }
+
+    @Test
+    @DisplayName("Customer - customer_id 유니크 인덱스 선언 (Success)")
+    void customerIdUniqueIndex_Success() {
+        // Given
+        Table table = Customer.class.getAnnotation(Table.class);
+
+        // When
+        Optional<Index> customerId = findIndex(table, "customer_id");
+
+        // Then
+        assertTrue(customerId.isPresent());
+        assertTrue(customerId.get().unique());
+    }
+
+    private Optional<Index> findIndex(Table table, String columnList) {
+        assertNotNull(table);
+        return Arrays.stream(table.indexes())
+                .filter(index -> index.columnList().replace(" ", "").equals(columnList.replace(" ", "")))
+                .findFirst();
+    }
+}
@@ -0,0 +1,58 @@
+package com.shop.shop.infrastructure.persistence.order;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static com.shop.shop.infrastructure.persistence.order.OrdersSequenceInitializer.*;
+import static org.mockito.Mockito.*;
+
+class OrdersSequenceInitializerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private OrdersSequenceInitializer ordersSequenceInitializer;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @DisplayName("Seed - 기존 주문 MAX(pk) + allocationSize 이상으로 next_val 상향 (Success)")
+    void testSeedExistingOrders() {
+        // Given
+        when(jdbcTemplate.queryForObject(MAX_PK_SQL, Long.class)).thenReturn(1234L);
+        when(jdbcTemplate.queryForObject(COUNT_SQL, Long.class)).thenReturn(1L);
+
+        // When
+        ordersSequenceInitializer.seed();
+
+        // Then
+        verify(jdbcTemplate, times(1)).update(SEED_SQL, 1234L + Orders.PK_ALLOCATION_SIZE);
+        verify(jdbcTemplate, times(2)).queryForObject(anyString(), eq(Long.class));
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Seed - orders_seq 행이 없으면 새로 생성 (Success)")
+    void testSeedEmptySequenceTable() {
+        // Given
+        when(jdbcTemplate.queryForObject(MAX_PK_SQL, Long.class)).thenReturn(0L);
+        when(jdbcTemplate.queryForObject(COUNT_SQL, Long.class)).thenReturn(0L);
+
+        // When
+        ordersSequenceInitializer.seed();
+
+        // Then
+        verify(jdbcTemplate, times(1)).update(INSERT_SQL, (long) Orders.PK_ALLOCATION_SIZE);
+        verify(jdbcTemplate, times(2)).queryForObject(anyString(), eq(Long.class));
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,295 @@
+package com.shop.shop.infrastructure.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shop.shop.application.product.dto.SearchProductFilterDto;
+import com.shop.shop.domain.stock.event.StockChangedEvent;
+import com.shop.shop.infrastructure.constant.SearchSort;
+import com.shop.shop.infrastructure.persistence.product.PriceBucket;
+import com.shop.shop.infrastructure.persistence.product.ProductSearchFacets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+class ProductSearchIndexTest {
+
+    private static final LocalDateTime REGISTERED = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private ProductSearchIndex productSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        productSearchIndex = new ProductSearchIndex(null, 5000);
+        productSearchIndex.index(1L, "Gaming Laptop", "electronics", 1200L, 10L, REGISTERED.plusDays(2));
+        productSearchIndex.index(2L, "Business Laptop", "electronics", 1000L, 0L, REGISTERED.plusDays(3));
+        productSearchIndex.index(3L, "Laptop Stand", "furniture", 50L, 3L, REGISTERED.plusDays(1));
+        productSearchIndex.index(4L, "Lap top cover", "electronics", 30L, 3L, REGISTERED); // 띄어쓰기가 달라 일치하지 않음
+        productSearchIndex.markReady();
+    }
+
+    @DisplayName("Search - 키워드 부분 일치 (대소문자 무시) (Success)")
+    @Test
+    void testSearchKeyword() {
+        assertEquals(List.of(1L, 2L, 3L), ids(filter("LAPTOP", null, null, null, null)));
+        assertEquals(List.of(1L), ids(filter("ming lap", null, null, null, null)));
+        assertTrue(ids(filter("notebook", null, null, null, null)).isEmpty());
+    }
+
+    @DisplayName("Search - 카테고리/가격/재고 필터 (Success)")
+    @Test
+    void testSearchFilters() {
+        assertEquals(List.of(1L, 2L), ids(filter("laptop", "electronics", null, null, null)));
+        assertEquals(List.of(2L, 3L), ids(filter("laptop", null, null, 1000L, null)));
+        assertEquals(List.of(1L, 3L), ids(filter("laptop", null, null, null, true)));
+        assertTrue(ids(filter("laptop", "toys", null, null, null)).isEmpty());
+    }
+
+    @DisplayName("Index - 상품 변경/삭제 반영 (Success)")
+    @Test
+    void testIncrementalUpdate() {
+        // When
+        productSearchIndex.index(2L, "Business Laptop", "electronics", 1000L, 5L, REGISTERED);  // 재고 입고
+        productSearchIndex.index(3L, "Monitor Stand", "furniture", 50L, 3L, REGISTERED);        // 상품명 변경
+        productSearchIndex.remove(1L);
+
+        // Then
+        assertEquals(List.of(2L), ids(filter("laptop", null, null, null, true)));
+        assertEquals(List.of(3L), ids(filter("monitor", null, null, null, null)));
+    }
+
+    @DisplayName("UpdateStock - 재고 비트만 보정하고 바뀐 경우에만 true (Success)")
+    @Test
+    void testUpdateStock() {
+        // When & Then
+        assertTrue(productSearchIndex.updateStock(1L, 0L));   // 품절
+        assertTrue(productSearchIndex.updateStock(2L, 7L));   // 입고
+        assertFalse(productSearchIndex.updateStock(3L, 1L));  // 변화 없음
+        assertFalse(productSearchIndex.updateStock(99L, 1L)); // 색인에 없는 상품
+        assertEquals(List.of(2L, 3L), ids(filter("laptop", null, null, null, true)));
+        assertEquals(2L, productSearchIndex.facets(filter("laptop", null, null, null, null), 2).getInStockCount());
+    }
+
+    @DisplayName("OnStockChanged - 재고 변경 알림은 DB 조회 없이 대기열에만 추가, 다시 색인 실패 시 대기열 유지 (Success)")
+    @Test
+    void testStockChangedQueuedForReindex() {
+        // When: DB 연결 없이 (queryFactory 없음) 알림 수신
+        productSearchIndex.onStockChanged(new StockChangedEvent(1L));
+        productSearchIndex.onStockChanged(new StockChangedEvent(1L));
+        productSearchIndex.onStockChanged(new StockChangedEvent(2L));
+
+        // Then
+        assertEquals(2, productSearchIndex.pendingReindexCount());
+        assertThrows(RuntimeException.class, productSearchIndex::reindexPending); // 조회 실패
+        assertEquals(2, productSearchIndex.pendingReindexCount());               // 다음 주기에 재시도
+    }
+
+    @DisplayName("Search - 관련도/가격/최신순 정렬 (Success)")
+    @Test
+    void testSearchSorted() {
+        SearchProductFilterDto laptop = filter("laptop", null, null, null, null);
+
+        // 관련도: 접두어 일치(3) > 단어 시작(1, 2 는 ID 순)
+        assertEquals(List.of(3L, 1L, 2L), productSearchIndex.search(laptop, SearchSort.RELEVANCE, null, 10).getProductIds());
+        assertEquals(List.of(3L, 2L, 1L), productSearchIndex.search(laptop, SearchSort.PRICE_ASC, null, 10).getProductIds());
+        assertEquals(List.of(1L, 2L, 3L), productSearchIndex.search(laptop, SearchSort.PRICE_DESC, null, 10).getProductIds());
+        assertEquals(List.of(2L, 1L, 3L), productSearchIndex.search(laptop, SearchSort.NEWEST, null, 10).getProductIds());
+    }
+
+    @DisplayName("Search - 최신순 커서는 같은 ms 안의 등록 시각도 마이크로초 단위로 구분 (Success)")
+    @Test
+    void testNewestCursorKeepsMicroseconds() {
+        // Given: 같은 ms 안에서 1µs 차이로 등록된 상품
+        LocalDateTime registered = REGISTERED.plusDays(10).plusNanos(123_456_000);
+        ProductSearchIndex index = new ProductSearchIndex(null, 5000);
+        index.index(10L, "Desk Lamp", "furniture", 20L, 1L, registered);
+        index.index(11L, "Desk Lamp Mini", "furniture", 10L, 1L, registered.plusNanos(1_000));
+        index.markReady();
+
+        // When
+        SearchPage first = index.search(filter("lamp", null, null, null, null), SearchSort.NEWEST, null, 1);
+
+        // Then
+        assertEquals(List.of(11L), first.getProductIds());
+        assertEquals(-SearchCursor.toEpochMicros(registered.plusNanos(1_000)), first.getNextCursor().getSortKey());
+        assertEquals(registered, SearchCursor.fromEpochMicros(SearchCursor.toEpochMicros(registered)));
+        assertEquals(List.of(11L, 10L), pageThrough(index, filter("lamp", null, null, null, null), SearchSort.NEWEST, 1));
+    }
+
+    @DisplayName("Search - 커서로 다음 페이지 조회, 마지막 페이지는 커서 없음 (Success)")
+    @Test
+    void testSearchCursorPaging() {
+        // Given
+        SearchProductFilterDto laptop = filter("laptop", null, null, null, null);
+
+        // When
+        SearchPage first = productSearchIndex.search(laptop, SearchSort.PRICE_ASC, null, 2);
+        SearchCursor cursor = SearchCursor.parse(first.getNextCursor().toString());
+        SearchPage second = productSearchIndex.search(laptop, SearchSort.PRICE_ASC, cursor, 2);
+
+        // Then
+        assertEquals(List.of(3L, 2L), first.getProductIds());
+        assertEquals(List.of(1L), second.getProductIds());
+        assertNull(second.getNextCursor());
+        assertEquals(List.of(3L, 1L, 2L), pageThrough(productSearchIndex, laptop, SearchSort.RELEVANCE, 1));
+    }
+
+    @DisplayName("Facets - 조건 전체에 대한 가격/재고/카테고리 집계와 가격 히스토그램 (Success)")
+    @Test
+    void testFacets() {
+        // When
+        ProductSearchFacets facets = productSearchIndex.facets(filter("laptop", null, null, null, null), 4);
+
+        // Then: 가격 50, 1000, 1200 → 구간 너비 (1200 - 50 + 1) / 4 올림 = 288
+        assertEquals(3L, facets.getTotalCount());
+        assertEquals(50L, facets.getMinPrice());
+        assertEquals(1200L, facets.getMaxPrice());
+        assertEquals(2L, facets.getInStockCount());
+        assertEquals(List.of("electronics", "furniture"), new ArrayList<>(facets.getCategoryCounts().keySet()));
+        assertEquals(2L, facets.getCategoryCounts().get("electronics"));
+        assertEquals(List.of(50L, 338L, 626L, 914L), facets.getPriceHistogram().stream().map(PriceBucket::getMinPrice).collect(Collectors.toList()));
+        assertEquals(List.of(1L, 0L, 0L, 2L), facets.getPriceHistogram().stream().map(PriceBucket::getCount).collect(Collectors.toList()));
+        assertEquals(0L, productSearchIndex.facets(filter("notebook", null, null, null, null), 4).getTotalCount());
+    }
+
+    @DisplayName("Supports - 3 글자 미만 키워드와 적재 전에는 SQL 로 처리 (Success)")
+    @Test
+    void testSupports() {
+        assertFalse(productSearchIndex.supports("la"));
+        assertTrue(productSearchIndex.supports("lap"));
+        assertFalse(new ProductSearchIndex(null, 5000).supports("laptop"));
+    }
+
+    @DisplayName("Search - 많은 상품에서도 LIKE 전체 스캔과 같은 결과 (Success)")
+    @Test
+    void testSearchMatchesScanOnLargeCatalog() {
+        // Given
+        LargeCatalog catalog = new LargeCatalog(2_000);
+
+        // When & Then
+        assertMatchesScan(catalog);
+    }
+
+    // 수동 실행 전용 (./gradlew benchmark)
+    @Tag("benchmark")
+    @DisplayName("Search - 대량 상품에서 LIKE 와 같은 결과를 빠르게 반환 (Benchmark)")
+    @Test
+    void benchmarkSearchOnLargeCatalog() {
+        // Given
+        LargeCatalog catalog = new LargeCatalog(200_000);
+        assertMatchesScan(catalog);
+
+        // When
+        int iterations = 2_000;
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            catalog.index.search(filter("gaming desk", "office", 100L, 500L, true), SearchSort.RELEVANCE, null, 20);
+        }
+        long averageMicros = (System.nanoTime() - startedAt) / iterations / 1_000;
+
+        // Then
+        assertTrue(averageMicros < 50_000, "filtered search avg " + averageMicros + "us");
+    }
+
+    private void assertMatchesScan(LargeCatalog catalog) {
+        ProductSearchIndex index = catalog.index;
+        List<String> names = catalog.names;
+        List<Long> prices = catalog.prices;
+
+        // 전체 스캔(LIKE) 결과와 같음
+        String[] keywords = {"gaming desk", "ite", "monitor", "oard", "lamp 12"};
+        for (String keyword : keywords) {
+            List<Long> expected = new ArrayList<>();
+            for (int i = 0; i < names.size(); i++) {
+                if (names.get(i).toLowerCase(Locale.ROOT).contains(keyword) && (long) ((i + 1) % 3) > 0) {
+                    expected.add((long) (i + 1));
+                }
+            }
+            assertEquals(expected, ids(index, filter(keyword, null, null, null, true)), keyword);
+        }
+
+        // 커서로 끝까지 넘긴 결과가 전체 정렬 결과와 같음 (가격 내림차순, 동점은 ID 오름차순)
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            if (names.get(i).contains("gaming desk")) {
+                expected.add((long) (i + 1));
+            }
+        }
+        expected.sort(Comparator.comparing((Long id) -> -prices.get((int) (id - 1))).thenComparing(id -> id));
+        assertEquals(expected, pageThrough(index, filter("gaming desk", null, null, null, null), SearchSort.PRICE_DESC, 50));
+
+        // 넓은 키워드의 집계도 전체 스캔 결과와 같음
+        long expectedCount = 0;
+        long expectedMax = Long.MIN_VALUE;
+        for (int i = 0; i < names.size(); i++) {
+            if (names.get(i).contains("ite")) {
+                expectedCount++;
+                expectedMax = Math.max(expectedMax, prices.get(i));
+            }
+        }
+        ProductSearchFacets facets = index.facets(filter("ite", null, null, null, null), 10);
+        assertEquals(expectedCount, facets.getTotalCount());
+        assertEquals(expectedMax, facets.getMaxPrice());
+        assertEquals(expectedCount, facets.getPriceHistogram().stream().mapToLong(PriceBucket::getCount).sum());
+        assertEquals(expectedCount, facets.getCategoryCounts().values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    private List<Long> ids(SearchProductFilterDto filter) {
+        return ids(productSearchIndex, filter);
+    }
+
+    // 정렬과 무관하게 일치하는 상품 ID 전체 (ID 오름차순)
+    private List<Long> ids(ProductSearchIndex index, SearchProductFilterDto filter) {
+        List<Long> ids = new ArrayList<>(index.search(filter, SearchSort.RELEVANCE, null, 1_000_000).getProductIds());
+        Collections.sort(ids);
+        return ids;
+    }
+
+    private List<Long> pageThrough(ProductSearchIndex index, SearchProductFilterDto filter, SearchSort sort, int size) {
+        List<Long> ids = new ArrayList<>();
+        SearchCursor cursor = null;
+        do {
+            SearchPage page = index.search(filter, sort, cursor, size);
+            ids.addAll(page.getProductIds());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private SearchProductFilterDto filter(String keyword, String category, Long minPrice, Long maxPrice, Boolean inStock) {
+        return new SearchProductFilterDto(keyword, category, minPrice, maxPrice, inStock);
+    }
+
+    private static final class LargeCatalog {
+        private static final String[] WORDS = {"chair", "table", "laptop", "phone", "lamp", "white", "black", "wooden", "gaming", "office",
+                "desk", "mouse", "keyboard", "monitor", "stand", "cable", "bag", "shoe", "shirt", "watch"};
+        private static final String[] CATEGORIES = {"electronics", "furniture", "fashion", "office"};
+
+        private final List<String> names;
+        private final List<Long> prices;
+        private final ProductSearchIndex index = new ProductSearchIndex(null, 5000);
+
+        // 재고는 ID % 3 (3의 배수 ID 는 품절)
+        private LargeCatalog(int productCount) {
+            Random random = new Random(42);
+            this.names = new ArrayList<>(productCount);
+            this.prices = new ArrayList<>(productCount);
+            for (int id = 1; id <= productCount; id++) {
+                String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + id;
+                names.add(name);
+                prices.add((long) random.nextInt(1000));
+                index.index((long) id, name, CATEGORIES[id % CATEGORIES.length], prices.get(id - 1), (long) (id % 3), null);
+            }
+            index.markReady();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.shop.shop.infrastructure.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shop.shop.infrastructure.constant.SuggestionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+class ProductSuggestIndexTest {
+
+    private ProductSuggestIndex productSuggestIndex;
+
+    @BeforeEach
+    void setUp() {
+        productSuggestIndex = new ProductSuggestIndex(null, null, 3, 5000);
+        productSuggestIndex.index(1L, "Gaming Laptop", "electronics", 50L);
+        productSuggestIndex.index(2L, "Gaming Mouse", "electronics", 80L);
+        productSuggestIndex.index(3L, "Game Console", "electronics", 10L);
+        productSuggestIndex.index(4L, "Laptop Stand", "furniture", 30L);
+        productSuggestIndex.markReady();
+    }
+
+    @DisplayName("Suggest - 접두어로 시작하는 상품명을 조회수 순으로 반환 (Success)")
+    @Test
+    void testSuggestByPrefix() {
+        assertEquals(List.of("Gaming Mouse", "Gaming Laptop", "Game Console"), texts("gam"));
+        assertEquals(List.of("Gaming Mouse", "Gaming Laptop"), texts("GAMING "));
+        assertEquals(List.of("Gaming Laptop"), texts("gaming l"));
+        assertTrue(texts("notebook").isEmpty());
+        assertTrue(texts("  ").isEmpty());
+    }
+
+    @DisplayName("Suggest - 단어 중간부터 입력해도 일치, 카테고리는 소속 상품 조회수 합으로 순위 (Success)")
+    @Test
+    void testSuggestWordsAndCategories() {
+        // "laptop" 은 "Gaming Laptop" 의 두 번째 단어와 "Laptop Stand" 의 첫 단어
+        assertEquals(List.of("Gaming Laptop", "Laptop Stand"), texts("lap"));
+
+        List<Suggestion> electronics = productSuggestIndex.suggest("elec", 10);
+        assertEquals(1, electronics.size());
+        assertEquals(SuggestionType.CATEGORY, electronics.get(0).getType());
+        assertNull(electronics.get(0).getProductId());
+        assertEquals(140L, electronics.get(0).getScore());
+    }
+
+    @DisplayName("RecordView - 조회수 증가가 순위에 바로 반영 (Success)")
+    @Test
+    void testRecordViewReordersSuggestions() {
+        // When
+        for (int i = 0; i < 31; i++) {
+            productSuggestIndex.recordView(1L);
+        }
+
+        // Then
+        assertEquals(List.of("Gaming Laptop", "Gaming Mouse", "Game Console"), texts("gam"));
+        assertEquals(81L, productSuggestIndex.suggest("gaming laptop", 1).get(0).getScore());
+        assertEquals(171L, productSuggestIndex.suggest("electronics", 1).get(0).getScore());
+    }
+
+    @DisplayName("Index - 상품명 변경/삭제 시 해당 키만 갱신, 빈 카테고리는 제거 (Success)")
+    @Test
+    void testIncrementalUpdate() {
+        // When
+        productSuggestIndex.index(2L, "Wireless Mouse", "electronics", 80L); // 상품명 변경
+        productSuggestIndex.remove(4L);                                      // furniture 의 유일한 상품 삭제
+
+        // Then
+        assertEquals(List.of("Gaming Laptop", "Game Console"), texts("gam"));
+        assertEquals(List.of("Wireless Mouse"), texts("mou"));
+        assertEquals(List.of("Gaming Laptop"), texts("lap"));
+        assertTrue(texts("furn").isEmpty());
+    }
+
+    @DisplayName("Suggest - 노드별 상위 목록이 개수 상한(maxResults) 안에서 다음 후보로 채워짐 (Success)")
+    @Test
+    void testTopListRefilledAfterRemoval() {
+        // Given: 상한 3 개보다 많은 후보
+        productSuggestIndex.index(5L, "Gamepad", "electronics", 5L);
+
+        // When
+        productSuggestIndex.remove(2L);
+
+        // Then
+        assertEquals(List.of("Gaming Laptop", "Game Console", "Gamepad"), texts("gam"));
+    }
+
+    @DisplayName("Suggest - 대량 상품에서 전체 스캔과 같은 결과 (Success)")
+    @Test
+    void testSuggestMatchesScanOnLargeCatalog() {
+        // Given
+        LargeCatalog catalog = new LargeCatalog(100_000);
+
+        // When & Then: 전체 스캔(단어 시작 접두어 일치 후 조회수 정렬) 결과와 같음
+        for (String prefix : new String[]{"g", "desk m", "lamp 12", "wat"}) {
+            List<Long> expected = new ArrayList<>();
+            for (int id = 1; id <= catalog.productCount; id++) {
+                String name = catalog.names[id].toLowerCase(Locale.ROOT);
+                if (name.startsWith(prefix) || name.contains(" " + prefix)) {
+                    expected.add((long) id);
+                }
+            }
+            expected.sort(Comparator.comparingLong((Long id) -> -catalog.views[id.intValue()])
+                    .thenComparing(id -> catalog.names[id.intValue()])
+                    .thenComparingLong(id -> id));
+            List<Long> actual = catalog.index.suggest(prefix, 10).stream().map(Suggestion::getProductId).collect(Collectors.toList());
+            assertEquals(expected.subList(0, Math.min(10, expected.size())), actual, prefix);
+        }
+    }
+
+    // 수동 실행 전용 (./gradlew benchmark)
+    @Tag("benchmark")
+    @DisplayName("Suggest - 동시 조회수 갱신 중 p99 1ms 미만 (Benchmark)")
+    @Test
+    void benchmarkSuggestLatencyUnderViewUpdates() throws Exception {
+        // Given
+        LargeCatalog catalog = new LargeCatalog(100_000);
+        ProductSuggestIndex index = catalog.index;
+
+        // When: 조회 4 스레드 + 조회수 갱신 1 스레드
+        String[] prefixes = {"g", "ga", "gam", "lap", "laptop ", "desk m", "mon", "white ch", "shoe 1", "watch 99"};
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        Future<?> writer = executor.submit(() -> {
+            Random viewRandom = new Random(1);
+            while (running.get()) {
+                index.recordView((long) (viewRandom.nextInt(catalog.productCount) + 1));
+            }
+        });
+        int requestsPerThread = 50_000;
+        List<Future<long[]>> readers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int offset = t;
+            readers.add(executor.submit(() -> {
+                long[] latencies = new long[requestsPerThread];
+                for (int i = 0; i < requestsPerThread; i++) {
+                    long requestStartedAt = System.nanoTime();
+                    index.suggest(prefixes[(i + offset) % prefixes.length], 10);
+                    latencies[i] = System.nanoTime() - requestStartedAt;
+                }
+                return latencies;
+            }));
+        }
+        long[] latencies = new long[0];
+        for (Future<long[]> reader : readers) {
+            long[] result = reader.get();
+            long[] merged = Arrays.copyOf(latencies, latencies.length + result.length);
+            System.arraycopy(result, 0, merged, latencies.length, result.length);
+            latencies = merged;
+        }
+        running.set(false);
+        writer.get();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // Then
+        Arrays.sort(latencies);
+        long p99Micros = latencies[(int) (latencies.length * 0.99)] / 1_000;
+        assertTrue(p99Micros < 1_000, "p99 " + p99Micros + "us");
+    }
+
+    private List<String> texts(String query) {
+        return productSuggestIndex.suggest(query, 10).stream()
+                .filter(suggestion -> suggestion.getType() == SuggestionType.PRODUCT)
+                .map(Suggestion::getText)
+                .collect(Collectors.toList());
+    }
+
+    // 임의의 상품명/조회수로 채운 대량 색인
+    private static final class LargeCatalog {
+        private static final String[] WORDS = {"chair", "table", "laptop", "phone", "lamp", "white", "black", "wooden", "gaming", "office",
+                "desk", "mouse", "keyboard", "monitor", "stand", "cable", "bag", "shoe", "shirt", "watch"};
+
+        private final int productCount;
+        private final String[] names;
+        private final long[] views;
+        private final ProductSuggestIndex index = new ProductSuggestIndex(null, null, 10, 5000);
+
+        private LargeCatalog(int productCount) {
+            Random random = new Random(7);
+            this.productCount = productCount;
+            this.names = new String[productCount + 1];
+            this.views = new long[productCount + 1];
+            for (int id = 1; id <= productCount; id++) {
+                names[id] = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + id;
+                views[id] = random.nextInt(100_000);
+                index.index((long) id, names[id], null, views[id]);
+            }
+            index.markReady();
+        }
+    }
+}
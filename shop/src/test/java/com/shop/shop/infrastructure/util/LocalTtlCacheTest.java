@@ -0,0 +1,98 @@
+package com.shop.shop.infrastructure.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+class LocalTtlCacheTest {
+
+    @DisplayName("Get - TTL 이 지나면 다시 로딩 (Success)")
+    @Test
+    void testExpiry() {
+        // Given
+        AtomicLong now = new AtomicLong(0);
+        AtomicInteger loads = new AtomicInteger();
+        LocalTtlCache<String, Integer> cache = new LocalTtlCache<>(10, 1000, now::get);
+
+        // When
+        cache.get("a", key -> loads.incrementAndGet());
+        now.set(999);
+        cache.get("a", key -> loads.incrementAndGet());
+        now.set(1000);
+        cache.get("a", key -> loads.incrementAndGet());
+
+        // Then
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @DisplayName("Put - 최대 크기를 넘으면 가장 오래 사용되지 않은 항목 제거 (Success)")
+    @Test
+    void testEvictsLeastRecentlyUsed() {
+        // Given
+        LocalTtlCache<String, Integer> cache = new LocalTtlCache<>(2, 1000, () -> 0L);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.getIfPresent("a");
+
+        // When
+        cache.put("c", 3);
+
+        // Then
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getIfPresent("a"));
+        assertNull(cache.getIfPresent("b"));
+    }
+
+    @DisplayName("Put - 동시 저장 후에도 최대 크기를 넘지 않음 (Concurrency)")
+    @Test
+    void testConcurrentPutsStayBounded() throws InterruptedException {
+        // Given
+        LocalTtlCache<Integer, Integer> cache = new LocalTtlCache<>(100, 60_000);
+        int threadCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch doneLatch = new CountDownLatch(threadCount);
+
+        // When
+        for (int t = 0; t < threadCount; t++) {
+            int offset = t * 1_000;
+            executor.submit(() -> {
+                try {
+                    for (int i = 0; i < 1_000; i++) {
+                        cache.put(offset + i, i);
+                        cache.getIfPresent(offset + i / 2);
+                    }
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        assertTrue(doneLatch.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        // Then
+        assertTrue(cache.size() <= 100);
+    }
+
+    @DisplayName("Get - loader 가 null 을 반환하면 캐시하지 않음 (Success)")
+    @Test
+    void testNullNotCached() {
+        // Given
+        LocalTtlCache<String, Integer> cache = new LocalTtlCache<>(10, 1000, () -> 0L);
+
+        // When
+        cache.get("a", key -> null);
+
+        // Then
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,191 @@
+package com.shop.shop.infrastructure.util;
+
+import com.shop.shop.infrastructure.exception.ServiceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptimisticRetryAspectTest {
+
+    private OptimisticRetryAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        aspect = new OptimisticRetryAspect();
+    }
+
+    @Test
+    @DisplayName("Retry - 충돌 후 재시도에서 성공 (Success)")
+    void retry_SucceedsAfterConflict_Success() {
+        // Given
+        FlakyService service = proxy(new FlakyService(2));
+
+        // When
+        String result = service.update();
+
+        // Then
+        assertEquals("ok", result);
+        assertEquals(3, service.attempts());
+        assertEquals(2, aspect.getConflictCount());
+        assertEquals(2, aspect.getRetryCount());
+        assertEquals(0, aspect.getExhaustedCount());
+    }
+
+    @Test
+    @DisplayName("Retry - 최대 시도 횟수를 넘으면 CONCURRENT_MODIFICATION (Failure)")
+    void retry_Exhausted_Failure() {
+        // Given
+        FlakyService service = proxy(new FlakyService(10));
+
+        // When & Then
+        assertThrows(ServiceException.class, service::update);
+        assertEquals(3, service.attempts());
+        assertEquals(1, aspect.getExhaustedCount());
+    }
+
+    @Test
+    @DisplayName("Retry - 동시 수정에서도 갱신 유실 없음 (Contention)")
+    void retry_ContentionKeepsCorrectness_Success() throws Exception {
+        // Given
+        int rows = 32;
+        int threads = 8;
+        int updatesPerThread = 40;
+        VersionedTable table = new VersionedTable(rows);
+        CounterService optimistic = proxy(new CounterService(table));
+
+        // When
+        run(threads, updatesPerThread, () -> optimistic.increment(randomRow(rows)));
+
+        // Then
+        assertEquals(threads * updatesPerThread, table.total()); // 갱신 유실 없음
+        assertEquals(0, aspect.getExhaustedCount());
+        assertEquals(aspect.getConflictCount(), aspect.getRetryCount());
+    }
+
+    private void run(int threads, int updatesPerThread, Runnable update) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                try {
+                    for (int i = 0; i < updatesPerThread; i++) {
+                        update.run();
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        assertTrue(done.await(60, TimeUnit.SECONDS));
+        executor.shutdown();
+    }
+
+    private int randomRow(int rows) {
+        return ThreadLocalRandom.current().nextInt(rows);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return (T) factory.getProxy();
+    }
+
+    // 지정한 횟수만큼 충돌 후 성공
+    static class FlakyService {
+        private final int failures;
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        FlakyService(int failures) {
+            this.failures = failures;
+        }
+
+        @OptimisticRetry(baseDelayMillis = 1, maxDelayMillis = 5)
+        public String update() {
+            if (attempts.incrementAndGet() <= failures) {
+                throw new ObjectOptimisticLockingFailureException(Object.class, 1L);
+            }
+            return "ok";
+        }
+
+        int attempts() {
+            return attempts.get();
+        }
+    }
+
+    // 읽기 → 작업(1ms) → 버전 비교 후 쓰기
+    static class CounterService {
+        private final VersionedTable table;
+
+        CounterService(VersionedTable table) {
+            this.table = table;
+        }
+
+        @OptimisticRetry(maxAttempts = 20, baseDelayMillis = 1, maxDelayMillis = 10)
+        public void increment(int row) {
+            long version = table.version(row);
+            long value = table.value(row);
+            sleepQuietly();
+            if (!table.compareAndSet(row, version, value + 1)) {
+                throw new ObjectOptimisticLockingFailureException(Object.class, row);
+            }
+        }
+    }
+
+    // 행마다 값과 버전을 가진 테이블 (UPDATE ... WHERE version = ? 흉내)
+    static class VersionedTable {
+        private final AtomicLongArray values;
+        private final AtomicLongArray versions;
+
+        VersionedTable(int rows) {
+            this.values = new AtomicLongArray(rows);
+            this.versions = new AtomicLongArray(rows);
+        }
+
+        long version(int row) {
+            return versions.get(row);
+        }
+
+        long value(int row) {
+            return values.get(row);
+        }
+
+        synchronized boolean compareAndSet(int row, long expectedVersion, long value) {
+            if (versions.get(row) != expectedVersion) {
+                return false;
+            }
+            values.set(row, value);
+            versions.incrementAndGet(row);
+            return true;
+        }
+
+        long total() {
+            long total = 0;
+            for (int i = 0; i < values.length(); i++) {
+                total += values.get(i);
+            }
+            return total;
+        }
+    }
+
+    private static void sleepQuietly() {
+        try {
+            Thread.sleep(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.shop.shop.infrastructure.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    @DisplayName("nextId - 여러 스레드에서 동시에 발급해도 중복 없음 (Success)")
+    void nextId_ConcurrentUnique_Success() throws Exception {
+        // Given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7, 1000);
+        int threads = 8;
+        int idsPerThread = 200_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                long[] ids = new long[idsPerThread];
+                start.await();
+                for (int i = 0; i < idsPerThread; i++) {
+                    ids[i] = generator.nextId();
+                }
+                return ids;
+            }));
+        }
+        start.countDown();
+        long[] all = new long[threads * idsPerThread];
+        int offset = 0;
+        for (Future<long[]> future : futures) {
+            long[] ids = future.get(30, TimeUnit.SECONDS);
+            // 스레드 안에서는 단조 증가
+            for (int i = 1; i < ids.length; i++) {
+                assertTrue(ids[i] > ids[i - 1]);
+            }
+            System.arraycopy(ids, 0, all, offset, ids.length);
+            offset += ids.length;
+        }
+        executor.shutdown();
+
+        // Then
+        Arrays.sort(all);
+        for (int i = 1; i < all.length; i++) {
+            assertNotEquals(all[i - 1], all[i], "duplicate id " + all[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("nextId - 같은 ms 시퀀스 소진 시 다음 ms 로 넘어가 순서 유지 (Success)")
+    void nextId_SequenceOverflow_Success() {
+        // Given
+        AtomicLong clock = new AtomicLong(1_800_000_000_000L);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 1000, clock::get);
+
+        // When
+        long previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            long next = generator.nextId();
+
+            // Then
+            assertTrue(next > previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("nextId - 허용 범위 내에서 시계가 뒤로 가도 순서 유지 (Success)")
+    void nextId_SmallClockSkew_Success() {
+        // Given
+        AtomicLong clock = new AtomicLong(1_800_000_000_000L);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 1000, clock::get);
+        long before = generator.nextId();
+
+        // When
+        clock.addAndGet(-500);
+        long after = generator.nextId();
+
+        // Then
+        assertTrue(after > before);
+    }
+
+    @Test
+    @DisplayName("nextId - 허용 범위를 넘어 시계가 뒤로 가면 예외 (Failure)")
+    void nextId_LargeClockSkew_Failure() {
+        // Given
+        AtomicLong clock = new AtomicLong(1_800_000_000_000L);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 1000, clock::get);
+        generator.nextId();
+
+        // When
+        clock.addAndGet(-5000);
+
+        // Then
+        assertThrows(IllegalStateException.class, generator::nextId);
+    }
+
+    @Test
+    @DisplayName("nextOrderNumber - 19자리 고정 길이로 사전순 정렬이 발급 순서와 같음 (Success)")
+    void nextOrderNumber_Sortable_Success() {
+        // Given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3, 1000);
+
+        // When
+        String first = generator.nextOrderNumber();
+        String second = generator.nextOrderNumber();
+
+        // Then
+        assertEquals(19, first.length());
+        assertTrue(first.compareTo(second) < 0);
+    }
+}
@@ -0,0 +1,44 @@
+package com.shop.shop.infrastructure.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadsTest {
+
+    private static final boolean VIRTUAL_THREADS_AVAILABLE = Runtime.version().feature() >= 21;
+
+    @Test
+    @DisplayName("newPerTaskExecutor - 런타임이 지원할 때만 가상 스레드 executor 반환 (Success)")
+    void newPerTaskExecutor_DependsOnRuntime_Success() throws Exception {
+        // When
+        Optional<ExecutorService> executor = VirtualThreads.newPerTaskExecutor();
+
+        // Then
+        assertEquals(VIRTUAL_THREADS_AVAILABLE, executor.isPresent());
+        if (executor.isPresent()) {
+            AtomicReference<String> threadInfo = new AtomicReference<>();
+            executor.get().submit(() -> threadInfo.set(Thread.currentThread().toString())).get(5, TimeUnit.SECONDS);
+            executor.get().shutdown();
+            assertTrue(threadInfo.get().startsWith("VirtualThread"));
+        }
+    }
+
+    @Test
+    @DisplayName("factory - 지정한 prefix 로 이름 붙인 스레드 생성 (Success)")
+    void factory_NamedThreads_Success() {
+        // When
+        Optional<ThreadFactory> factory = VirtualThreads.factory("test-vt-");
+
+        // Then
+        assertEquals(VIRTUAL_THREADS_AVAILABLE, factory.isPresent());
+        factory.ifPresent(threadFactory -> assertEquals("test-vt-0", threadFactory.newThread(() -> { }).getName()));
+    }
+}